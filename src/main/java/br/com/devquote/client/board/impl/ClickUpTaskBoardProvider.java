@@ -8,6 +8,7 @@ import br.com.devquote.helper.ClickUpParameterHelper;
 import br.com.devquote.helper.TaskBoardParameterHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -15,6 +16,8 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Component
 @RequiredArgsConstructor
@@ -24,6 +27,8 @@ public class ClickUpTaskBoardProvider implements TaskBoardProvider {
     private final ClickUpClient clickUpClient;
     private final ClickUpParameterHelper clickUpParameterHelper;
     private final TaskBoardParameterHelper config;
+    @Qualifier("clickUpTaskExecutor")
+    private final Executor clickUpTaskExecutor;
 
     @Override
     public String getProviderName() {
@@ -67,27 +72,12 @@ public class ClickUpTaskBoardProvider implements TaskBoardProvider {
 
         // Os 3 modos são uma partição por Desenvolvedor × Responsável, então preciso dos DOIS
         // conjuntos pra calcular interseção/diferença. Mapas keyed by id do ClickUp.
-        long tDev0 = System.currentTimeMillis();
-        Map<String, Map<String, Object>> devTasks = new LinkedHashMap<>();
-        for (Map<String, Object> t : clickUpClient.getListTasksFiltered(
-                listId, null, config.getClickUpDeveloperFieldId(), config.getClickUpDeveloperOptionId())) {
-            Object id = t.get("id");
-            if (id != null) devTasks.put(id.toString(), t);
-        }
-        log.info("[priority-board] Dev field trouxe {} tarefa(s) em {}ms", devTasks.size(), System.currentTimeMillis() - tDev0);
-
-        Map<String, Map<String, Object>> assigneeTasks = new LinkedHashMap<>();
-        String userId = resolveAssigneeUserId();
-        if (userId != null) {
-            long tAs0 = System.currentTimeMillis();
-            for (Map<String, Object> t : clickUpClient.getListTasksByAssignee(listId, null, userId)) {
-                Object id = t.get("id");
-                if (id != null) assigneeTasks.put(id.toString(), t);
-            }
-            log.info("[priority-board] Assignee userId={} trouxe {} tarefa(s) em {}ms", userId, assigneeTasks.size(), System.currentTimeMillis() - tAs0);
-        } else {
-            log.info("[priority-board] sem userId de Responsável disponível — conjunto assignee vazio");
-        }
+        // As duas consultas são independentes: a de Responsável roda no pool compartilhado do ClickUp,
+        // em paralelo com a de Desenvolvedor.
+        CompletableFuture<Map<String, Map<String, Object>>> assigneeFuture =
+                CompletableFuture.supplyAsync(() -> fetchAssigneeTasks(listId), clickUpTaskExecutor);
+        Map<String, Map<String, Object>> devTasks = fetchDeveloperTasks(listId);
+        Map<String, Map<String, Object>> assigneeTasks = assigneeFuture.join();
 
         // Combina conforme o modo. Preserva a ordem de inserção da fonte (dev primeiro).
         Map<String, Map<String, Object>> selected = new LinkedHashMap<>();
@@ -125,6 +115,34 @@ public class ClickUpTaskBoardProvider implements TaskBoardProvider {
         return result;
     }
 
+    private Map<String, Map<String, Object>> fetchDeveloperTasks(String listId) {
+        long tDev0 = System.currentTimeMillis();
+        Map<String, Map<String, Object>> devTasks = new LinkedHashMap<>();
+        for (Map<String, Object> t : clickUpClient.getListTasksFiltered(
+                listId, null, config.getClickUpDeveloperFieldId(), config.getClickUpDeveloperOptionId())) {
+            Object id = t.get("id");
+            if (id != null) devTasks.put(id.toString(), t);
+        }
+        log.info("[priority-board] Dev field trouxe {} tarefa(s) em {}ms", devTasks.size(), System.currentTimeMillis() - tDev0);
+        return devTasks;
+    }
+
+    private Map<String, Map<String, Object>> fetchAssigneeTasks(String listId) {
+        Map<String, Map<String, Object>> assigneeTasks = new LinkedHashMap<>();
+        String userId = resolveAssigneeUserId();
+        if (userId != null) {
+            long tAs0 = System.currentTimeMillis();
+            for (Map<String, Object> t : clickUpClient.getListTasksByAssignee(listId, null, userId)) {
+                Object id = t.get("id");
+                if (id != null) assigneeTasks.put(id.toString(), t);
+            }
+            log.info("[priority-board] Assignee userId={} trouxe {} tarefa(s) em {}ms", userId, assigneeTasks.size(), System.currentTimeMillis() - tAs0);
+        } else {
+            log.info("[priority-board] sem userId de Responsável disponível — conjunto assignee vazio");
+        }
+        return assigneeTasks;
+    }
+
     /**
      * Resolve o userId do Responsável: override em CLICKUP_BOARD_ASSIGNEE_USER_ID;
      * fallback automático no dono do token (via /api/v2/user). Null se indisponível.
@@ -1,9 +1,11 @@
 package br.com.devquote.client.clickup.impl;
 
 import br.com.devquote.client.clickup.ClickUpClient;
+import br.com.devquote.configuration.AsyncConfiguration;
 import br.com.devquote.helper.ClickUpParameterHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -22,24 +24,30 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ClickUpClientImpl implements ClickUpClient {
 
-    private static final String CLICKUP_API_BASE = "https://api.clickup.com/api/v2";
+    private static final int MAX_TASK_PAGES = 50;
+    private static final int TASK_PAGE_SIZE = 100;
 
     private final RestTemplate clickUpRestTemplate;
     private final ClickUpParameterHelper parameterHelper;
+    @Qualifier("clickUpTaskExecutor")
+    private final Executor clickUpTaskExecutor;
 
     // Cache do current user — chaveado pelo token (se o token mudar, descobre de novo).
     private final Map<String, Map<String, Object>> currentUserCache = new ConcurrentHashMap<>();
 
     @Override
     public boolean updateTaskStatus(String taskId, String status) {
-        String url = String.format("%s/task/%s", CLICKUP_API_BASE, taskId);
+        String url = String.format("%s/task/%s", parameterHelper.getApiBaseUrl(), taskId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", parameterHelper.getClickUpToken());
@@ -87,7 +95,7 @@ public class ClickUpClientImpl implements ClickUpClient {
     @Override
     @SuppressWarnings("unchecked")
     public Map<String, Object> getTask(String taskId) {
-        String url = String.format("%s/task/%s", CLICKUP_API_BASE, taskId);
+        String url = String.format("%s/task/%s", parameterHelper.getApiBaseUrl(), taskId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", parameterHelper.getClickUpToken());
@@ -126,7 +134,7 @@ public class ClickUpClientImpl implements ClickUpClient {
     @Override
     @SuppressWarnings("unchecked")
     public Map<String, Object> getList(String listId) {
-        String url = String.format("%s/list/%s", CLICKUP_API_BASE, listId);
+        String url = String.format("%s/list/%s", parameterHelper.getApiBaseUrl(), listId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", parameterHelper.getClickUpToken());
@@ -179,127 +187,128 @@ public class ClickUpClientImpl implements ClickUpClient {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<Map<String, Object>> getListTasksFiltered(String listId, List<String> statuses, String devFieldId, String devOptionId) {
-        List<Map<String, Object>> all = new ArrayList<>();
         if (listId == null || listId.trim().isEmpty()) {
-            return all;
+            return new ArrayList<>();
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", parameterHelper.getClickUpToken());
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-
         String customFields = null;
         if (devFieldId != null && !devFieldId.trim().isEmpty()
                 && devOptionId != null && !devOptionId.trim().isEmpty()) {
             customFields = "[{\"field_id\":\"" + devFieldId + "\",\"operator\":\"=\",\"value\":\"" + devOptionId + "\"}]";
         }
 
-        for (int page = 0; page < 50; page++) {
-            try {
-                StringBuilder query = new StringBuilder();
-                query.append("page=").append(page)
-                        // include_closed=false: a API NÃO retorna tarefas "closed"
-                        // (geralmente status COMPLETE/CONCLUÍDO). Isso evita trazer
-                        // milhares de tarefas históricas que iriam ser filtradas
-                        // depois pelo CLICKUP_HIDDEN_STATUSES — economia enorme de
-                        // tempo de resposta.
-                        .append("&include_closed=false")
-                        // subtasks=true: a regra do board é "vem se for Desenvolvedor
-                        // OU Responsável da task". Se filtrar subtasks fora, uma task
-                        // que casa com o filtro mas mora debaixo de uma pai some do
-                        // board. A API do ClickUp continua aplicando os filtros
-                        // (custom_fields/assignees) também nas subtasks — então só
-                        // vem o que de fato casa.
-                        .append("&subtasks=true");
-                if (statuses != null) {
-                    for (String s : statuses) {
-                        query.append("&statuses%5B%5D=").append(UriUtils.encodeQueryParam(s, StandardCharsets.UTF_8));
-                    }
-                }
-                if (customFields != null) {
-                    query.append("&custom_fields=").append(UriUtils.encodeQueryParam(customFields, StandardCharsets.UTF_8));
-                }
-
-                URI uri = URI.create(CLICKUP_API_BASE + "/list/" + listId + "/task?" + query);
-
-                ResponseEntity<Map> response = clickUpRestTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
-                Map<String, Object> body = response.getBody();
-                if (body == null) {
-                    break;
-                }
-                List<Map<String, Object>> tasks = (List<Map<String, Object>>) body.get("tasks");
-                if (tasks == null || tasks.isEmpty()) {
-                    break;
-                }
-                all.addAll(tasks);
-
-                Object lastPage = body.get("last_page");
-                if (Boolean.TRUE.equals(lastPage) || tasks.size() < 100) {
-                    break;
-                }
-            } catch (Exception e) {
-                log.error("Erro ao buscar tarefas da list {} (page {}): {}", listId, page, e.getMessage());
-                break;
-            }
+        StringBuilder query = new StringBuilder()
+                // include_closed=false: a API NÃO retorna tarefas "closed"
+                // (geralmente status COMPLETE/CONCLUÍDO). Isso evita trazer
+                // milhares de tarefas históricas que iriam ser filtradas
+                // depois pelo CLICKUP_HIDDEN_STATUSES — economia enorme de
+                // tempo de resposta.
+                .append("&include_closed=false")
+                // subtasks=true: a regra do board é "vem se for Desenvolvedor
+                // OU Responsável da task". Se filtrar subtasks fora, uma task
+                // que casa com o filtro mas mora debaixo de uma pai some do
+                // board. A API do ClickUp continua aplicando os filtros
+                // (custom_fields/assignees) também nas subtasks — então só
+                // vem o que de fato casa.
+                .append("&subtasks=true");
+        appendStatuses(query, statuses);
+        if (customFields != null) {
+            query.append("&custom_fields=").append(UriUtils.encodeQueryParam(customFields, StandardCharsets.UTF_8));
         }
 
-        return all;
+        return fetchTaskPages(listId, query.toString(), "tarefas da list " + listId);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<Map<String, Object>> getListTasksByAssignee(String listId, List<String> statuses, String assigneeUserId) {
-        List<Map<String, Object>> all = new ArrayList<>();
         if (listId == null || listId.trim().isEmpty()
                 || assigneeUserId == null || assigneeUserId.trim().isEmpty()) {
-            return all;
+            return new ArrayList<>();
         }
 
+        StringBuilder query = new StringBuilder()
+                .append("&include_closed=true")
+                .append("&subtasks=true")
+                .append("&assignees%5B%5D=").append(UriUtils.encodeQueryParam(assigneeUserId, StandardCharsets.UTF_8));
+        appendStatuses(query, statuses);
+
+        return fetchTaskPages(listId, query.toString(), "tarefas por assignee na list " + listId);
+    }
+
+    private void appendStatuses(StringBuilder query, List<String> statuses) {
+        if (statuses != null) {
+            for (String s : statuses) {
+                query.append("&statuses%5B%5D=").append(UriUtils.encodeQueryParam(s, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Pagina /list/{id}/task: a página 0 sozinha (a maioria das consultas cabe nela) e as seguintes
+     * em ondas paralelas de até integrations.clickup.max-concurrent-requests páginas no pool compartilhado
+     * do ClickUp. Mantém a ordem das páginas e descarta o que vier depois da última; a onda final pode
+     * buscar páginas vazias a mais.
+     */
+    private List<Map<String, Object>> fetchTaskPages(String listId, String query, String description) {
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", parameterHelper.getClickUpToken());
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        for (int page = 0; page < 50; page++) {
-            try {
-                StringBuilder query = new StringBuilder();
-                query.append("page=").append(page)
-                        .append("&include_closed=true")
-                        .append("&subtasks=true")
-                        .append("&assignees%5B%5D=").append(UriUtils.encodeQueryParam(assigneeUserId, StandardCharsets.UTF_8));
-                if (statuses != null) {
-                    for (String s : statuses) {
-                        query.append("&statuses%5B%5D=").append(UriUtils.encodeQueryParam(s, StandardCharsets.UTF_8));
-                    }
-                }
-
-                URI uri = URI.create(CLICKUP_API_BASE + "/list/" + listId + "/task?" + query);
-
-                ResponseEntity<Map> response = clickUpRestTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
-                Map<String, Object> body = response.getBody();
-                if (body == null) {
-                    break;
-                }
-                List<Map<String, Object>> tasks = (List<Map<String, Object>>) body.get("tasks");
-                if (tasks == null || tasks.isEmpty()) {
-                    break;
-                }
-                all.addAll(tasks);
+        List<Map<String, Object>> all = new ArrayList<>();
+        TaskPage first = fetchTaskPage(listId, query, 0, entity, description);
+        all.addAll(first.tasks());
+        if (first.last()) {
+            return all;
+        }
 
-                Object lastPage = body.get("last_page");
-                if (Boolean.TRUE.equals(lastPage) || tasks.size() < 100) {
+        // Já numa thread do pool do ClickUp (ex.: consulta de Responsável do quadro): busca uma página por vez
+        // aqui mesmo, em vez de esperar por tarefas enfileiradas no mesmo pool limitado.
+        boolean inClickUpPool = Thread.currentThread().getName().startsWith(AsyncConfiguration.CLICKUP_THREAD_PREFIX);
+        int parallelism = inClickUpPool ? 1 : parameterHelper.getMaxConcurrentRequests();
+        boolean last = false;
+        for (int from = 1; !last && from < MAX_TASK_PAGES; from += parallelism) {
+            List<CompletableFuture<TaskPage>> wave = IntStream.range(from, Math.min(from + parallelism, MAX_TASK_PAGES))
+                    .mapToObj(page -> inClickUpPool
+                            ? CompletableFuture.completedFuture(fetchTaskPage(listId, query, page, entity, description))
+                            : CompletableFuture.supplyAsync(
+                                    () -> fetchTaskPage(listId, query, page, entity, description), clickUpTaskExecutor))
+                    .toList();
+            for (CompletableFuture<TaskPage> future : wave) {
+                TaskPage page = future.join();
+                all.addAll(page.tasks());
+                if (page.last()) {
+                    last = true;
                     break;
                 }
-            } catch (Exception e) {
-                log.error("Erro ao buscar tarefas por assignee na list {} (page {}): {}", listId, page, e.getMessage());
-                break;
             }
         }
-
         return all;
     }
 
+    @SuppressWarnings("unchecked")
+    private TaskPage fetchTaskPage(String listId, String query, int page, HttpEntity<Void> entity, String description) {
+        try {
+            URI uri = URI.create(parameterHelper.getApiBaseUrl() + "/list/" + listId + "/task?page=" + page + query);
+
+            ResponseEntity<Map> response = clickUpRestTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
+            Map<String, Object> body = response.getBody();
+            if (body == null) {
+                return new TaskPage(List.of(), true);
+            }
+            List<Map<String, Object>> tasks = (List<Map<String, Object>>) body.get("tasks");
+            if (tasks == null || tasks.isEmpty()) {
+                return new TaskPage(List.of(), true);
+            }
+
+            Object lastPage = body.get("last_page");
+            return new TaskPage(tasks, Boolean.TRUE.equals(lastPage) || tasks.size() < TASK_PAGE_SIZE);
+        } catch (Exception e) {
+            log.error("Erro ao buscar {} (page {}): {}", description, page, e.getMessage());
+            return new TaskPage(List.of(), true);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Map<String, Object> getCurrentUser() {
@@ -319,7 +328,7 @@ public class ClickUpClientImpl implements ClickUpClient {
             headers.set("Authorization", token);
             HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-            URI uri = URI.create(CLICKUP_API_BASE + "/user");
+            URI uri = URI.create(parameterHelper.getApiBaseUrl() + "/user");
             ResponseEntity<Map> response = clickUpRestTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
             Map<String, Object> body = response.getBody();
             if (body == null) return null;
@@ -341,7 +350,7 @@ public class ClickUpClientImpl implements ClickUpClient {
         if (taskId == null || taskId.isBlank() || fieldId == null || fieldId.isBlank()) {
             return false;
         }
-        String url = String.format("%s/task/%s/field/%s", CLICKUP_API_BASE, taskId, fieldId);
+        String url = String.format("%s/task/%s/field/%s", parameterHelper.getApiBaseUrl(), taskId, fieldId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", parameterHelper.getClickUpToken());
@@ -378,7 +387,7 @@ public class ClickUpClientImpl implements ClickUpClient {
         if (taskId == null || taskId.isBlank() || commentBlocks == null || commentBlocks.isEmpty()) {
             return null;
         }
-        String url = String.format("%s/task/%s/comment", CLICKUP_API_BASE, taskId);
+        String url = String.format("%s/task/%s/comment", parameterHelper.getApiBaseUrl(), taskId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", parameterHelper.getClickUpToken());
@@ -422,4 +431,7 @@ public class ClickUpClientImpl implements ClickUpClient {
     public String getProviderName() {
         return "ClickUp";
     }
+
+    private record TaskPage(List<Map<String, Object>> tasks, boolean last) {
+    }
 }
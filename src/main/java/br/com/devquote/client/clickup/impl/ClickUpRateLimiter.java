@@ -0,0 +1,131 @@
+package br.com.devquote.client.clickup.impl;
+
+import br.com.devquote.client.http.HttpAttemptListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controle de cota da API do ClickUp (limite por token por minuto) aplicado a cada tentativa do
+ * clickUpRestTemplate. Lê X-RateLimit-Remaining / X-RateLimit-Reset: abaixo do limiar espalha as
+ * requisições até o reset; com 429 informa ao retry do cliente HTTP que deve aguardar o reset.
+ * Contadores em devquote.clickup.requests e devquote.clickup.throttled.
+ */
+@Slf4j
+@Component
+public class ClickUpRateLimiter implements HttpAttemptListener {
+
+    private static final long PACING_THRESHOLD = 10;
+    private static final long MAX_WAIT_MS = 2 * 60 * 1000L;
+    private static final long DEFAULT_RETRY_AFTER_MS = 60 * 1000L;
+
+    private final Counter requestCounter;
+    private final Counter throttledCounter;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    private long remaining = -1;
+    private long resetEpochMillis;
+    private long nextRequestAt;
+
+    public ClickUpRateLimiter(MeterRegistry meterRegistry) {
+        this.requestCounter = Counter.builder("devquote.clickup.requests").register(meterRegistry);
+        this.throttledCounter = Counter.builder("devquote.clickup.throttled").register(meterRegistry);
+    }
+
+    @Override
+    public void beforeAttempt(HttpRequest request) throws IOException {
+        sleep(reserve());
+        requests.incrementAndGet();
+        requestCounter.increment();
+    }
+
+    @Override
+    public void afterAttempt(HttpRequest request, ClientHttpResponse response) throws IOException {
+        update(response.getHeaders());
+        if (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            throttled.incrementAndGet();
+            throttledCounter.increment();
+            log.warn("ClickUp retornou 429 para {} {}", request.getMethod(), request.getURI());
+        }
+    }
+
+    @Override
+    public long throttledRetryDelay() {
+        return Math.min(retryAfter(), MAX_WAIT_MS);
+    }
+
+    /** Total de chamadas enviadas ao ClickUp desde a subida. */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /** Total de respostas 429 recebidas desde a subida. */
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    private synchronized void update(HttpHeaders headers) {
+        String remainingHeader = headers.getFirst("X-RateLimit-Remaining");
+        String resetHeader = headers.getFirst("X-RateLimit-Reset");
+        if (remainingHeader == null || resetHeader == null) {
+            return;
+        }
+        try {
+            remaining = Long.parseLong(remainingHeader);
+            resetEpochMillis = Long.parseLong(resetHeader) * 1000;
+        } catch (NumberFormatException e) {
+            log.warn("Headers de rate limit do ClickUp invalidos: remaining={}, reset={}", remainingHeader, resetHeader);
+        }
+    }
+
+    private synchronized long retryAfter() {
+        long untilReset = resetEpochMillis - System.currentTimeMillis();
+        return untilReset > 0 ? untilReset + 1000 : DEFAULT_RETRY_AFTER_MS;
+    }
+
+    private synchronized long reserve() {
+        long now = System.currentTimeMillis();
+        if (remaining < 0 || now >= resetEpochMillis) {
+            return 0;
+        }
+
+        long untilReset = resetEpochMillis - now;
+        if (remaining == 0) {
+            return Math.min(untilReset + 1000, MAX_WAIT_MS);
+        }
+        if (remaining >= PACING_THRESHOLD) {
+            remaining--;
+            return 0;
+        }
+
+        // Espalha as requisições restantes até o reset; a reserva serializa as threads concorrentes
+        long interval = untilReset / remaining;
+        long start = Math.max(now, nextRequestAt);
+        nextRequestAt = start + interval;
+        remaining--;
+        return Math.min(start - now, MAX_WAIT_MS);
+    }
+
+    private void sleep(long waitMs) throws IOException {
+        if (waitMs <= 0) {
+            return;
+        }
+        log.debug("Aguardando {} ms pela cota da API do ClickUp", waitMs);
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Chamada ao ClickUp interrompida");
+        }
+    }
+}
@@ -4,6 +4,15 @@ public interface GitProviderClient {
 
     boolean checkIfMerged(String pullRequestUrl);
 
+    /**
+     * Consulta condicional: com o ETag da ultima consulta, PR inalterado volta como notModified.
+     */
+    default PullRequestStatus checkStatus(String pullRequestUrl, String eTag) {
+        return PullRequestStatus.builder()
+                .merged(checkIfMerged(pullRequestUrl))
+                .build();
+    }
+
     boolean supports(String pullRequestUrl);
 
     String getProviderName();
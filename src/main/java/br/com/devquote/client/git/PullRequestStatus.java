@@ -0,0 +1,16 @@
+package br.com.devquote.client.git;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Resultado de uma consulta (condicional) de PR. Com notModified, merged nao vem preenchido:
+ * o PR nao mudou desde o ETag informado.
+ */
+@Getter
+@Builder
+public class PullRequestStatus {
+
+    private final boolean merged;
+    private final boolean notModified;
+    private final String eTag;
+}
@@ -1,6 +1,7 @@
 package br.com.devquote.client.git.impl;
 
 import br.com.devquote.client.git.GitProviderClient;
+import br.com.devquote.client.git.PullRequestStatus;
 import br.com.devquote.dto.response.GitHubPullRequestResponse;
 import br.com.devquote.error.GitProviderException;
 import br.com.devquote.helper.GitIntegrationParameterHelper;
@@ -9,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -23,13 +26,13 @@ import java.util.regex.Pattern;
 @Slf4j
 public class GitHubProviderClient implements GitProviderClient {
 
-    private static final String GITHUB_API_BASE = "https://api.github.com";
     private static final Pattern GITHUB_PR_PATTERN = Pattern.compile(
             "https?://github\\.com/([^/]+)/([^/]+)/pull/(\\d+)"
     );
 
     private final RestTemplate gitHubRestTemplate;
     private final GitIntegrationParameterHelper parameterHelper;
+    private final GitHubRateLimiter rateLimiter;
 
     @Override
     public boolean supports(String pullRequestUrl) {
@@ -38,6 +41,11 @@ public class GitHubProviderClient implements GitProviderClient {
 
     @Override
     public boolean checkIfMerged(String pullRequestUrl) {
+        return checkStatus(pullRequestUrl, null).isMerged();
+    }
+
+    @Override
+    public PullRequestStatus checkStatus(String pullRequestUrl, String eTag) {
         Matcher matcher = GITHUB_PR_PATTERN.matcher(pullRequestUrl.trim());
         if (!matcher.find()) {
             throw new GitProviderException("URL de PR invalida: " + pullRequestUrl, "INVALID_PR_URL");
@@ -49,48 +57,60 @@ public class GitHubProviderClient implements GitProviderClient {
 
         log.debug("Consultando PR: {}/{} #{}", owner, repo, prNumber);
 
-        String url = String.format("%s/repos/%s/%s/pulls/%d", GITHUB_API_BASE, owner, repo, prNumber);
+        String url = String.format("%s/repos/%s/%s/pulls/%d", parameterHelper.getApiBaseUrl(), owner, repo, prNumber);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "Bearer " + parameterHelper.getGitHubToken());
         headers.set("Accept", "application/vnd.github+json");
         headers.set("X-GitHub-Api-Version", "2022-11-28");
+        if (eTag != null && !eTag.isBlank()) {
+            // 304 em requisicao condicional autenticada nao conta na cota do GitHub
+            headers.setIfNoneMatch(eTag);
+        }
 
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
+        rateLimiter.acquire();
+
         try {
             ResponseEntity<GitHubPullRequestResponse> response = gitHubRestTemplate.exchange(
                     url, HttpMethod.GET, entity, GitHubPullRequestResponse.class
             );
+            rateLimiter.update(response.getHeaders());
+
+            // O error handler do gitHubRestTemplate so registra o erro, entao o status e tratado aqui
+            HttpStatusCode status = response.getStatusCode();
+            if (status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                log.debug("PR {}/{} #{} - nao modificado", owner, repo, prNumber);
+                return PullRequestStatus.builder()
+                        .notModified(true)
+                        .eTag(eTag)
+                        .build();
+            }
+            if (status.isError()) {
+                throw toGitProviderException(pullRequestUrl, status, response.getHeaders());
+            }
 
             GitHubPullRequestResponse prResponse = response.getBody();
             if (prResponse == null) {
                 log.warn("Resposta vazia da API GitHub para PR: {}", pullRequestUrl);
-                return false;
+                return PullRequestStatus.builder().build();
             }
 
             log.debug("PR {}/{} #{} - merged: {}", owner, repo, prNumber, prResponse.getMerged());
-            return Boolean.TRUE.equals(prResponse.getMerged());
-
-        } catch (HttpClientErrorException.NotFound e) {
-            log.warn("PR nao encontrado: {}", pullRequestUrl);
-            throw new GitProviderException("PR nao encontrado: " + pullRequestUrl, "GITHUB_PR_NOT_FOUND");
+            return PullRequestStatus.builder()
+                    .merged(Boolean.TRUE.equals(prResponse.getMerged()))
+                    .eTag(response.getHeaders().getETag())
+                    .build();
 
-        } catch (HttpClientErrorException.Forbidden e) {
-            String rateLimitRemaining = e.getResponseHeaders() != null
-                    ? e.getResponseHeaders().getFirst("X-RateLimit-Remaining")
-                    : null;
-            if ("0".equals(rateLimitRemaining)) {
-                log.error("Rate limit excedido na API do GitHub");
-                throw new GitProviderException("Rate limit excedido", "GITHUB_RATE_LIMIT_EXCEEDED");
-            }
-            log.error("Acesso negado ao GitHub: {}", e.getMessage());
-            throw new GitProviderException("Acesso negado: " + e.getMessage(), "GITHUB_FORBIDDEN");
+        } catch (GitProviderException e) {
+            throw e;
 
         } catch (HttpClientErrorException | HttpServerErrorException e) {
+            rateLimiter.update(e.getResponseHeaders());
             log.error("Erro HTTP ao consultar GitHub - Status: {} - Body: {}",
                     e.getStatusCode(), e.getResponseBodyAsString());
-            throw new GitProviderException("Erro ao consultar GitHub: " + e.getStatusCode(), "GITHUB_HTTP_ERROR");
+            throw toGitProviderException(pullRequestUrl, e.getStatusCode(), e.getResponseHeaders());
 
         } catch (Exception e) {
             log.error("Erro inesperado ao consultar GitHub: {}", e.getMessage(), e);
@@ -98,6 +118,23 @@ public class GitHubProviderClient implements GitProviderClient {
         }
     }
 
+    private GitProviderException toGitProviderException(String pullRequestUrl, HttpStatusCode status, HttpHeaders headers) {
+        if (status.value() == HttpStatus.NOT_FOUND.value()) {
+            log.warn("PR nao encontrado: {}", pullRequestUrl);
+            return new GitProviderException("PR nao encontrado: " + pullRequestUrl, "GITHUB_PR_NOT_FOUND");
+        }
+        if (status.value() == HttpStatus.FORBIDDEN.value() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            String rateLimitRemaining = headers != null ? headers.getFirst("X-RateLimit-Remaining") : null;
+            if ("0".equals(rateLimitRemaining) || status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                log.error("Rate limit excedido na API do GitHub");
+                return new GitProviderException("Rate limit excedido", "GITHUB_RATE_LIMIT_EXCEEDED");
+            }
+            log.error("Acesso negado ao GitHub: {}", status);
+            return new GitProviderException("Acesso negado: " + status, "GITHUB_FORBIDDEN");
+        }
+        return new GitProviderException("Erro ao consultar GitHub: " + status, "GITHUB_HTTP_ERROR");
+    }
+
     @Override
     public String getProviderName() {
         return "GitHub";
@@ -0,0 +1,86 @@
+package br.com.devquote.client.git.impl;
+
+import br.com.devquote.error.GitProviderException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Controle de cota da API do GitHub a partir dos headers X-RateLimit-Remaining / X-RateLimit-Reset.
+ * Com cota folgada nao ha espera; abaixo do limiar as requisicoes sao espalhadas ate o reset,
+ * e com cota zerada aguarda o reset (ate MAX_WAIT_MS, acima disso falha com GITHUB_RATE_LIMIT_EXCEEDED).
+ */
+@Slf4j
+@Component
+public class GitHubRateLimiter {
+
+    private static final long PACING_THRESHOLD = 100;
+    private static final long MAX_WAIT_MS = 5 * 60 * 1000L;
+
+    private long remaining = -1;
+    private long resetEpochMillis;
+    private long nextRequestAt;
+
+    /**
+     * Bloqueia a thread o necessario para respeitar a cota restante, reservando o proximo horario de envio.
+     */
+    public void acquire() {
+        long waitMs = reserve();
+        if (waitMs <= 0) {
+            return;
+        }
+        log.debug("Aguardando {} ms pela cota da API do GitHub", waitMs);
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitProviderException("Consulta ao GitHub interrompida", "GITHUB_INTERRUPTED");
+        }
+    }
+
+    public synchronized void update(HttpHeaders headers) {
+        if (headers == null) {
+            return;
+        }
+        String remainingHeader = headers.getFirst("X-RateLimit-Remaining");
+        String resetHeader = headers.getFirst("X-RateLimit-Reset");
+        if (remainingHeader == null || resetHeader == null) {
+            return;
+        }
+        try {
+            remaining = Long.parseLong(remainingHeader);
+            resetEpochMillis = Long.parseLong(resetHeader) * 1000;
+        } catch (NumberFormatException e) {
+            log.warn("Headers de rate limit invalidos: remaining={}, reset={}", remainingHeader, resetHeader);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.currentTimeMillis();
+        if (remaining < 0 || now >= resetEpochMillis) {
+            return 0;
+        }
+
+        long untilReset = resetEpochMillis - now;
+        if (remaining == 0) {
+            if (untilReset > MAX_WAIT_MS) {
+                throw new GitProviderException("Rate limit excedido", "GITHUB_RATE_LIMIT_EXCEEDED");
+            }
+            return untilReset + 1000;
+        }
+        if (remaining >= PACING_THRESHOLD) {
+            return 0;
+        }
+
+        // Espalha as requisicoes restantes ate o reset; a reserva serializa as threads concorrentes
+        long interval = untilReset / remaining;
+        long start = Math.max(now, nextRequestAt);
+        nextRequestAt = start + interval;
+        remaining--;
+        long waitMs = start - now;
+        if (waitMs > MAX_WAIT_MS) {
+            throw new GitProviderException("Rate limit excedido", "GITHUB_RATE_LIMIT_EXCEEDED");
+        }
+        return waitMs;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.devquote.client.http;
+
+import java.io.IOException;
+
+/**
+ * Chamada recusada sem ir à rede porque o circuit breaker da integração está aberto.
+ * Estende IOException para chegar aos clientes como ResourceAccessException, igual a uma falha de conexão.
+ */
+public class CircuitOpenException extends IOException {
+
+    public CircuitOpenException(String integration) {
+        super("Circuit breaker aberto para a integracao " + integration);
+    }
+}
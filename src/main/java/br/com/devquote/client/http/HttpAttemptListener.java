@@ -0,0 +1,32 @@
+package br.com.devquote.client.http;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Gancho por tentativa do {@link ResilientHttpInterceptor}, usado por controles de cota específicos
+ * de cada integração (ex.: X-RateLimit do ClickUp). É chamado também nas repetições.
+ */
+public interface HttpAttemptListener {
+
+    /**
+     * Antes de cada tentativa; pode bloquear a thread para respeitar a cota da API.
+     */
+    default void beforeAttempt(HttpRequest request) throws IOException {
+    }
+
+    /**
+     * Com a resposta de cada tentativa, antes da decisão de repetir.
+     */
+    default void afterAttempt(HttpRequest request, ClientHttpResponse response) throws IOException {
+    }
+
+    /**
+     * Espera em ms antes de repetir um 429; negativo usa Retry-After ou o backoff padrão.
+     */
+    default long throttledRetryDelay() {
+        return -1;
+    }
+}
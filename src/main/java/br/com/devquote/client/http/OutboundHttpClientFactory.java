@@ -0,0 +1,58 @@
+package br.com.devquote.client.http;
+
+import br.com.devquote.configuration.IntegrationsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.List;
+
+/**
+ * RestTemplates das integrações externas (ClickUp, GitHub, WhatsApp) sobre o HttpClient do JDK:
+ * um cliente por integração, com pool de conexões keep-alive por host e HTTP/2 quando o servidor
+ * negocia via ALPN (senão HTTP/1.1). Cadeia de interceptors, de fora para dentro:
+ * gzip → métricas (devquote.http.client) → retry/circuit breaker.
+ * Timeouts e política de retry em integrations.http.*.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClientFactory {
+
+    private final IntegrationsProperties integrationsProperties;
+    private final MeterRegistry meterRegistry;
+
+    public RestTemplate create(String integration) {
+        return create(integration, null);
+    }
+
+    /**
+     * @param listener controle de cota chamado a cada tentativa, ou null
+     */
+    public RestTemplate create(String integration, HttpAttemptListener listener) {
+        IntegrationsProperties.Http properties = integrationsProperties.getHttp();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(List.of(
+                new GzipResponseInterceptor(),
+                new OutboundHttpMetricsInterceptor(integration, meterRegistry),
+                new ResilientHttpInterceptor(integration, properties, listener, meterRegistry)));
+
+        log.info("Cliente HTTP da integracao {} criado (connect: {}, read: {}, retries: {})",
+                integration, properties.getConnectTimeout(), properties.getReadTimeout(), properties.getMaxRetries());
+        return restTemplate;
+    }
+}
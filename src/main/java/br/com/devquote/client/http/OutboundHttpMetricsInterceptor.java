@@ -0,0 +1,74 @@
+package br.com.devquote.client.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Tempo de cada chamada (incluindo repetições) em devquote.http.client{integration, method, endpoint, status}.
+ * Os clientes montam as URLs com os ids já concatenados, então o endpoint é o path com os segmentos
+ * que parecem ids (numéricos ou alfanuméricos com dígitos, ex. id de tarefa do ClickUp) trocados por {id},
+ * mantendo a cardinalidade baixa. Segmentos curtos como "v2" são preservados.
+ */
+public class OutboundHttpMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String TIMER = "devquote.http.client";
+
+    private final String integration;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundHttpMetricsInterceptor(String integration, MeterRegistry meterRegistry) {
+        this.integration = integration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = Integer.toString(response.getStatusCode().value());
+            return response;
+        } catch (CircuitOpenException e) {
+            status = "CIRCUIT_OPEN";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER)
+                    .tag("integration", integration)
+                    .tag("method", request.getMethod().name())
+                    .tag("endpoint", endpoint(request.getURI()))
+                    .tag("status", status)
+                    .register(meterRegistry));
+        }
+    }
+
+    static String endpoint(URI uri) {
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return Arrays.stream(path.split("/", -1))
+                .map(segment -> isId(segment) ? "{id}" : segment)
+                .collect(Collectors.joining("/"));
+    }
+
+    private static boolean isId(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        if (segment.chars().allMatch(Character::isDigit)) {
+            return true;
+        }
+        return segment.length() > 3 && segment.chars().anyMatch(Character::isDigit);
+    }
+}
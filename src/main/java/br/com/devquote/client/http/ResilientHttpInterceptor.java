@@ -0,0 +1,199 @@
+package br.com.devquote.client.http;
+
+import br.com.devquote.configuration.IntegrationsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry com backoff exponencial e circuit breaker por integração.
+ * 429 é repetido para qualquer método (a requisição não foi processada); 5xx e falhas de I/O só para
+ * métodos idempotentes, para não duplicar POSTs (ex.: envio de WhatsApp).
+ * O circuito abre após N falhas consecutivas (5xx ou I/O) e recusa chamadas pelo tempo configurado;
+ * depois libera uma chamada de teste (half-open) que fecha ou reabre o circuito.
+ * Precisa ser o último interceptor da cadeia: só ele repete a execução.
+ */
+@Slf4j
+public class ResilientHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String integration;
+    private final IntegrationsProperties.Http properties;
+    private final HttpAttemptListener listener;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+
+    public ResilientHttpInterceptor(String integration, IntegrationsProperties.Http properties,
+                                    HttpAttemptListener listener, MeterRegistry meterRegistry) {
+        this.integration = integration;
+        this.properties = properties;
+        this.listener = listener != null ? listener : new HttpAttemptListener() { };
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("devquote.http.client.circuit.rejected")
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder("devquote.http.client.circuit.open", this, interceptor -> interceptor.isOpen() ? 1 : 0)
+                .tag("integration", integration)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        acquirePermission();
+        boolean idempotent = IDEMPOTENT_METHODS.contains(request.getMethod());
+
+        for (int attempt = 0; ; attempt++) {
+            listener.beforeAttempt(request);
+
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (InterruptedIOException e) {
+                throw e;
+            } catch (IOException e) {
+                recordFailure();
+                if (!idempotent || attempt >= properties.getMaxRetries() || isOpen()) {
+                    throw e;
+                }
+                log.warn("Falha de I/O em {} {} ({}); tentativa {} de {}",
+                        request.getMethod(), request.getURI(), e.getMessage(), attempt + 2, properties.getMaxRetries() + 1);
+                pause("io_error", backoff(attempt));
+                continue;
+            }
+
+            listener.afterAttempt(request, response);
+            int status = response.getStatusCode().value();
+            if (status >= 500) {
+                recordFailure();
+            } else {
+                recordSuccess();
+            }
+
+            long delay;
+            String reason;
+            if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                delay = throttledDelay(response.getHeaders(), attempt);
+                reason = "throttled";
+            } else if (status >= 500 && idempotent) {
+                delay = backoff(attempt);
+                reason = "server_error";
+            } else {
+                return response;
+            }
+
+            if (delay < 0 || attempt >= properties.getMaxRetries() || isOpen()) {
+                return response;
+            }
+            log.warn("{} {} respondeu {}; nova tentativa em {} ms", request.getMethod(), request.getURI(), status, delay);
+            response.close();
+            pause(reason, delay);
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    private synchronized void acquirePermission() throws CircuitOpenException {
+        if (state == State.CLOSED) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now < openUntil) {
+            rejectedCounter.increment();
+            throw new CircuitOpenException(integration);
+        }
+        // Libera uma chamada de teste; se ela não concluir, outra é liberada após o mesmo intervalo
+        state = State.HALF_OPEN;
+        openUntil = now + properties.getCircuitOpenDuration().toMillis();
+        log.info("Circuit breaker da integracao {} em half-open: liberando chamada de teste", integration);
+    }
+
+    private synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            state = State.CLOSED;
+            log.info("Circuit breaker da integracao {} fechado", integration);
+        }
+    }
+
+    private synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= properties.getCircuitFailureThreshold())) {
+            state = State.OPEN;
+            openUntil = System.currentTimeMillis() + properties.getCircuitOpenDuration().toMillis();
+            log.warn("Circuit breaker da integracao {} aberto por {} apos {} falhas consecutivas",
+                    integration, properties.getCircuitOpenDuration(), consecutiveFailures);
+        }
+    }
+
+    /**
+     * Espera antes de repetir um 429: a do listener (cota conhecida da API), senão Retry-After, senão backoff.
+     * Sem listener, esperas acima de max-retry-wait devolvem o 429 para o chamador.
+     */
+    private long throttledDelay(HttpHeaders headers, int attempt) {
+        long delay = listener.throttledRetryDelay();
+        if (delay >= 0) {
+            return delay;
+        }
+        delay = retryAfter(headers);
+        if (delay < 0) {
+            delay = backoff(attempt);
+        }
+        return delay <= properties.getMaxRetryWait().toMillis() ? delay : -1;
+    }
+
+    private long retryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            long date = headers.getFirstDate(HttpHeaders.RETRY_AFTER);
+            return date > 0 ? Math.max(date - System.currentTimeMillis(), 0) : -1;
+        }
+    }
+
+    private long backoff(int attempt) {
+        long base = properties.getRetryBackoff().toMillis() << Math.min(attempt, 10);
+        return Math.min(base + ThreadLocalRandom.current().nextLong(base / 2 + 1), properties.getMaxRetryWait().toMillis());
+    }
+
+    private void pause(String reason, long delayMs) throws IOException {
+        Counter.builder("devquote.http.client.retries")
+                .tag("integration", integration)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Chamada a integracao " + integration + " interrompida");
+        }
+    }
+}
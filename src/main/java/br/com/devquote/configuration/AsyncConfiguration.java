@@ -4,17 +4,23 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfiguration {
 
+    public static final String CLICKUP_THREAD_PREFIX = "ClickUp-";
+
     @Bean(name = "emailTaskExecutor")
     public Executor emailTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
+        // Fila cheia (ex.: tarefas salvas em lote): monta o e-mail na thread chamadora em vez de descartar;
+        // o envio SMTP em si vai para o outbox persistente
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setThreadNamePrefix("Email-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
@@ -34,4 +40,43 @@ public class AsyncConfiguration {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Pool compartilhado das consultas de PR ao provedor Git, com no máximo
+     * integrations.github.max-concurrent-requests requisições simultâneas. Separado do gitSyncTaskExecutor,
+     * cujas tarefas @Async esperam por estas consultas.
+     */
+    @Bean(name = "gitPullRequestCheckExecutor")
+    public Executor gitPullRequestCheckExecutor(IntegrationsProperties integrationsProperties) {
+        Integer max = integrationsProperties.getGithub().getMaxConcurrentRequests();
+        int poolSize = max != null && max > 0 ? max : 1;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("GitPrCheck-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool compartilhado das chamadas HTTP ao ClickUp: no máximo integrations.clickup.max-concurrent-requests
+     * requisições simultâneas somando todas as sincronizações e cargas de quadro em andamento.
+     */
+    @Bean(name = "clickUpTaskExecutor")
+    public Executor clickUpTaskExecutor(IntegrationsProperties integrationsProperties) {
+        Integer max = integrationsProperties.getClickup().getMaxConcurrentRequests();
+        int poolSize = max != null && max > 0 ? max : 1;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(CLICKUP_THREAD_PREFIX);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
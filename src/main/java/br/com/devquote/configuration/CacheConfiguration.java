@@ -12,6 +12,8 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfiguration {
 
+    public static final String AUTH_PRINCIPALS_CACHE = "authPrincipals";
+
     @Bean
     public Caffeine<Object, Object> caffeineConfig() {
         return Caffeine.newBuilder()
@@ -24,12 +26,14 @@ public class CacheConfiguration {
     public CacheManager cacheManager(Caffeine<Object, Object> caffeine) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(caffeine);
-        // Cache do board de prioridades (ClickUp): 10 min para evitar chamadas repetidas;
-        // o botão "Atualizar" força refresh (evict), então o usuário controla a atualização.
-        cacheManager.registerCustomCache("priorityBoard",
+        // O board de prioridades (ClickUp) tem cache próprio com refresh em background: ver PriorityBoardServiceImpl.
+        // Principal autenticado (usuário + perfis) por username, usado pelo AuthTokenFilter.
+        // TTL curto como rede de segurança; alterações de perfil/status fazem evict após o commit (AuthPrincipalCacheEvictor).
+        // Hit/miss expostos pelo actuator em cache.gets{cache="authPrincipals"}.
+        cacheManager.registerCustomCache(AUTH_PRINCIPALS_CACHE,
                 Caffeine.newBuilder()
-                        .maximumSize(50)
-                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .maximumSize(1000)
+                        .expireAfterWrite(5, TimeUnit.MINUTES)
                         .recordStats()
                         .build());
         return cacheManager;
@@ -1,20 +1,16 @@
 package br.com.devquote.configuration;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import br.com.devquote.client.clickup.impl.ClickUpRateLimiter;
+import br.com.devquote.client.http.OutboundHttpClientFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 @Configuration
 public class ClickUpConfig {
 
     @Bean(name = "clickUpRestTemplate")
-    public RestTemplate clickUpRestTemplate(RestTemplateBuilder builder) {
-        return builder
-                .connectTimeout(Duration.ofSeconds(30))
-                .readTimeout(Duration.ofSeconds(30))
-                .build();
+    public RestTemplate clickUpRestTemplate(OutboundHttpClientFactory httpClientFactory, ClickUpRateLimiter clickUpRateLimiter) {
+        return httpClientFactory.create("clickup", clickUpRateLimiter);
     }
 }
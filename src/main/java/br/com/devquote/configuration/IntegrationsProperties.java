@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -12,12 +14,15 @@ import org.springframework.stereotype.Component;
 public class IntegrationsProperties {
     private GitHub github = new GitHub();
     private ClickUp clickup = new ClickUp();
+    private Http http = new Http();
 
     @Getter
     @Setter
     public static class GitHub {
         private Boolean enabled = false;
         private String token;
+        private Integer maxConcurrentRequests = 4;
+        private String apiBaseUrl = "https://api.github.com";
     }
 
     @Getter
@@ -25,5 +30,22 @@ public class IntegrationsProperties {
     public static class ClickUp {
         private Boolean enabled = false;
         private String token;
+        private Integer maxConcurrentRequests = 4;
+        private String apiBaseUrl = "https://api.clickup.com/api/v2";
+    }
+
+    /**
+     * Cliente HTTP compartilhado pelas integrações (ver OutboundHttpClientFactory).
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Integer maxRetries = 2;
+        private Duration retryBackoff = Duration.ofMillis(500);
+        private Duration maxRetryWait = Duration.ofSeconds(10);
+        private Integer circuitFailureThreshold = 5;
+        private Duration circuitOpenDuration = Duration.ofSeconds(30);
     }
 }
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -16,6 +18,7 @@ public class MailProperties {
     private String password;
     private String from;
     private Smtp smtp = new Smtp();
+    private Outbox outbox = new Outbox();
 
     @Getter
     @Setter
@@ -24,4 +27,22 @@ public class MailProperties {
         private Boolean starttls = true;
         private String sslTrust = "smtp.gmail.com";
     }
+
+    /**
+     * Worker do outbox de e-mails (ver EmailOutboxService).
+     */
+    @Getter
+    @Setter
+    public static class Outbox {
+        private Long pollDelayMs = 5000L;
+        private Integer batchSize = 20;
+        private Integer workers = 2;
+        // Ciclos (reserva + envio) por execução do job antes de devolver a thread do scheduler
+        private Integer maxCyclesPerPoll = 10;
+        private Integer maxAttempts = 8;
+        private Duration retryBackoff = Duration.ofMinutes(1);
+        private Duration maxRetryBackoff = Duration.ofHours(1);
+        private Duration claimTimeout = Duration.ofMinutes(10);
+        private Integer retentionDays = 7;
+    }
 }
@@ -0,0 +1,21 @@
+package br.com.devquote.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "report.cache")
+public class ReportCacheProperties {
+    private boolean enabled = true;
+    private String directory = System.getProperty("java.io.tmpdir") + "/devquote-report-cache";
+    private long maxDiskBytes = 256L * 1024 * 1024;
+    // Nomes de módulo/servidor/solicitante não entram na versão: o TTL limita quanto tempo ficam desatualizados.
+    // Também limita a idade do "Gerado em" impresso no PDF servido do cache (hora da geração original)
+    private Duration ttl = Duration.ofHours(12);
+}
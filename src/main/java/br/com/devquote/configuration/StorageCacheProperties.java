@@ -0,0 +1,23 @@
+package br.com.devquote.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.cache")
+public class StorageCacheProperties {
+    private boolean enabled = true;
+    private String directory = System.getProperty("java.io.tmpdir") + "/devquote-blob-cache";
+    private long maxDiskBytes = 512L * 1024 * 1024;
+    private long maxEntryBytes = 10L * 1024 * 1024;
+    private long maxMemoryBytes = 32L * 1024 * 1024;
+    private long maxMemoryEntryBytes = 512L * 1024;
+    // Upload em outra instância só invalida o cache dela: o TTL limita quanto tempo o ETag fica desatualizado aqui
+    private Duration metadataTtl = Duration.ofMinutes(10);
+}
@@ -1,16 +1,24 @@
 package br.com.devquote.configuration;
+import br.com.devquote.service.storage.CachingFileStorageStrategy;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import br.com.devquote.service.storage.S3FileStorageStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import java.io.IOException;
 
 @Configuration
 public class StorageConfiguration {
 
     @Bean
     @Primary
-    public FileStorageStrategy fileStorageStrategy(S3FileStorageStrategy s3FileStorageStrategy) {
-        return s3FileStorageStrategy;
+    public FileStorageStrategy fileStorageStrategy(S3FileStorageStrategy s3FileStorageStrategy,
+                                                   StorageCacheProperties storageCacheProperties,
+                                                   MeterRegistry meterRegistry) throws IOException {
+        if (!storageCacheProperties.isEnabled()) {
+            return s3FileStorageStrategy;
+        }
+        return new CachingFileStorageStrategy(s3FileStorageStrategy, storageCacheProperties, meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -33,6 +33,10 @@ public class SystemParameterConfig {
             props.put("mail.smtp.auth", mailProperties.getSmtp().getAuth());
             props.put("mail.smtp.starttls.enable", mailProperties.getSmtp().getStarttls());
             props.put("mail.smtp.ssl.trust", mailProperties.getSmtp().getSslTrust());
+            // Timeouts para o worker do outbox não ficar preso numa conexão SMTP travada
+            props.put("mail.smtp.connectiontimeout", "10000");
+            props.put("mail.smtp.timeout", "30000");
+            props.put("mail.smtp.writetimeout", "60000");
             props.put("mail.debug", "false");
 
             log.info("JavaMailSender configurado com sucesso: host={}, port={}, username={}",
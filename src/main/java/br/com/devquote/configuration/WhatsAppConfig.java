@@ -1,10 +1,10 @@
 package br.com.devquote.configuration;
 
+import br.com.devquote.client.http.OutboundHttpClientFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
@@ -15,14 +15,8 @@ import java.io.IOException;
 public class WhatsAppConfig {
 
     @Bean
-    public RestTemplate whatsAppRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(30000);
-        factory.setReadTimeout(30000);
-
-        restTemplate.setRequestFactory(factory);
+    public RestTemplate whatsAppRestTemplate(OutboundHttpClientFactory httpClientFactory) {
+        RestTemplate restTemplate = httpClientFactory.create("whatsapp");
 
         restTemplate.setErrorHandler(new ResponseErrorHandler() {
             @Override
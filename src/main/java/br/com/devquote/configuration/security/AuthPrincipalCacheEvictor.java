@@ -0,0 +1,48 @@
+package br.com.devquote.configuration.security;
+
+import br.com.devquote.configuration.CacheConfiguration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Invalida o cache de principals (authPrincipals) só depois do commit da transação corrente (ou já, fora
+ * de transação). Evict antes do commit deixaria uma requisição concorrente recarregar o usuário ainda com
+ * os perfis/status antigos e guardá-lo de novo no cache até o TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthPrincipalCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evictAfterCommit(String username) {
+        afterCommit(cache -> cache.evict(username));
+    }
+
+    public void evictAllAfterCommit() {
+        afterCommit(Cache::clear);
+    }
+
+    private void afterCommit(Consumer<Cache> action) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.AUTH_PRINCIPALS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(cache);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.accept(cache);
+            }
+        });
+    }
+}
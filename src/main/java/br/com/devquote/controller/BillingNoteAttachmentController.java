@@ -3,10 +3,12 @@ package br.com.devquote.controller;
 import br.com.devquote.controller.doc.BillingNoteAttachmentControllerDoc;
 import br.com.devquote.dto.response.BillingNoteAttachmentResponse;
 import br.com.devquote.service.BillingNoteAttachmentService;
+import br.com.devquote.utils.FileDownloadUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +16,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -23,6 +26,7 @@ import java.util.List;
 public class BillingNoteAttachmentController implements BillingNoteAttachmentControllerDoc {
 
     private final BillingNoteAttachmentService billingNoteAttachmentService;
+    private final FileDownloadUtils fileDownloadUtils;
 
     @PostMapping(value = "/upload/{billingNoteId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
@@ -46,15 +50,20 @@ public class BillingNoteAttachmentController implements BillingNoteAttachmentCon
 
     @GetMapping("/{attachmentId}/download")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long attachmentId) {
-        BillingNoteAttachmentResponse attachment = billingNoteAttachmentService.getAttachmentById(attachmentId);
-        Resource resource = billingNoteAttachmentService.downloadAttachment(attachmentId);
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(attachment.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + attachment.getOriginalFileName() + "\"")
-                .body(resource);
+    public void downloadAttachment(@PathVariable Long attachmentId,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) {
+        try {
+            BillingNoteAttachmentResponse attachment = billingNoteAttachmentService.getAttachmentById(attachmentId);
+            fileDownloadUtils.stream(attachment.getFilePath(), attachment.getContentType(),
+                    ContentDisposition.attachment().filename(attachment.getOriginalFileName(), StandardCharsets.UTF_8).build().toString(),
+                    FileDownloadUtils.PRIVATE_REVALIDATE, request, response);
+        } catch (Exception e) {
+            log.error("Error downloading attachment {}: {}", attachmentId, e.getMessage());
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+            }
+        }
     }
 
     @DeleteMapping("/{attachmentId}")
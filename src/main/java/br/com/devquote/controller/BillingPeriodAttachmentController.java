@@ -3,16 +3,19 @@ package br.com.devquote.controller;
 import br.com.devquote.controller.doc.BillingPeriodAttachmentControllerDoc;
 import br.com.devquote.dto.response.BillingPeriodAttachmentResponse;
 import br.com.devquote.service.BillingPeriodAttachmentService;
+import br.com.devquote.utils.FileDownloadUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -22,6 +25,7 @@ import java.util.List;
 public class BillingPeriodAttachmentController implements BillingPeriodAttachmentControllerDoc {
 
     private final BillingPeriodAttachmentService billingPeriodAttachmentService;
+    private final FileDownloadUtils fileDownloadUtils;
 
     @PostMapping(value = "/upload/{billingPeriodId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
@@ -80,19 +84,19 @@ public class BillingPeriodAttachmentController implements BillingPeriodAttachmen
 
     @GetMapping("/{attachmentId}/download")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long attachmentId) {
+    public void downloadAttachment(@PathVariable Long attachmentId,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) {
         try {
             BillingPeriodAttachmentResponse attachment = billingPeriodAttachmentService.getAttachmentById(attachmentId);
-            Resource resource = billingPeriodAttachmentService.downloadAttachment(attachmentId);
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(attachment.getContentType()))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                           "attachment; filename=\"" + attachment.getOriginalFileName() + "\"")
-                    .body(resource);
+            fileDownloadUtils.stream(attachment.getFilePath(), attachment.getContentType(),
+                    ContentDisposition.attachment().filename(attachment.getOriginalFileName(), StandardCharsets.UTF_8).build().toString(),
+                    FileDownloadUtils.PRIVATE_REVALIDATE, request, response);
         } catch (Exception e) {
             log.error("Error downloading attachment {}: {}", attachmentId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
         }
     }
 
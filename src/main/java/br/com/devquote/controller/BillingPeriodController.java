@@ -5,15 +5,15 @@ import br.com.devquote.dto.request.BillingPeriodRequest;
 import br.com.devquote.dto.response.BillingPeriodResponse;
 import br.com.devquote.enums.FlowType;
 import br.com.devquote.service.BillingPeriodService;
+import br.com.devquote.utils.ExcelReportUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -116,21 +116,17 @@ public class BillingPeriodController implements BillingPeriodControllerDoc {
 
     @GetMapping("/export/excel")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<byte[]> exportToExcel(
+    public void exportToExcel(
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String flowType,
             @RequestParam(required = false) Long moduleId,
-            @RequestParam(required = false) String taskType) throws IOException {
+            @RequestParam(required = false) String taskType,
+            HttpServletResponse response) throws IOException {
 
-        byte[] excelData = billingPeriodService.exportToExcel(month, year, status, flowType, moduleId, taskType);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", "relatorio-faturamento.xlsx");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, "relatorio-faturamento.xlsx");
+        billingPeriodService.exportToExcel(month, year, status, flowType, moduleId, taskType, response.getOutputStream());
     }
 
     @DeleteMapping("/{id}/delete-with-tasks")
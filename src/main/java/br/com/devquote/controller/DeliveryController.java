@@ -4,20 +4,23 @@ import br.com.devquote.controller.doc.DeliveryControllerDoc;
 import br.com.devquote.dto.request.DeliveryEnvironmentRequest;
 import br.com.devquote.dto.request.DeliveryNotesRequest;
 import br.com.devquote.dto.request.DeliveryRequest;
+import br.com.devquote.dto.response.CursorPagedResponse;
 import br.com.devquote.dto.response.DeliveryResponse;
 import br.com.devquote.dto.response.DeliveryGroupResponse;
 import br.com.devquote.dto.response.DeliveryStatusCount;
+import br.com.devquote.dto.response.DeliveryStatusRecalculationResponse;
 import br.com.devquote.dto.response.PagedResponse;
 import br.com.devquote.service.DeliveryService;
 import br.com.devquote.service.DeliveryAttachmentService;
+import br.com.devquote.utils.ExcelReportUtils;
 import br.com.devquote.utils.SecurityUtils;
 import br.com.devquote.utils.SortUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -262,6 +265,29 @@ public class DeliveryController implements DeliveryControllerDoc {
         return ResponseEntity.ok(PageAdapter.toPagedResponseDTO(sanitizeGroupAmounts(deliveryGroups)));
     }
 
+    @GetMapping("/grouped/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<CursorPagedResponse<DeliveryGroupResponse>> listGroupedByTaskByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) String taskName,
+            @RequestParam(required = false) String taskCode,
+            @RequestParam(required = false) String flowType,
+            @RequestParam(required = false) String taskType,
+            @RequestParam(required = false) String environment,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate
+    ) {
+        CursorPagedResponse<DeliveryGroupResponse> deliveryGroups = deliveryService.findAllGroupedByTaskByCursor(
+                taskId, taskName, taskCode, flowType, taskType, environment, status, startDate, endDate,
+                cursor, Math.max(1, Math.min(size, 100))
+        );
+        deliveryGroups.getContent().forEach(this::sanitizeAmounts);
+        return ResponseEntity.ok(deliveryGroups);
+    }
+
     @GetMapping("/grouped-by-task")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     public ResponseEntity<PagedResponse<DeliveryGroupResponse>> listGroupedByTaskAlias(
@@ -348,49 +374,42 @@ public class DeliveryController implements DeliveryControllerDoc {
     @PostMapping("/update-all-statuses")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> updateAllDeliveryStatuses() {
-        deliveryService.updateAllDeliveryStatuses();
-        return ResponseEntity.ok("Status de todas as entregas foram atualizados");
+        DeliveryStatusRecalculationResponse result = deliveryService.updateAllDeliveryStatuses();
+        return ResponseEntity.ok("Status de todas as entregas foram atualizados ("
+                + result.getUpdated() + " de " + result.getScanned() + " alteradas)");
     }
 
     @GetMapping("/export/excel")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<byte[]> exportDeliveriesToExcel(
+    public void exportDeliveriesToExcel(
             @RequestParam(required = false) String flowType,
-            @RequestParam(required = false, defaultValue = "false") boolean canViewAmounts) throws IOException {
+            @RequestParam(required = false, defaultValue = "false") boolean canViewAmounts,
+            HttpServletResponse response) throws IOException {
         // Enforce server-side: USER nunca vê valores, independentemente do parâmetro do cliente.
         boolean showAmounts = securityUtils.canViewMonetaryValues();
-        byte[] excelData = deliveryService.exportToExcel(flowType, showAmounts);
 
         String filename = "relatorio_entregas_" +
                          LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy-HH-mm-ss")) +
                          ".xlsx";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, filename);
+        deliveryService.exportToExcel(flowType, showAmounts, response.getOutputStream());
     }
 
     @GetMapping("/export/excel-only")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<byte[]> exportDeliveriesOnlyToExcel(
-            @RequestParam(required = false, defaultValue = "false") boolean canViewAmounts) throws IOException {
+    public void exportDeliveriesOnlyToExcel(
+            @RequestParam(required = false, defaultValue = "false") boolean canViewAmounts,
+            HttpServletResponse response) throws IOException {
         // Enforce server-side: USER nunca vê valores, independentemente do parâmetro do cliente.
         boolean showAmounts = securityUtils.canViewMonetaryValues();
-        byte[] excelData = deliveryService.exportDeliveriesOnlyToExcel(showAmounts);
 
         String filename = "relatorio_entregas_" +
                          LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy-HH-mm-ss")) +
                          ".xlsx";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, filename);
+        deliveryService.exportDeliveriesOnlyToExcel(showAmounts, response.getOutputStream());
     }
 
     @PostMapping("/{id}/send-delivery-email")
@@ -1,19 +1,22 @@
 package br.com.devquote.controller;
 import br.com.devquote.dto.response.DeliveryItemAttachmentResponse;
 import br.com.devquote.service.DeliveryItemAttachmentService;
+import br.com.devquote.utils.FileDownloadUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -24,6 +27,7 @@ import java.util.List;
 public class DeliveryItemAttachmentController {
 
     private final DeliveryItemAttachmentService deliveryItemAttachmentService;
+    private final FileDownloadUtils fileDownloadUtils;
 
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "Fazer upload de arquivos para um item de entrega")
@@ -60,20 +64,20 @@ public class DeliveryItemAttachmentController {
     @GetMapping("/{attachmentId}/download")
     @Operation(summary = "Fazer download de um anexo")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<Resource> downloadAttachment(
-            @Parameter(description = "ID do anexo") @PathVariable Long attachmentId) {
-        
+    public void downloadAttachment(
+            @Parameter(description = "ID do anexo") @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         try {
             DeliveryItemAttachmentResponse attachmentInfo = deliveryItemAttachmentService.getAttachmentById(attachmentId);
-            Resource resource = deliveryItemAttachmentService.downloadAttachment(attachmentId);
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(attachmentInfo.getContentType()))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachmentInfo.getOriginalFileName() + "\"")
-                    .body(resource);
+            fileDownloadUtils.stream(attachmentInfo.getFilePath(), attachmentInfo.getContentType(),
+                    ContentDisposition.attachment().filename(attachmentInfo.getOriginalFileName(), StandardCharsets.UTF_8).build().toString(),
+                    FileDownloadUtils.PRIVATE_REVALIDATE, request, response);
         } catch (Exception e) {
             log.error("Error downloading attachment {}: {}", attachmentId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
         }
     }
 
@@ -7,12 +7,13 @@ import br.com.devquote.dto.response.DeliveryOperationalAttachmentResponse;
 import br.com.devquote.dto.response.DeliveryOperationalItemResponse;
 import br.com.devquote.service.DeliveryOperationalAttachmentService;
 import br.com.devquote.service.DeliveryOperationalItemService;
+import br.com.devquote.utils.FileDownloadUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +28,7 @@ public class DeliveryOperationalController implements DeliveryOperationalControl
 
     private final DeliveryOperationalItemService operationalItemService;
     private final DeliveryOperationalAttachmentService attachmentService;
+    private final FileDownloadUtils fileDownloadUtils;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
@@ -84,17 +86,14 @@ public class DeliveryOperationalController implements DeliveryOperationalControl
 
     @GetMapping("/attachments/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long id) throws IOException {
+    public void downloadAttachment(@PathVariable Long id,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
         DeliveryOperationalAttachmentResponse attachment = attachmentService.findById(id);
-        Resource resource = attachmentService.downloadFile(id);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(attachment.getContentType()));
-        headers.setContentDispositionFormData("attachment", attachment.getOriginalName());
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(resource);
+        fileDownloadUtils.stream(attachment.getFilePath(), attachment.getContentType(),
+                ContentDisposition.formData().name("attachment").filename(attachment.getOriginalName()).build().toString(),
+                FileDownloadUtils.PRIVATE_REVALIDATE, request, response);
     }
 
     @DeleteMapping("/attachments/{id}")
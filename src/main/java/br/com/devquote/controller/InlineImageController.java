@@ -3,7 +3,7 @@ package br.com.devquote.controller;
 import br.com.devquote.dto.response.InlineImageResponse;
 import br.com.devquote.enums.InlineImageEntityType;
 import br.com.devquote.service.InlineImageService;
-import br.com.devquote.service.storage.FileStorageStrategy;
+import br.com.devquote.utils.FileDownloadUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.CacheControl;
@@ -15,7 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.io.InputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.concurrent.TimeUnit;
 
 @RestController
@@ -25,7 +25,7 @@ import java.util.concurrent.TimeUnit;
 public class InlineImageController {
 
     private final InlineImageService inlineImageService;
-    private final FileStorageStrategy fileStorageStrategy;
+    private final FileDownloadUtils fileDownloadUtils;
 
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
@@ -52,29 +52,24 @@ public class InlineImageController {
     }
 
     @GetMapping("/view/**")
-    public ResponseEntity<byte[]> viewImage(HttpServletRequest request) {
+    public void viewImage(HttpServletRequest request, HttpServletResponse response) {
         try {
             String fullPath = request.getRequestURI();
             String filePath = fullPath.substring(fullPath.indexOf("/view/") + 6);
 
             if (filePath.isEmpty()) {
-                return ResponseEntity.notFound().build();
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+                return;
             }
 
-            InputStream inputStream = fileStorageStrategy.getFileStream(filePath);
-            byte[] imageBytes = inputStream.readAllBytes();
-            inputStream.close();
-
-            MediaType mediaType = determineMediaType(filePath);
-
-            return ResponseEntity.ok()
-                    .contentType(mediaType)
-                    .cacheControl(CacheControl.maxAge(7, TimeUnit.DAYS))
-                    .body(imageBytes);
+            fileDownloadUtils.stream(filePath, determineMediaType(filePath).toString(), null,
+                    CacheControl.maxAge(7, TimeUnit.DAYS), request, response);
 
         } catch (Exception e) {
             log.error("Error serving inline image: {}", e.getMessage());
-            return ResponseEntity.notFound().build();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+            }
         }
     }
 
@@ -2,16 +2,19 @@ package br.com.devquote.controller;
 import br.com.devquote.controller.doc.TaskAttachmentControllerDoc;
 import br.com.devquote.dto.response.TaskAttachmentResponse;
 import br.com.devquote.service.TaskAttachmentService;
+import br.com.devquote.utils.FileDownloadUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -21,6 +24,7 @@ import java.util.List;
 public class TaskAttachmentController implements TaskAttachmentControllerDoc {
 
     private final TaskAttachmentService taskAttachmentService;
+    private final FileDownloadUtils fileDownloadUtils;
 
     @PostMapping(value = "/upload/{taskId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
@@ -79,19 +83,19 @@ public class TaskAttachmentController implements TaskAttachmentControllerDoc {
 
     @GetMapping("/download/{attachmentId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long attachmentId) {
+    public void downloadAttachment(@PathVariable Long attachmentId,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) {
         try {
             TaskAttachmentResponse attachment = taskAttachmentService.getAttachmentById(attachmentId);
-            Resource resource = taskAttachmentService.downloadAttachment(attachmentId);
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachment.getOriginalFileName() + "\"")
-                    .header(HttpHeaders.CONTENT_TYPE, attachment.getContentType())
-                    .body(resource);
-                    
+            fileDownloadUtils.stream(attachment.getFilePath(), attachment.getContentType(),
+                    ContentDisposition.attachment().filename(attachment.getOriginalFileName(), StandardCharsets.UTF_8).build().toString(),
+                    FileDownloadUtils.PRIVATE_REVALIDATE, request, response);
         } catch (Exception e) {
             log.error("Error downloading attachment {}: {}", attachmentId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+            }
         }
     }
 
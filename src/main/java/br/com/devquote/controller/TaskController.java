@@ -5,6 +5,7 @@ import br.com.devquote.dto.request.SendFinancialEmailRequest;
 import br.com.devquote.dto.request.TaskRequest;
 import br.com.devquote.dto.request.TaskWithSubTasksCreateRequest;
 import br.com.devquote.dto.request.TaskWithSubTasksUpdateRequest;
+import br.com.devquote.dto.response.CursorPagedResponse;
 import br.com.devquote.dto.response.PagedResponse;
 import br.com.devquote.dto.response.TaskAmountSumResponse;
 import br.com.devquote.dto.response.TaskResponse;
@@ -13,14 +14,15 @@ import br.com.devquote.dto.response.TaskWithSubTasksResponse;
 import br.com.devquote.enums.FlowType;
 import br.com.devquote.service.TaskService;
 import br.com.devquote.service.TaskAttachmentService;
+import br.com.devquote.utils.ExcelReportUtils;
 import br.com.devquote.utils.SecurityUtils;
 import br.com.devquote.utils.SortUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -110,6 +112,47 @@ public class TaskController implements TaskControllerDoc {
         return ResponseEntity.ok(PageAdapter.toPagedResponseDTO(sanitizeAmounts(pageResult)));
     }
 
+    /**
+     * Listagem por cursor (keyset) para scroll contínuo: sem COUNT e com custo constante por página.
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPagedResponse<TaskResponse>> listByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) Long id,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) String requesterName,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String code,
+            @RequestParam(required = false) String link,
+            @RequestParam(required = false) String createdAt,
+            @RequestParam(required = false) String updatedAt,
+            @RequestParam(required = false) String flowType,
+            @RequestParam(required = false) String taskType,
+            @RequestParam(required = false) String environment,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) Boolean hasDelivery,
+            @RequestParam(required = false) Boolean hasQuoteInBilling,
+            @RequestParam(required = false) Long moduleId,
+            @RequestParam(required = false) Long serverId
+    ) {
+        FlowType flowTypeEnum = (flowType == null || flowType.equals("TODOS"))
+                ? null
+                : FlowType.fromString(flowType);
+
+        CursorPagedResponse<TaskResponse> result = taskService.findAllByCursor(
+                id, requesterId, requesterName, title, description, code, link, createdAt, updatedAt, flowTypeEnum, taskType, environment, startDate, endDate, hasDelivery, hasQuoteInBilling, moduleId, serverId,
+                cursor, Math.max(1, Math.min(size, 100)), sort
+        );
+        result.getContent().forEach(this::sanitizeAmounts);
+
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/stats")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TaskStatsResponse> stats() {
@@ -331,72 +374,50 @@ public class TaskController implements TaskControllerDoc {
 
     @GetMapping("/export/excel")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<byte[]> exportTasksToExcel(
-            @RequestParam(required = false) String flowType) throws IOException {
-        byte[] excelData = taskService.exportTasksToExcel(flowType);
-
+    public void exportTasksToExcel(
+            @RequestParam(required = false) String flowType,
+            HttpServletResponse response) throws IOException {
         String filename = "Relatorio_Tarefas_Itens_" +
             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
             ".xlsx";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, filename);
+        taskService.exportTasksToExcel(flowType, response.getOutputStream());
     }
 
     @GetMapping("/export/excel-only")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<byte[]> exportTasksOnlyToExcel(
-            @RequestParam(required = false) String flowType) throws IOException {
-        byte[] excelData = taskService.exportTasksOnlyToExcel(flowType);
-
+    public void exportTasksOnlyToExcel(
+            @RequestParam(required = false) String flowType,
+            HttpServletResponse response) throws IOException {
         String filename = "Relatorio_Tarefas_" +
             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
             ".xlsx";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, filename);
+        taskService.exportTasksOnlyToExcel(flowType, response.getOutputStream());
     }
 
     @GetMapping("/export/general-report")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<byte[]> exportGeneralReport() throws IOException {
-        byte[] excelData = taskService.exportGeneralReport();
-
+    public void exportGeneralReport(HttpServletResponse response) throws IOException {
         String filename = "Relatorio_Geral_Completo_" +
             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
             ".xlsx";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, filename);
+        taskService.exportGeneralReport(response.getOutputStream());
     }
 
     @GetMapping("/export/general-report-user")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-    public ResponseEntity<byte[]> exportGeneralReportForUser() throws IOException {
-        byte[] excelData = taskService.exportGeneralReportForUser();
-
+    public void exportGeneralReportForUser(HttpServletResponse response) throws IOException {
         String filename = "Relatorio_Geral_User_" +
             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
             ".xlsx";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-
-        return new ResponseEntity<>(excelData, headers, HttpStatus.OK);
+        ExcelReportUtils.prepareDownload(response, filename);
+        taskService.exportGeneralReportForUser(response.getOutputStream());
     }
 
     @PostMapping("/{id}/send-task-email")
@@ -6,7 +6,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -38,8 +39,10 @@ public interface BillingNoteAttachmentControllerDoc {
             @ApiResponse(responseCode = "200", description = "Download iniciado"),
             @ApiResponse(responseCode = "404", description = "Anexo não encontrado")
     })
-    ResponseEntity<Resource> downloadAttachment(
-            @Parameter(description = "ID do anexo", required = true) @PathVariable Long attachmentId);
+    void downloadAttachment(
+            @Parameter(description = "ID do anexo", required = true) @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response);
 
     @Operation(summary = "Exclui um anexo de anotação")
     @ApiResponses({
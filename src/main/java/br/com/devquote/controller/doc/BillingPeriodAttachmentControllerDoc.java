@@ -9,7 +9,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -62,8 +63,10 @@ public interface BillingPeriodAttachmentControllerDoc {
             @ApiResponse(responseCode = "404", description = "Attachment not found"),
             @ApiResponse(responseCode = "500", description = "Error downloading file")
     })
-    ResponseEntity<Resource> downloadAttachment(
-            @Parameter(description = "Attachment ID", required = true) @PathVariable Long attachmentId);
+    void downloadAttachment(
+            @Parameter(description = "Attachment ID", required = true) @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response);
 
     @Operation(summary = "Delete an attachment")
     @ApiResponses({
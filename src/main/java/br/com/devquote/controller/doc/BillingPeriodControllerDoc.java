@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -125,13 +126,14 @@ public interface BillingPeriodControllerDoc {
     @Parameter(name = "flowType", description = "Filter by flow type", example = "DESENVOLVIMENTO")
     @Parameter(name = "moduleId", description = "Filter by linked task module ID", example = "3")
     @Parameter(name = "taskType", description = "Filter by linked task type", example = "BUG")
-    ResponseEntity<byte[]> exportToExcel(
+    void exportToExcel(
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String flowType,
             @RequestParam(required = false) Long moduleId,
-            @RequestParam(required = false) String taskType) throws IOException;
+            @RequestParam(required = false) String taskType,
+            HttpServletResponse response) throws IOException;
 
     @Operation(summary = "Delete billing period and all linked tasks")
     @ApiResponses({
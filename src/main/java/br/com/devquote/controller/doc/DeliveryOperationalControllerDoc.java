@@ -8,8 +8,9 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -85,8 +86,10 @@ public interface DeliveryOperationalControllerDoc {
             @ApiResponse(responseCode = "404", description = "Attachment not found"),
             @ApiResponse(responseCode = "500", description = "Error downloading attachment")
     })
-    ResponseEntity<Resource> downloadAttachment(
-            @Parameter(description = "Attachment ID", required = true) @PathVariable Long id) throws IOException;
+    void downloadAttachment(
+            @Parameter(description = "Attachment ID", required = true) @PathVariable Long id,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException;
 
     @Operation(summary = "Delete an operational item attachment")
     @ApiResponses({
@@ -7,7 +7,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
@@ -58,8 +59,10 @@ public interface TaskAttachmentControllerDoc {
         @ApiResponse(responseCode = "200", description = "Download realizado com sucesso"),
         @ApiResponse(responseCode = "404", description = "Anexo não encontrado")
     })
-    ResponseEntity<Resource> downloadAttachment(
-            @Parameter(description = "ID do anexo") Long attachmentId);
+    void downloadAttachment(
+            @Parameter(description = "ID do anexo") Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response);
 
     @Operation(summary = "Excluir um anexo")
     @ApiResponses(value = {
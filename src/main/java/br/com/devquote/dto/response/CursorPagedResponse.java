@@ -0,0 +1,19 @@
+package br.com.devquote.dto.response;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Pagina por cursor: sem total (nao executa COUNT); nextCursor e opaco e deve ser
+ * reenviado como parametro cursor para obter a proxima pagina.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPagedResponse<T> {
+    private List<T> content;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasNext;
+}
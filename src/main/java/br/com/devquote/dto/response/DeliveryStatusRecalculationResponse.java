@@ -0,0 +1,16 @@
+package br.com.devquote.dto.response;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeliveryStatusRecalculationResponse {
+
+    private Long scanned;
+    private Long updated;
+    private Long elapsedMs;
+}
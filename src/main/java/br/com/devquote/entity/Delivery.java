@@ -2,10 +2,14 @@ package br.com.devquote.entity;
 import br.com.devquote.enums.DeliveryStatus;
 import br.com.devquote.enums.Environment;
 import br.com.devquote.enums.FlowType;
+import br.com.devquote.enums.OperationalItemStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 import java.util.Objects;
 
@@ -73,6 +77,40 @@ public class Delivery {
     @Column(name = "clickup_synced_at")
     private LocalDateTime clickupSyncedAt;
 
+    // Contadores de itens por status (operacionais já convertidos). Gravados só por UPDATE relativo
+    // (DeliveryProgressHelper), nunca pelo flush da entidade, para não sobrescrever alteração concorrente
+    @Column(name = "pending_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer pendingItems = 0;
+
+    @Column(name = "development_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer developmentItems = 0;
+
+    @Column(name = "delivered_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer deliveredItems = 0;
+
+    @Column(name = "homologation_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer homologationItems = 0;
+
+    @Column(name = "approved_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer approvedItems = 0;
+
+    @Column(name = "rejected_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer rejectedItems = 0;
+
+    @Column(name = "production_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer productionItems = 0;
+
+    @Column(name = "cancelled_items", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer cancelledItems = 0;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -95,30 +133,40 @@ public class Delivery {
 
         if (operationalItems != null && !operationalItems.isEmpty()) {
             itemStatuses.addAll(operationalItems.stream()
-                    .map(item -> {
-                        switch (item.getStatus()) {
-                            case PENDING -> {
-                                return DeliveryStatus.PENDING;
-                            }
-                            case DELIVERED -> {
-                                return DeliveryStatus.DELIVERED;
-                            }
-                            case CANCELLED -> {
-                                return DeliveryStatus.CANCELLED;
-                            }
-                            default -> {
-                                return DeliveryStatus.PENDING;
-                            }
-                        }
-                    })
+                    .map(item -> toDeliveryStatus(item.getStatus()))
                     .toList());
         }
 
-        if (itemStatuses.isEmpty()) {
+        return resolveStatus(itemStatuses);
+    }
+
+    public static DeliveryStatus toDeliveryStatus(OperationalItemStatus status) {
+        switch (status) {
+            case PENDING -> {
+                return DeliveryStatus.PENDING;
+            }
+            case DELIVERED -> {
+                return DeliveryStatus.DELIVERED;
+            }
+            case CANCELLED -> {
+                return DeliveryStatus.CANCELLED;
+            }
+            default -> {
+                return DeliveryStatus.PENDING;
+            }
+        }
+    }
+
+    /**
+     * Status da entrega a partir dos status dos seus itens (operacionais já convertidos).
+     * Usado tanto pela entidade quanto pelo recálculo em lote, que lê apenas os status.
+     */
+    public static DeliveryStatus resolveStatus(Collection<DeliveryStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
             return DeliveryStatus.PENDING;
         }
 
-        itemStatuses = itemStatuses.stream().distinct().toList();
+        List<DeliveryStatus> itemStatuses = statuses.stream().distinct().toList();
 
         if (itemStatuses.size() == 1) {
             return itemStatuses.get(0);
@@ -158,8 +206,86 @@ public class Delivery {
         return DeliveryStatus.PENDING;
     }
 
+    /**
+     * Recalcula contadores e status em memória a partir das coleções de itens (carrega as coleções).
+     * A gravação dos contadores é feita por DeliveryProgressHelper.
+     */
     public void updateStatus() {
-        this.status = calculateStatus();
+        Map<DeliveryStatus, Integer> counts = new EnumMap<>(DeliveryStatus.class);
+        if (items != null) {
+            items.forEach(item -> counts.merge(item.getStatus(), 1, Integer::sum));
+        }
+        if (operationalItems != null) {
+            operationalItems.forEach(item -> counts.merge(toDeliveryStatus(item.getStatus()), 1, Integer::sum));
+        }
+        setItemCounts(counts);
+    }
+
+    /**
+     * Ajusta os contadores em memória quando um item muda de status, entra (previous nulo) ou sai
+     * (current nulo) da entrega, e deriva o status agregado dos contadores, sem carregar os itens.
+     */
+    public void applyItemStatusChange(DeliveryStatus previous, DeliveryStatus current) {
+        if (previous != null) {
+            adjustItemCount(previous, -1);
+        }
+        if (current != null) {
+            adjustItemCount(current, 1);
+        }
+        this.status = statusFromItemCounts();
+    }
+
+    public void applyItemStatusChange(OperationalItemStatus previous, OperationalItemStatus current) {
+        applyItemStatusChange(previous != null ? toDeliveryStatus(previous) : null,
+                current != null ? toDeliveryStatus(current) : null);
+    }
+
+    public Map<DeliveryStatus, Integer> getItemCounts() {
+        Map<DeliveryStatus, Integer> counts = new EnumMap<>(DeliveryStatus.class);
+        counts.put(DeliveryStatus.PENDING, pendingItems);
+        counts.put(DeliveryStatus.DEVELOPMENT, developmentItems);
+        counts.put(DeliveryStatus.DELIVERED, deliveredItems);
+        counts.put(DeliveryStatus.HOMOLOGATION, homologationItems);
+        counts.put(DeliveryStatus.APPROVED, approvedItems);
+        counts.put(DeliveryStatus.REJECTED, rejectedItems);
+        counts.put(DeliveryStatus.PRODUCTION, productionItems);
+        counts.put(DeliveryStatus.CANCELLED, cancelledItems);
+        return counts;
+    }
+
+    /**
+     * Substitui os contadores (status ausentes valem zero) e deriva o status agregado.
+     */
+    public void setItemCounts(Map<DeliveryStatus, Integer> counts) {
+        for (DeliveryStatus itemStatus : DeliveryStatus.values()) {
+            setItemCount(itemStatus, counts.getOrDefault(itemStatus, 0));
+        }
+        this.status = statusFromItemCounts();
+    }
+
+    public DeliveryStatus statusFromItemCounts() {
+        return resolveStatus(getItemCounts().entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList());
+    }
+
+    private void adjustItemCount(DeliveryStatus itemStatus, int delta) {
+        Integer current = getItemCounts().get(itemStatus);
+        setItemCount(itemStatus, Math.max(0, (current != null ? current : 0) + delta));
+    }
+
+    private void setItemCount(DeliveryStatus itemStatus, int count) {
+        switch (itemStatus) {
+            case PENDING -> this.pendingItems = count;
+            case DEVELOPMENT -> this.developmentItems = count;
+            case DELIVERED -> this.deliveredItems = count;
+            case HOMOLOGATION -> this.homologationItems = count;
+            case APPROVED -> this.approvedItems = count;
+            case REJECTED -> this.rejectedItems = count;
+            case PRODUCTION -> this.productionItems = count;
+            case CANCELLED -> this.cancelledItems = count;
+        }
     }
 
     public void updateDates() {
@@ -232,22 +358,20 @@ public class Delivery {
         }
         items.add(item);
         item.setDelivery(this);
-        updateStatus();
+        applyItemStatusChange(null, item.getStatus());
     }
 
     public void removeItem(DeliveryItem item) {
-        if (items != null) {
-            items.remove(item);
+        if (items != null && items.remove(item)) {
             item.setDelivery(null);
-            updateStatus();
+            applyItemStatusChange(item.getStatus(), null);
         }
     }
 
     public void removeOperationalItem(DeliveryOperationalItem item) {
-        if (operationalItems != null) {
-            operationalItems.remove(item);
+        if (operationalItems != null && operationalItems.remove(item)) {
             item.setDelivery(null);
-            updateStatus();
+            applyItemStatusChange(item.getStatus(), null);
         }
     }
 }
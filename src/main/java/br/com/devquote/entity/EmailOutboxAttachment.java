@@ -0,0 +1,33 @@
+package br.com.devquote.entity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Anexo de um e-mail do outbox, por chave no storage: o arquivo não é copiado para o MIME gravado,
+ * o worker lê do storage em stream no momento do envio.
+ */
+@Entity
+@Table(name = "email_outbox_attachment", indexes = {
+    @Index(name = "idx_email_outbox_attachment_outbox", columnList = "outbox_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class EmailOutboxAttachment extends BaseEntity {
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "outbox_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private EmailOutboxMessage outboxMessage;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;
+}
@@ -0,0 +1,53 @@
+package br.com.devquote.entity;
+import br.com.devquote.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * E-mail pronto para envio aguardando o worker do outbox. O MIME gravado tem corpo e imagens inline;
+ * anexos ficam em {@link EmailOutboxAttachment}, por chave no storage.
+ * O conteúdo é descartado após o envio; a linha fica para auditoria até a limpeza diária.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutboxMessage extends BaseEntity {
+
+    @Column(name = "recipients", nullable = false, length = 2000)
+    private String recipients;
+
+    @Column(name = "subject", length = 500)
+    private String subject;
+
+    @ToString.Exclude
+    @Column(name = "mime_content")
+    private byte[] mimeContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
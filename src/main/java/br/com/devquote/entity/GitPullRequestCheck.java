@@ -0,0 +1,32 @@
+package br.com.devquote.entity;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Ultima consulta de um PR no provedor Git, com o ETag usado em requisicoes condicionais.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "git_pull_request_check", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_git_pull_request_check_url", columnNames = {"pull_request_url"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GitPullRequestCheck extends BaseEntity {
+
+    @Column(name = "pull_request_url", nullable = false, length = 500)
+    private String pullRequestUrl;
+
+    @Column(name = "etag", length = 200)
+    private String etag;
+
+    @Column(name = "merged", nullable = false)
+    @Builder.Default
+    private Boolean merged = false;
+
+    @Column(name = "checked_at", nullable = false)
+    private LocalDateTime checkedAt;
+}
@@ -1,6 +1,7 @@
 package br.com.devquote.entity;
 import br.com.devquote.enums.Environment;
 import br.com.devquote.enums.FlowType;
+import br.com.devquote.utils.SearchTextUtils;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,6 +35,10 @@ public class Task {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // Descricao sem HTML e em minusculas, usada no filtro de listagem (indice trigram em V0005)
+    @Column(name = "description_search", columnDefinition = "TEXT")
+    private String descriptionSearch;
+
     @Column(nullable = false, length = 100)
     private String code;
 
@@ -102,10 +107,12 @@ public class Task {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.descriptionSearch = SearchTextUtils.normalize(description);
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.descriptionSearch = SearchTextUtils.normalize(description);
     }
 }
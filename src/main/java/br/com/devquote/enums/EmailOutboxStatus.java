@@ -0,0 +1,8 @@
+package br.com.devquote.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package br.com.devquote.enums;
+
+/**
+ * Como o valor de uma coluna é escrito na planilha (estilo + tradução do conteúdo).
+ */
+public enum ExcelCellType {
+    TEXT,
+    CURRENCY,
+    DATE,
+    DATE_TIME_TEXT,
+    FLOW_TYPE,
+    TASK_TYPE,
+    PRIORITY,
+    STATUS,
+    DELIVERY_STATUS,
+    OPERATIONAL_ITEM_STATUS,
+    ENVIRONMENT,
+    MONTH_NAME
+}
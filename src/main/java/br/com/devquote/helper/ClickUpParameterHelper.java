@@ -37,4 +37,13 @@ public class ClickUpParameterHelper {
         if (fromDb != null && !fromDb.trim().isEmpty()) return fromDb;
         return integrationsProperties.getClickup().getToken();
     }
+
+    public int getMaxConcurrentRequests() {
+        Integer max = integrationsProperties.getClickup().getMaxConcurrentRequests();
+        return max != null && max > 0 ? max : 1;
+    }
+
+    public String getApiBaseUrl() {
+        return integrationsProperties.getClickup().getApiBaseUrl();
+    }
 }
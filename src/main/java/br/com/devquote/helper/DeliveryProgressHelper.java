@@ -0,0 +1,126 @@
+package br.com.devquote.helper;
+
+import br.com.devquote.entity.Delivery;
+import br.com.devquote.enums.DeliveryStatus;
+import br.com.devquote.enums.FlowType;
+import br.com.devquote.enums.OperationalItemStatus;
+import br.com.devquote.repository.DeliveryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém status agregado e período da entrega quando um item muda, sem carregar as coleções de itens.
+ * Os contadores por status são ajustados no banco com UPDATE relativo (x = x + delta), que serializa
+ * alterações concorrentes na mesma entrega pelo lock de linha; os valores resultantes voltam para a
+ * entidade e o status é derivado deles. O período vem de um MIN/MAX no banco.
+ * Quem chama continua responsável por salvar a entrega (status e datas).
+ */
+@Component
+@RequiredArgsConstructor
+public class DeliveryProgressHelper {
+
+    // Mesma ordem das colunas de DeliveryRepository.findItemCounts
+    private static final DeliveryStatus[] COUNTER_STATUSES = {
+            DeliveryStatus.PENDING, DeliveryStatus.DEVELOPMENT, DeliveryStatus.DELIVERED, DeliveryStatus.HOMOLOGATION,
+            DeliveryStatus.APPROVED, DeliveryStatus.REJECTED, DeliveryStatus.PRODUCTION, DeliveryStatus.CANCELLED
+    };
+
+    private final DeliveryRepository deliveryRepository;
+
+    /**
+     * Item de desenvolvimento criado (previous nulo), alterado ou removido (current nulo).
+     */
+    public void itemChanged(Delivery delivery, DeliveryStatus previous, DeliveryStatus current) {
+        Map<DeliveryStatus, Integer> deltas = new EnumMap<>(DeliveryStatus.class);
+        addChange(deltas, previous, current);
+        applyCountChanges(delivery, deltas);
+        refreshDates(delivery);
+    }
+
+    /**
+     * Item operacional criado (previous nulo), alterado ou removido (current nulo).
+     */
+    public void operationalItemChanged(Delivery delivery, OperationalItemStatus previous, OperationalItemStatus current) {
+        itemChanged(delivery,
+                previous != null ? Delivery.toDeliveryStatus(previous) : null,
+                current != null ? Delivery.toDeliveryStatus(current) : null);
+    }
+
+    /**
+     * Acumula em deltas a mudança de um item, para operações em lote aplicarem uma vez por entrega.
+     */
+    public static void addChange(Map<DeliveryStatus, Integer> deltas, DeliveryStatus previous, DeliveryStatus current) {
+        if (previous == current) {
+            return;
+        }
+        if (previous != null) {
+            deltas.merge(previous, -1, Integer::sum);
+        }
+        if (current != null) {
+            deltas.merge(current, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Aplica os deltas acumulados aos contadores da entrega no banco e atualiza contadores e status da entidade.
+     */
+    public void applyCountChanges(Delivery delivery, Map<DeliveryStatus, Integer> deltas) {
+        if (deltas.values().stream().allMatch(delta -> delta == 0)) {
+            return;
+        }
+        deliveryRepository.addItemCounts(delivery.getId(),
+                deltas.getOrDefault(DeliveryStatus.PENDING, 0),
+                deltas.getOrDefault(DeliveryStatus.DEVELOPMENT, 0),
+                deltas.getOrDefault(DeliveryStatus.DELIVERED, 0),
+                deltas.getOrDefault(DeliveryStatus.HOMOLOGATION, 0),
+                deltas.getOrDefault(DeliveryStatus.APPROVED, 0),
+                deltas.getOrDefault(DeliveryStatus.REJECTED, 0),
+                deltas.getOrDefault(DeliveryStatus.PRODUCTION, 0),
+                deltas.getOrDefault(DeliveryStatus.CANCELLED, 0));
+        reloadCounts(delivery);
+    }
+
+    /**
+     * Recontagem completa a partir dos itens já gravados (substituição de todos os itens da entrega).
+     */
+    public void recount(Delivery delivery) {
+        deliveryRepository.recountItemCounts(delivery.getId());
+        reloadCounts(delivery);
+    }
+
+    /**
+     * Mesma regra de {@link Delivery#updateDates()}: menor início e maior conclusão dos itens do fluxo.
+     */
+    public void refreshDates(Delivery delivery) {
+        List<Object[]> range;
+        if (delivery.getFlowType() == FlowType.DESENVOLVIMENTO) {
+            range = deliveryRepository.findItemDateRange(delivery.getId());
+        } else if (delivery.getFlowType() == FlowType.OPERACIONAL) {
+            range = deliveryRepository.findOperationalItemDateRange(delivery.getId());
+        } else {
+            return;
+        }
+
+        Object[] row = range.isEmpty() ? new Object[2] : range.get(0);
+        delivery.setStartedAt((LocalDateTime) row[0]);
+        delivery.setFinishedAt((LocalDateTime) row[1]);
+    }
+
+    private void reloadCounts(Delivery delivery) {
+        List<Object[]> rows = deliveryRepository.findItemCounts(delivery.getId());
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Delivery not found with id: " + delivery.getId());
+        }
+        Object[] row = rows.get(0);
+        Map<DeliveryStatus, Integer> counts = new EnumMap<>(DeliveryStatus.class);
+        for (int i = 0; i < COUNTER_STATUSES.length; i++) {
+            counts.put(COUNTER_STATUSES[i], ((Number) row[i]).intValue());
+        }
+        delivery.setItemCounts(counts);
+    }
+}
@@ -22,6 +22,15 @@ public class GitIntegrationParameterHelper {
         return token != null && !token.trim().isEmpty();
     }
 
+    public int getMaxConcurrentRequests() {
+        Integer max = integrationsProperties.getGithub().getMaxConcurrentRequests();
+        return max != null && max > 0 ? max : 1;
+    }
+
+    public String getApiBaseUrl() {
+        return integrationsProperties.getGithub().getApiBaseUrl();
+    }
+
     public String getGitHubToken() {
         String token = integrationsProperties.getGithub().getToken();
         if (token == null || token.trim().isEmpty()) {
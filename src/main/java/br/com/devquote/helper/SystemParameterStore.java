@@ -0,0 +1,172 @@
+package br.com.devquote.helper;
+
+import br.com.devquote.entity.SystemParameter;
+import br.com.devquote.repository.SystemParameterRepository;
+import br.com.devquote.utils.EncryptionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cópia imutável em memória de todos os system_parameter, já descriptografados e com os tipos
+ * (boolean/long) resolvidos uma única vez. A leitura é um lookup no mapa; nome ausente do snapshot
+ * é parâmetro inexistente, sem ir ao banco. O snapshot é recarregado inteiro e trocado atomicamente
+ * após o commit de cada alteração (ou pelo SystemParameterRefreshJob, com várias instâncias),
+ * publicando {@link Changed} com os nomes alterados.
+ */
+@Slf4j
+@Component
+public class SystemParameterStore {
+
+    private final SystemParameterRepository systemParameterRepository;
+    private final EncryptionUtil encryptionUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readTransaction;
+
+    private volatile Map<String, Entry> snapshot;
+    // Nomes ausentes já reportados no log desde o último reload
+    private final Set<String> reportedMissing = ConcurrentHashMap.newKeySet();
+
+    public SystemParameterStore(SystemParameterRepository systemParameterRepository,
+                                EncryptionUtil encryptionUtil,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.systemParameterRepository = systemParameterRepository;
+        this.encryptionUtil = encryptionUtil;
+        this.eventPublisher = eventPublisher;
+        // Nova transação: o reload também roda no afterCommit de quem alterou
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Parâmetro pelo nome, ou null se não cadastrado.
+     */
+    public Entry find(String name) {
+        Map<String, Entry> current = snapshot;
+        if (current == null) {
+            current = loadIfAbsent();
+        }
+        return current.get(name);
+    }
+
+    /**
+     * true só na primeira vez que o nome ausente é consultado desde o último reload (para logar uma vez).
+     */
+    public boolean reportMissing(String name) {
+        return reportedMissing.add(name);
+    }
+
+    /**
+     * Recarrega após o commit da transação corrente (ou já, fora de transação).
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    public void reload() {
+        Map<String, Entry> loaded;
+        Map<String, Entry> previous;
+        // Reloads concorrentes não trocam um snapshot mais novo por um mais antigo
+        synchronized (this) {
+            loaded = load();
+            previous = snapshot;
+            snapshot = loaded;
+        }
+        reportedMissing.clear();
+
+        if (previous == null) {
+            return;
+        }
+        Set<String> changed = new HashSet<>();
+        previous.forEach((name, entry) -> {
+            if (!entry.equals(loaded.get(name))) {
+                changed.add(name);
+            }
+        });
+        loaded.keySet().stream().filter(name -> !previous.containsKey(name)).forEach(changed::add);
+
+        if (!changed.isEmpty()) {
+            log.info("Parâmetros do sistema recarregados; alterados: {}", changed);
+            eventPublisher.publishEvent(new Changed(Set.copyOf(changed)));
+        }
+    }
+
+    private synchronized Map<String, Entry> loadIfAbsent() {
+        if (snapshot == null) {
+            snapshot = load();
+        }
+        return snapshot;
+    }
+
+    private Map<String, Entry> load() {
+        List<SystemParameter> parameters = readTransaction.execute(status -> systemParameterRepository.findAllOrderedById());
+        Map<String, Entry> entries = new HashMap<>();
+        for (SystemParameter parameter : Objects.requireNonNull(parameters)) {
+            String value = parameter.getValue();
+            if (Boolean.TRUE.equals(parameter.getIsEncrypted()) && value != null) {
+                try {
+                    value = encryptionUtil.decrypt(value);
+                } catch (Exception e) {
+                    // Fica fora do snapshot: quem lê cai no valor padrão, como parâmetro ausente
+                    log.error("Erro ao descriptografar o parâmetro '{}': {}", parameter.getName(), e.getMessage());
+                    continue;
+                }
+            }
+            entries.put(parameter.getName(), Entry.of(value));
+        }
+        log.debug("Snapshot de parâmetros do sistema carregado: {} parâmetro(s)", entries.size());
+        return Map.copyOf(entries);
+    }
+
+    /**
+     * Valor já descriptografado; booleanValue segue Boolean.parseBoolean e longValue é null se não numérico.
+     */
+    public record Entry(String value, boolean booleanValue, Long longValue) {
+
+        static Entry of(String value) {
+            Long longValue = null;
+            if (value != null) {
+                try {
+                    longValue = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    // Não numérico: getLong usa o valor padrão
+                }
+            }
+            return new Entry(value, Boolean.parseBoolean(value), longValue);
+        }
+    }
+
+    /**
+     * Evento publicado após o reload quando algum parâmetro foi criado, alterado ou removido.
+     */
+    public record Changed(Set<String> names) {
+
+        public boolean contains(String name) {
+            return names.contains(name);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package br.com.devquote.helper;
 
-import br.com.devquote.dto.response.SystemParameterResponse;
 import br.com.devquote.error.WhatsAppException;
 import br.com.devquote.service.SystemParameterService;
 import lombok.RequiredArgsConstructor;
@@ -33,14 +32,10 @@ public class WhatsAppParameterHelper {
     }
 
     private String getParameterValue(String name) {
-        try {
-            SystemParameterResponse param = systemParameterService.findByName(name);
-            if (param.getValue() == null || param.getValue().trim().isEmpty()) {
-                throw new WhatsAppException("Parâmetro sem valor: " + name, "PARAMETER_EMPTY");
-            }
-            return param.getValue();
-        } catch (Exception e) {
+        String value = systemParameterService.getString(name, null);
+        if (value == null || value.trim().isEmpty()) {
             throw new WhatsAppException("Parâmetro não encontrado: " + name, "PARAMETER_NOT_FOUND");
         }
+        return value;
     }
 }
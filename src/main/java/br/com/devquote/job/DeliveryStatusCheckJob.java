@@ -0,0 +1,29 @@
+package br.com.devquote.job;
+
+import br.com.devquote.dto.response.DeliveryStatusRecalculationResponse;
+import br.com.devquote.service.DeliveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job diario que confere os contadores de itens por status de cada entrega contra os itens
+ * reais e corrige contadores e status agregado que tenham divergido (ex.: escrita direta
+ * no banco, fora da aplicacao).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeliveryStatusCheckJob {
+
+    private final DeliveryService deliveryService;
+
+    @Scheduled(cron = "${jobs.delivery-status-check.cron}", zone = "America/Sao_Paulo")
+    public void run() {
+        log.info("[JOB] DeliveryStatusCheckJob disparado");
+        DeliveryStatusRecalculationResponse result = deliveryService.updateAllDeliveryStatuses();
+        log.info("[JOB] DeliveryStatusCheckJob concluido: {} verificadas, {} corrigidas",
+                result.getScanned(), result.getUpdated());
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.devquote.job;
+
+import br.com.devquote.configuration.MailProperties;
+import br.com.devquote.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker do outbox de e-mails: a cada mail.outbox.poll-delay-ms envia as mensagens pendentes
+ * (até mail.outbox.max-cycles-per-poll ciclos seguidos, para um backlog grande não prender a thread
+ * do scheduler) e, uma vez por dia, remove as já enviadas além da retenção.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxJob {
+
+    private final EmailOutboxService emailOutboxService;
+    private final MailProperties mailProperties;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-delay-ms:5000}", initialDelayString = "${mail.outbox.poll-delay-ms:5000}")
+    public void poll() {
+        try {
+            int maxCycles = Math.max(1, mailProperties.getOutbox().getMaxCyclesPerPoll());
+            int cycles = 0;
+            int processed;
+            do {
+                processed = emailOutboxService.processDue();
+            } while (processed > 0 && ++cycles < maxCycles && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            log.error("[JOB] EmailOutboxJob falhou: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${jobs.email-outbox-cleanup.cron}", zone = "America/Sao_Paulo")
+    public void purge() {
+        int removed = emailOutboxService.purgeSent();
+        log.info("[JOB] EmailOutboxJob limpeza concluida: {} mensagem(ns) enviada(s) removida(s)", removed);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.devquote.job;
+
+import br.com.devquote.helper.SystemParameterStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recarrega o snapshot de parâmetros do sistema periodicamente, para instâncias que não receberam a alteração
+ * (cada instância só recarrega sozinha o que ela mesma gravou). Desligado por padrão (cron "-"): com uma
+ * única instância o reload após commit já basta.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SystemParameterRefreshJob {
+
+    private final SystemParameterStore systemParameterStore;
+
+    @Scheduled(cron = "${jobs.system-parameter-refresh.cron}", zone = "America/Sao_Paulo")
+    public void refresh() {
+        try {
+            systemParameterStore.reload();
+        } catch (Exception e) {
+            log.error("[JOB] SystemParameterRefreshJob falhou: {}", e.getMessage(), e);
+        }
+    }
+}
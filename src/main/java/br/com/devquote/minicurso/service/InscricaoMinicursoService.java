@@ -8,13 +8,10 @@ import br.com.devquote.minicurso.entity.ConfiguracaoEvento;
 import br.com.devquote.minicurso.entity.InscricaoMinicurso;
 import br.com.devquote.minicurso.repository.ConfiguracaoEventoRepository;
 import br.com.devquote.minicurso.repository.InscricaoMinicursoRepository;
+import br.com.devquote.utils.JasperTemplateRegistry;
 import lombok.RequiredArgsConstructor;
 import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperExportManager;
-import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
-import net.sf.jasperreports.engine.JasperReport;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -29,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
@@ -45,6 +41,7 @@ public class InscricaoMinicursoService {
 
     private final InscricaoMinicursoRepository inscricaoRepository;
     private final ConfiguracaoEventoRepository configuracaoEventoRepository;
+    private final JasperTemplateRegistry jasperTemplateRegistry;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
@@ -189,17 +186,15 @@ public class InscricaoMinicursoService {
         List<InscricaoMinicurso> inscricoes = inscricaoRepository.findAll();
         inscricoes.sort(Comparator.comparing(InscricaoMinicurso::getCreatedAt));
 
-        InputStream reportStream = getClass().getResourceAsStream("/reports/inscricoes_minicurso_report.jrxml");
-        JasperReport jasperReport = JasperCompileManager.compileReport(reportStream);
-
         Map<String, Object> parameters = new HashMap<>();
         parameters.put("titulo", "Lista de Inscrições");
         parameters.put("dataGeracao", LocalDateTime.now());
         parameters.put("totalRegistros", inscricoes.size());
 
         JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(inscricoes);
-        JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
+        JasperPrint jasperPrint = jasperTemplateRegistry.fill(
+                JasperTemplateRegistry.INSCRICOES_MINICURSO_REPORT, parameters, dataSource);
 
-        return JasperExportManager.exportReportToPdf(jasperPrint);
+        return jasperTemplateRegistry.exportPdf(JasperTemplateRegistry.INSCRICOES_MINICURSO_REPORT, jasperPrint);
     }
 }
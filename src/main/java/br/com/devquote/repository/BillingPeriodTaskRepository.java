@@ -8,8 +8,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface BillingPeriodTaskRepository extends JpaRepository<BillingPeriodTask, Long> {
@@ -72,6 +74,12 @@ public interface BillingPeriodTaskRepository extends JpaRepository<BillingPeriod
 
     boolean existsByTaskId(Long taskId);
 
+    @Query("SELECT DISTINCT bpt.task.id FROM BillingPeriodTask bpt WHERE bpt.task.id IN :taskIds")
+    Set<Long> findTaskIdsWithBilling(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT DISTINCT bpt.task.id FROM BillingPeriodTask bpt")
+    Set<Long> findAllTaskIdsWithBilling();
+
     Optional<BillingPeriodTask> findByTaskId(Long taskId);
 
     @Query("""
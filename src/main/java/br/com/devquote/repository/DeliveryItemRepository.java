@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,11 @@ public interface DeliveryItemRepository extends JpaRepository<DeliveryItem, Long
     @Query("SELECT di FROM DeliveryItem di WHERE di.delivery.id = :deliveryId ORDER BY di.sortOrder ASC, di.id ASC")
     List<DeliveryItem> findByDeliveryId(@Param("deliveryId") Long deliveryId);
 
+    // Itens de uma página de entregas numa única consulta (listagem agrupada)
+    @EntityGraph(attributePaths = {"delivery", "delivery.task", "project"})
+    @Query("SELECT di FROM DeliveryItem di WHERE di.delivery.id IN :deliveryIds ORDER BY di.sortOrder ASC, di.id ASC")
+    List<DeliveryItem> findByDeliveryIdIn(@Param("deliveryIds") Collection<Long> deliveryIds);
+
     @EntityGraph(attributePaths = {"delivery", "delivery.task", "project"})
     @Query("SELECT di FROM DeliveryItem di WHERE di.delivery.task.id = :taskId ORDER BY di.sortOrder ASC, di.id ASC")
     List<DeliveryItem> findByTaskId(@Param("taskId") Long taskId);
@@ -110,7 +116,7 @@ public interface DeliveryItemRepository extends JpaRepository<DeliveryItem, Long
         """, nativeQuery = true)
     List<Object[]> findItemsByTaskIdOptimized(@Param("taskId") Long taskId);
 
-    @EntityGraph(attributePaths = {"delivery", "project"})
+    @EntityGraph(attributePaths = {"delivery", "delivery.task", "project"})
     @Query("""
         SELECT di FROM DeliveryItem di
         WHERE di.pullRequest IS NOT NULL
@@ -10,8 +10,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
@@ -19,10 +21,43 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     @Query("SELECT d FROM Delivery d ORDER BY d.id ASC")
     List<Delivery> findAllOrderedById();
 
+    // Atividade recente do dashboard: [id, task.title, status, COALESCE(updatedAt, createdAt)].
+    // Ordenação coberta pelo índice idx_delivery_last_activity (V0003).
+    @Query("""
+            SELECT d.id, t.title, d.status, COALESCE(d.updatedAt, d.createdAt)
+            FROM Delivery d
+            LEFT JOIN d.task t
+            ORDER BY COALESCE(d.updatedAt, d.createdAt) DESC, d.id DESC
+            """)
+    List<Object[]> findRecentActivity(Pageable pageable);
+
     @EntityGraph(attributePaths = {"task", "items", "items.project"})
     @Override
     Optional<Delivery> findById(Long id);
 
+    // Mutações de itens: só a entrega, sem o grafo de itens do findById (contadores e datas vêm do banco)
+    @Query("SELECT d FROM Delivery d WHERE d.id = :id")
+    Optional<Delivery> findWithoutItemsById(@Param("id") Long id);
+
+    // Notificações: inclui o solicitante da tarefa, usado nos destinatários e no template
+    @EntityGraph(attributePaths = {"task", "task.requester", "items", "items.project"})
+    @Query("SELECT d FROM Delivery d WHERE d.id = :id")
+    Optional<Delivery> findByIdForNotification(@Param("id") Long id);
+
+    // Versão do relatório PDF da entrega (ReportPdfCache): [última alteração da entrega e da tarefa, nº e última
+    // alteração dos itens de desenvolvimento e dos operacionais]. Lista vazia se a entrega não existe.
+    @Query("""
+            SELECT COALESCE(d.updatedAt, d.createdAt), COALESCE(t.updatedAt, t.createdAt),
+                   (SELECT COUNT(i) FROM DeliveryItem i WHERE i.delivery.id = d.id),
+                   (SELECT MAX(COALESCE(i.updatedAt, i.createdAt)) FROM DeliveryItem i WHERE i.delivery.id = d.id),
+                   (SELECT COUNT(o) FROM DeliveryOperationalItem o WHERE o.delivery.id = d.id),
+                   (SELECT MAX(COALESCE(o.updatedAt, o.createdAt)) FROM DeliveryOperationalItem o WHERE o.delivery.id = d.id)
+            FROM Delivery d
+            JOIN d.task t
+            WHERE d.id = :id
+            """)
+    List<Object[]> findReportVersion(@Param("id") Long id);
+
     @Query("SELECT d.id FROM Delivery d JOIN d.task t ORDER BY t.id DESC")
     Page<Long> findAllOrderedByTaskIdDescPaginated(Pageable pageable);
 
@@ -69,6 +104,36 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             Pageable pageable
     );
 
+    @Query("""
+        SELECT d.id
+          FROM Delivery d
+          JOIN d.task t
+         WHERE (:taskId IS NULL OR t.id = :taskId)
+           AND (:taskName IS NULL OR :taskName = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :taskName, '%')))
+           AND (:taskCode IS NULL OR :taskCode = '' OR LOWER(t.code) LIKE LOWER(CONCAT('%', :taskCode, '%')))
+           AND (:flowType IS NULL OR :flowType = '' OR CAST(t.flowType AS string) = :flowType)
+           AND (:taskType IS NULL OR :taskType = '' OR CAST(t.taskType AS string) = :taskType)
+           AND (:environment IS NULL OR :environment = '' OR CAST(t.environment AS string) = :environment)
+           AND (:status IS NULL OR d.status = :status)
+           AND (:startDate IS NULL OR :startDate = '' OR CAST(d.startedAt AS date) >= CAST(:startDate AS date))
+           AND (:endDate IS NULL OR :endDate = '' OR CAST(d.finishedAt AS date) <= CAST(:endDate AS date))
+           AND (:cursorTaskId IS NULL OR t.id < :cursorTaskId)
+         ORDER BY t.id DESC
+        """)
+    List<Long> findIdsByKeyset(
+            @Param("taskId") Long taskId,
+            @Param("taskName") String taskName,
+            @Param("taskCode") String taskCode,
+            @Param("flowType") String flowType,
+            @Param("taskType") String taskType,
+            @Param("environment") String environment,
+            @Param("status") br.com.devquote.enums.DeliveryStatus status,
+            @Param("startDate") String startDate,
+            @Param("endDate") String endDate,
+            @Param("cursorTaskId") Long cursorTaskId,
+            Pageable pageable
+    );
+
     @Query("""
         SELECT COALESCE(SUM(t.amount), 0)
           FROM Delivery d
@@ -130,6 +195,12 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     Optional<Delivery> findByTaskId(@Param("taskId") Long taskId);
     
     boolean existsByTaskId(Long taskId);
+
+    @Query("SELECT DISTINCT d.task.id FROM Delivery d WHERE d.task.id IN :taskIds")
+    Set<Long> findTaskIdsWithDelivery(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT DISTINCT d.task.id FROM Delivery d")
+    Set<Long> findAllTaskIdsWithDelivery();
     
     @Modifying
     @Query("DELETE FROM Delivery d WHERE d.task.id = :taskId")
@@ -164,6 +235,27 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
         """, nativeQuery = true)
     Object[] findDeliveryGroupByTaskIdOptimized(@Param("taskId") Long taskId);
 
+    /**
+     * Resumo das entregas de uma página da listagem agrupada, sem carregar itens nem anexos.
+     * Contagens por status vêm dos contadores mantidos na própria entrega.
+     */
+    @Query(value = """
+        SELECT
+            d.id, d.status, d.flow_type, d.environment, d.created_at, d.updated_at,
+            d.started_at, d.finished_at, d.delivery_email_sent, d.notes,
+            t.id, t.title, t.code, t.task_type, t.link, t.amount,
+            m.id, m.name, s.id, s.name, s.link,
+            d.pending_items, d.development_items, d.delivered_items, d.homologation_items,
+            d.approved_items, d.rejected_items, d.production_items, d.cancelled_items
+        FROM delivery d
+        INNER JOIN task t ON t.id = d.task_id
+        LEFT JOIN module m ON m.id = t.module_id
+        LEFT JOIN server s ON s.id = t.server_id
+        WHERE d.id IN (:ids)
+        ORDER BY t.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findGroupSummariesByIds(@Param("ids") List<Long> ids);
+
     @Query(value = """
         SELECT
             SUM(CASE WHEN d.status = 'PENDING' THEN 1 ELSE 0 END) as pending_count,
@@ -176,7 +268,105 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             SUM(CASE WHEN d.status = 'CANCELLED' THEN 1 ELSE 0 END) as cancelled_count
         FROM delivery d
         """, nativeQuery = true)
-    Object[] findGlobalDeliveryStatistics();
+    List<Object[]> findGlobalDeliveryStatistics();
+
+    // Verificação de status em lote: varredura por keyset (id), lendo status e contadores gravados
+    // e as contagens reais de itens por status.
+    @Query("""
+        SELECT d.id, d.status, d.pendingItems, d.developmentItems, d.deliveredItems, d.homologationItems,
+               d.approvedItems, d.rejectedItems, d.productionItems, d.cancelledItems
+          FROM Delivery d
+         WHERE d.id > :lastId
+         ORDER BY d.id ASC
+        """)
+    List<Object[]> findStatusCountersAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+        SELECT i.delivery.id, i.status, COUNT(i)
+          FROM DeliveryItem i
+         WHERE i.delivery.id IN :deliveryIds
+         GROUP BY i.delivery.id, i.status
+        """)
+    List<Object[]> countItemStatusesByDeliveryIds(@Param("deliveryIds") Collection<Long> deliveryIds);
+
+    @Query("""
+        SELECT i.delivery.id, i.status, COUNT(i)
+          FROM DeliveryOperationalItem i
+         WHERE i.delivery.id IN :deliveryIds
+         GROUP BY i.delivery.id, i.status
+        """)
+    List<Object[]> countOperationalItemStatusesByDeliveryIds(@Param("deliveryIds") Collection<Long> deliveryIds);
+
+    // Contadores de itens por status: ajuste relativo no próprio UPDATE (o lock de linha serializa
+    // alterações concorrentes na mesma entrega), sem ler-alterar-gravar pela entidade
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE delivery
+           SET pending_items      = GREATEST(0, pending_items + :pending),
+               development_items  = GREATEST(0, development_items + :development),
+               delivered_items    = GREATEST(0, delivered_items + :delivered),
+               homologation_items = GREATEST(0, homologation_items + :homologation),
+               approved_items     = GREATEST(0, approved_items + :approved),
+               rejected_items     = GREATEST(0, rejected_items + :rejected),
+               production_items   = GREATEST(0, production_items + :production),
+               cancelled_items    = GREATEST(0, cancelled_items + :cancelled)
+         WHERE id = :deliveryId
+        """, nativeQuery = true)
+    int addItemCounts(@Param("deliveryId") Long deliveryId,
+                      @Param("pending") int pending,
+                      @Param("development") int development,
+                      @Param("delivered") int delivered,
+                      @Param("homologation") int homologation,
+                      @Param("approved") int approved,
+                      @Param("rejected") int rejected,
+                      @Param("production") int production,
+                      @Param("cancelled") int cancelled);
+
+    // Recontagem completa a partir dos itens (mesma regra do backfill da V0006)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE delivery d
+           SET pending_items      = c.pending,
+               development_items  = c.development,
+               delivered_items    = c.delivered,
+               homologation_items = c.homologation,
+               approved_items     = c.approved,
+               rejected_items     = c.rejected,
+               production_items   = c.production,
+               cancelled_items    = c.cancelled
+          FROM (
+            SELECT COALESCE(SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END), 0)      AS pending,
+                   COALESCE(SUM(CASE WHEN status = 'DEVELOPMENT' THEN 1 ELSE 0 END), 0)  AS development,
+                   COALESCE(SUM(CASE WHEN status = 'DELIVERED' THEN 1 ELSE 0 END), 0)    AS delivered,
+                   COALESCE(SUM(CASE WHEN status = 'HOMOLOGATION' THEN 1 ELSE 0 END), 0) AS homologation,
+                   COALESCE(SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END), 0)     AS approved,
+                   COALESCE(SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END), 0)     AS rejected,
+                   COALESCE(SUM(CASE WHEN status = 'PRODUCTION' THEN 1 ELSE 0 END), 0)   AS production,
+                   COALESCE(SUM(CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END), 0)    AS cancelled
+              FROM (
+                SELECT status FROM delivery_item WHERE delivery_id = :deliveryId
+                UNION ALL
+                SELECT status FROM delivery_operational_item WHERE delivery_id = :deliveryId
+              ) items
+          ) c
+         WHERE d.id = :deliveryId
+        """, nativeQuery = true)
+    int recountItemCounts(@Param("deliveryId") Long deliveryId);
+
+    @Query(value = """
+        SELECT pending_items, development_items, delivered_items, homologation_items,
+               approved_items, rejected_items, production_items, cancelled_items
+          FROM delivery
+         WHERE id = :deliveryId
+        """, nativeQuery = true)
+    List<Object[]> findItemCounts(@Param("deliveryId") Long deliveryId);
+
+    // Período da entrega a partir dos itens, sem carregar as coleções
+    @Query("SELECT MIN(i.startedAt), MAX(i.finishedAt) FROM DeliveryItem i WHERE i.delivery.id = :deliveryId")
+    List<Object[]> findItemDateRange(@Param("deliveryId") Long deliveryId);
+
+    @Query("SELECT MIN(i.startedAt), MAX(i.finishedAt) FROM DeliveryOperationalItem i WHERE i.delivery.id = :deliveryId")
+    List<Object[]> findOperationalItemDateRange(@Param("deliveryId") Long deliveryId);
 
     @Query(value = """
         SELECT
@@ -191,7 +381,7 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
         FROM delivery d
         WHERE d.flow_type = :flowType
         """, nativeQuery = true)
-    Object[] findDeliveryStatisticsByFlowType(String flowType);
+    List<Object[]> findDeliveryStatisticsByFlowType(@Param("flowType") String flowType);
 
     @Query(value = """
         SELECT
@@ -287,8 +477,9 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             @Param("dataFim") LocalDateTime dataFim
     );
 
+    // Snapshot do sync com o ClickUp: só (id, status, código da task), sem manter entidades gerenciadas
     @Query(value = """
-        SELECT d.* FROM delivery d
+        SELECT d.id, d.status, t.code FROM delivery d
         JOIN task t ON t.id = d.task_id
         WHERE d.flow_type = :flowType
           AND d.status IN ('DEVELOPMENT', 'DELIVERED', 'PRODUCTION')
@@ -296,6 +487,7 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
                OR (d.status = 'DEVELOPMENT' AND d.clickup_last_synced_status != 'em progresso')
                OR (d.status = 'DELIVERED' AND d.clickup_last_synced_status != 'desenvolvimento concluído')
                OR (d.status = 'PRODUCTION' AND d.clickup_last_synced_status != 'complete'))
+        ORDER BY d.id
         """, nativeQuery = true)
-    List<Delivery> findEligibleForClickUpSync(@Param("flowType") String flowType);
+    List<Object[]> findEligibleForClickUpSync(@Param("flowType") String flowType);
 }
@@ -0,0 +1,17 @@
+package br.com.devquote.repository;
+
+import br.com.devquote.entity.EmailOutboxAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxAttachmentRepository extends JpaRepository<EmailOutboxAttachment, Long> {
+
+    @Query("SELECT a FROM EmailOutboxAttachment a WHERE a.outboxMessage.id IN :outboxIds ORDER BY a.id ASC")
+    List<EmailOutboxAttachment> findByOutboxMessageIdIn(@Param("outboxIds") Collection<Long> outboxIds);
+}
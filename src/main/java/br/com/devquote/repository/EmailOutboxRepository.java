@@ -0,0 +1,95 @@
+package br.com.devquote.repository;
+
+import br.com.devquote.entity.EmailOutboxMessage;
+import br.com.devquote.enums.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Ids das mensagens prontas para envio, bloqueadas para esta transação. SKIP LOCKED deixa workers
+     * concorrentes (outras threads ou instâncias) pegarem lotes disjuntos. Inclui mensagens presas em SENDING
+     * por um worker que caiu no meio do envio (claimed_at antigo) que ainda têm tentativas. Só os ids: o
+     * conteúdo MIME é carregado depois, lote a lote.
+     */
+    @Query(value = """
+        SELECT id FROM email_outbox
+        WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+           OR (status = 'SENDING' AND claimed_at < :staleBefore AND attempts < :maxAttempts)
+        ORDER BY next_attempt_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("maxAttempts") int maxAttempts,
+                          @Param("limit") int limit);
+
+    /**
+     * Reserva conta como tentativa: uma mensagem que derruba o worker a cada envio esgota max-attempts
+     * em vez de voltar à fila indefinidamente.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailOutboxMessage m
+        SET m.status = :status, m.claimedAt = :now, m.updatedAt = :now, m.attempts = m.attempts + 1
+        WHERE m.id IN :ids
+        """)
+    int markClaimed(@Param("ids") Collection<Long> ids,
+                    @Param("status") EmailOutboxStatus status,
+                    @Param("now") LocalDateTime now);
+
+    // Presas em SENDING (worker caiu) sem tentativas restantes
+    @Modifying
+    @Query("""
+        UPDATE EmailOutboxMessage m
+        SET m.status = br.com.devquote.enums.EmailOutboxStatus.FAILED, m.lastError = :lastError, m.updatedAt = :now
+        WHERE m.status = br.com.devquote.enums.EmailOutboxStatus.SENDING
+          AND m.claimedAt < :staleBefore
+          AND m.attempts >= :maxAttempts
+        """)
+    int failAbandoned(@Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("lastError") String lastError,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE EmailOutboxMessage m
+        SET m.status = :status, m.sentAt = :now, m.updatedAt = :now, m.mimeContent = NULL, m.lastError = NULL
+        WHERE m.id IN :ids
+        """)
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("status") EmailOutboxStatus status,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE EmailOutboxMessage m
+        SET m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt,
+            m.lastError = :lastError, m.updatedAt = :now
+        WHERE m.id = :id
+        """)
+    int markFailedAttempt(@Param("id") Long id,
+                          @Param("status") EmailOutboxStatus status,
+                          @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError,
+                          @Param("now") LocalDateTime now);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") EmailOutboxStatus status,
+                                      @Param("before") LocalDateTime before);
+}
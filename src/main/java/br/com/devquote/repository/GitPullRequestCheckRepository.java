@@ -0,0 +1,14 @@
+package br.com.devquote.repository;
+
+import br.com.devquote.entity.GitPullRequestCheck;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GitPullRequestCheckRepository extends JpaRepository<GitPullRequestCheck, Long> {
+
+    List<GitPullRequestCheck> findByPullRequestUrlIn(Collection<String> pullRequestUrls);
+}
@@ -3,18 +3,40 @@ import br.com.devquote.entity.Task;
 import br.com.devquote.enums.FlowType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    @EntityGraph(attributePaths = {"requester", "module", "server", "createdBy", "updatedBy"})
     @Query("SELECT t FROM Task t ORDER BY t.id ASC")
     List<Task> findAllOrderedById();
+
+    // Notificações (e-mail/WhatsApp): tarefa com solicitante, módulo, servidor e autor numa única consulta
+    @EntityGraph(attributePaths = {"requester", "module", "server", "createdBy"})
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForNotification(@Param("id") Long id);
+
+    // Versão do relatório PDF da tarefa (ReportPdfCache): [última alteração da tarefa, nº e última alteração
+    // das subtarefas, nº de entregas, nº de vínculos com faturamento]. Lista vazia se a tarefa não existe.
+    @Query("""
+            SELECT COALESCE(t.updatedAt, t.createdAt),
+                   (SELECT COUNT(st) FROM SubTask st WHERE st.task.id = t.id),
+                   (SELECT MAX(COALESCE(st.updatedAt, st.createdAt)) FROM SubTask st WHERE st.task.id = t.id),
+                   (SELECT COUNT(d) FROM Delivery d WHERE d.task.id = t.id),
+                   (SELECT COUNT(bpt) FROM BillingPeriodTask bpt WHERE bpt.task.id = t.id)
+            FROM Task t
+            WHERE t.id = :id
+            """)
+    List<Object[]> findReportVersion(@Param("id") Long id);
     
     boolean existsByCode(String code);
 
@@ -26,6 +48,17 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t.id, t.code FROM Task t WHERE t.code IN :codes")
     List<Object[]> findIdAndCodeByCodes(@Param("codes") Collection<String> codes);
 
+    // Atividade recente do dashboard: [id, title, COALESCE(updatedAt, createdAt), username].
+    // Ordenação coberta pelo índice idx_task_last_activity (V0003).
+    @Query("""
+            SELECT t.id, t.title, COALESCE(t.updatedAt, t.createdAt), COALESCE(ub.username, cb.username)
+            FROM Task t
+            LEFT JOIN t.updatedBy ub
+            LEFT JOIN t.createdBy cb
+            ORDER BY COALESCE(t.updatedAt, t.createdAt) DESC, t.id DESC
+            """)
+    List<Object[]> findRecentActivity(Pageable pageable);
+
     @Query("""
             SELECT COUNT(t) FROM Task t
             WHERE NOT EXISTS (SELECT 1 FROM Delivery d WHERE d.task.id = t.id)
@@ -44,11 +77,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
               AND (:requesterId IS NULL OR t.requester.id = :requesterId)
               AND (:requesterName IS NULL OR :requesterName = '' OR LOWER(t.requester.name) LIKE LOWER(CONCAT('%', :requesterName, '%')))
               AND (:title IS NULL OR :title = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))
-              AND (:description IS NULL OR :description = '' OR LOWER(t.description) LIKE LOWER(CONCAT('%', :description, '%')))
+              AND (:description IS NULL OR :description = '' OR t.descriptionSearch LIKE LOWER(CONCAT('%', :description, '%')))
               AND (:code IS NULL OR :code = '' OR LOWER(t.code) LIKE LOWER(CONCAT('%', :code, '%')))
               AND (:link IS NULL OR :link = '' OR LOWER(t.link) LIKE LOWER(CONCAT('%', :link, '%')))
               AND (:createdAt IS NULL OR :createdAt = '' OR CAST(t.createdAt AS string) LIKE CONCAT('%', :createdAt, '%'))
+              AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR t.createdAt < :createdTo)
               AND (:updatedAt IS NULL OR :updatedAt = '' OR CAST(t.updatedAt AS string) LIKE CONCAT('%', :updatedAt, '%'))
+              AND (:updatedFrom IS NULL OR t.updatedAt >= :updatedFrom)
+              AND (:updatedTo IS NULL OR t.updatedAt < :updatedTo)
               AND (:flowType IS NULL OR t.flowType = :flowType)
               AND (:taskType IS NULL OR :taskType = '' OR CAST(t.taskType AS string) = :taskType)
               AND (:environment IS NULL OR :environment = '' OR CAST(t.environment AS string) = :environment)
@@ -73,6 +110,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("link") String link,
             @Param("createdAt") String createdAt,
             @Param("updatedAt") String updatedAt,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("updatedFrom") LocalDateTime updatedFrom,
+            @Param("updatedTo") LocalDateTime updatedTo,
             @Param("flowType") FlowType flowType,
             @Param("taskType") String taskType,
             @Param("environment") String environment,
@@ -90,11 +131,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
               AND (:requesterId IS NULL OR t.requester.id = :requesterId)
               AND (:requesterName IS NULL OR :requesterName = '' OR LOWER(t.requester.name) LIKE LOWER(CONCAT('%', :requesterName, '%')))
               AND (:title IS NULL OR :title = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))
-              AND (:description IS NULL OR :description = '' OR LOWER(t.description) LIKE LOWER(CONCAT('%', :description, '%')))
+              AND (:description IS NULL OR :description = '' OR t.descriptionSearch LIKE LOWER(CONCAT('%', :description, '%')))
               AND (:code IS NULL OR :code = '' OR LOWER(t.code) LIKE LOWER(CONCAT('%', :code, '%')))
               AND (:link IS NULL OR :link = '' OR LOWER(t.link) LIKE LOWER(CONCAT('%', :link, '%')))
               AND (:createdAt IS NULL OR :createdAt = '' OR CAST(t.createdAt AS string) LIKE CONCAT('%', :createdAt, '%'))
+              AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR t.createdAt < :createdTo)
               AND (:updatedAt IS NULL OR :updatedAt = '' OR CAST(t.updatedAt AS string) LIKE CONCAT('%', :updatedAt, '%'))
+              AND (:updatedFrom IS NULL OR t.updatedAt >= :updatedFrom)
+              AND (:updatedTo IS NULL OR t.updatedAt < :updatedTo)
               AND (:flowType IS NULL OR t.flowType = :flowType)
               AND (:taskType IS NULL OR :taskType = '' OR CAST(t.taskType AS string) = :taskType)
               AND (:environment IS NULL OR :environment = '' OR CAST(t.environment AS string) = :environment)
@@ -119,6 +164,71 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("link") String link,
             @Param("createdAt") String createdAt,
             @Param("updatedAt") String updatedAt,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("updatedFrom") LocalDateTime updatedFrom,
+            @Param("updatedTo") LocalDateTime updatedTo,
+            @Param("flowType") FlowType flowType,
+            @Param("taskType") String taskType,
+            @Param("environment") String environment,
+            @Param("startDate") String startDate,
+            @Param("endDate") String endDate,
+            @Param("hasDelivery") Boolean hasDelivery,
+            @Param("hasBilling") Boolean hasBilling,
+            @Param("moduleId") Long moduleId,
+            @Param("serverId") Long serverId,
+            Pageable pageable
+    );
+
+    // Listagem por keyset (cursor): mesmos filtros de findByOptionalFieldsPaginated, sem COUNT.
+    // A ordenacao (id DESC ou createdAt DESC, id DESC) vem no Pageable e deve casar com o cursor.
+    @Query("""
+            SELECT t FROM Task t
+            WHERE (:id IS NULL OR t.id = :id)
+              AND (:requesterId IS NULL OR t.requester.id = :requesterId)
+              AND (:requesterName IS NULL OR :requesterName = '' OR LOWER(t.requester.name) LIKE LOWER(CONCAT('%', :requesterName, '%')))
+              AND (:title IS NULL OR :title = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))
+              AND (:description IS NULL OR :description = '' OR t.descriptionSearch LIKE LOWER(CONCAT('%', :description, '%')))
+              AND (:code IS NULL OR :code = '' OR LOWER(t.code) LIKE LOWER(CONCAT('%', :code, '%')))
+              AND (:link IS NULL OR :link = '' OR LOWER(t.link) LIKE LOWER(CONCAT('%', :link, '%')))
+              AND (:createdAt IS NULL OR :createdAt = '' OR CAST(t.createdAt AS string) LIKE CONCAT('%', :createdAt, '%'))
+              AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR t.createdAt < :createdTo)
+              AND (:updatedAt IS NULL OR :updatedAt = '' OR CAST(t.updatedAt AS string) LIKE CONCAT('%', :updatedAt, '%'))
+              AND (:updatedFrom IS NULL OR t.updatedAt >= :updatedFrom)
+              AND (:updatedTo IS NULL OR t.updatedAt < :updatedTo)
+              AND (:flowType IS NULL OR t.flowType = :flowType)
+              AND (:taskType IS NULL OR :taskType = '' OR CAST(t.taskType AS string) = :taskType)
+              AND (:environment IS NULL OR :environment = '' OR CAST(t.environment AS string) = :environment)
+              AND (:startDate IS NULL OR :startDate = '' OR CAST(t.createdAt AS date) >= CAST(:startDate AS date))
+              AND (:endDate IS NULL OR :endDate = '' OR CAST(t.createdAt AS date) <= CAST(:endDate AS date))
+              AND (:hasDelivery IS NULL OR
+                   (:hasDelivery = TRUE  AND EXISTS (SELECT 1 FROM Delivery d WHERE d.task.id = t.id)) OR
+                   (:hasDelivery = FALSE AND NOT EXISTS (SELECT 1 FROM Delivery d WHERE d.task.id = t.id)))
+              AND (:hasBilling IS NULL OR
+                   (:hasBilling = TRUE  AND EXISTS (SELECT 1 FROM BillingPeriodTask bpt WHERE bpt.task.id = t.id)) OR
+                   (:hasBilling = FALSE AND NOT EXISTS (SELECT 1 FROM BillingPeriodTask bpt WHERE bpt.task.id = t.id)))
+              AND (:moduleId IS NULL OR t.module.id = :moduleId)
+              AND (:serverId IS NULL OR t.server.id = :serverId)
+              AND (:cursorId IS NULL
+                   OR (:cursorCreatedAt IS NULL AND t.id < :cursorId)
+                   OR t.createdAt < :cursorCreatedAt
+                   OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+            """)
+    List<Task> findKeysetByOptionalFields(
+            @Param("id") Long id,
+            @Param("requesterId") Long requesterId,
+            @Param("requesterName") String requesterName,
+            @Param("title") String title,
+            @Param("description") String description,
+            @Param("code") String code,
+            @Param("link") String link,
+            @Param("createdAt") String createdAt,
+            @Param("updatedAt") String updatedAt,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("updatedFrom") LocalDateTime updatedFrom,
+            @Param("updatedTo") LocalDateTime updatedTo,
             @Param("flowType") FlowType flowType,
             @Param("taskType") String taskType,
             @Param("environment") String environment,
@@ -128,6 +238,8 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("hasBilling") Boolean hasBilling,
             @Param("moduleId") Long moduleId,
             @Param("serverId") Long serverId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
             Pageable pageable
     );
 
@@ -142,11 +254,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
               AND (:requesterId IS NULL OR t.requester.id = :requesterId)
               AND (:requesterName IS NULL OR :requesterName = '' OR LOWER(t.requester.name) LIKE LOWER(CONCAT('%', :requesterName, '%')))
               AND (:title IS NULL OR :title = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))
-              AND (:description IS NULL OR :description = '' OR LOWER(t.description) LIKE LOWER(CONCAT('%', :description, '%')))
+              AND (:description IS NULL OR :description = '' OR t.descriptionSearch LIKE LOWER(CONCAT('%', :description, '%')))
               AND (:code IS NULL OR :code = '' OR LOWER(t.code) LIKE LOWER(CONCAT('%', :code, '%')))
               AND (:link IS NULL OR :link = '' OR LOWER(t.link) LIKE LOWER(CONCAT('%', :link, '%')))
               AND (:createdAt IS NULL OR :createdAt = '' OR CAST(t.createdAt AS string) LIKE CONCAT('%', :createdAt, '%'))
+              AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR t.createdAt < :createdTo)
               AND (:updatedAt IS NULL OR :updatedAt = '' OR CAST(t.updatedAt AS string) LIKE CONCAT('%', :updatedAt, '%'))
+              AND (:updatedFrom IS NULL OR t.updatedAt >= :updatedFrom)
+              AND (:updatedTo IS NULL OR t.updatedAt < :updatedTo)
               AND (:flowType IS NULL OR t.flowType = :flowType)
             """)
     Page<Task> findUnlinkedBillingByOptionalFieldsPaginated(
@@ -159,6 +275,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("link") String link,
             @Param("createdAt") String createdAt,
             @Param("updatedAt") String updatedAt,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("updatedFrom") LocalDateTime updatedFrom,
+            @Param("updatedTo") LocalDateTime updatedTo,
             @Param("flowType") FlowType flowType,
             Pageable pageable
     );
@@ -172,11 +292,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
               AND (:requesterId IS NULL OR t.requester.id = :requesterId)
               AND (:requesterName IS NULL OR :requesterName = '' OR LOWER(t.requester.name) LIKE LOWER(CONCAT('%', :requesterName, '%')))
               AND (:title IS NULL OR :title = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))
-              AND (:description IS NULL OR :description = '' OR LOWER(t.description) LIKE LOWER(CONCAT('%', :description, '%')))
+              AND (:description IS NULL OR :description = '' OR t.descriptionSearch LIKE LOWER(CONCAT('%', :description, '%')))
               AND (:code IS NULL OR :code = '' OR LOWER(t.code) LIKE LOWER(CONCAT('%', :code, '%')))
               AND (:link IS NULL OR :link = '' OR LOWER(t.link) LIKE LOWER(CONCAT('%', :link, '%')))
               AND (:createdAt IS NULL OR :createdAt = '' OR CAST(t.createdAt AS string) LIKE CONCAT('%', :createdAt, '%'))
+              AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR t.createdAt < :createdTo)
               AND (:updatedAt IS NULL OR :updatedAt = '' OR CAST(t.updatedAt AS string) LIKE CONCAT('%', :updatedAt, '%'))
+              AND (:updatedFrom IS NULL OR t.updatedAt >= :updatedFrom)
+              AND (:updatedTo IS NULL OR t.updatedAt < :updatedTo)
               AND (:flowType IS NULL OR t.flowType = :flowType)
             """)
     Page<Task> findUnlinkedDeliveryByOptionalFieldsPaginated(
@@ -189,6 +313,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("link") String link,
             @Param("createdAt") String createdAt,
             @Param("updatedAt") String updatedAt,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("updatedFrom") LocalDateTime updatedFrom,
+            @Param("updatedTo") LocalDateTime updatedTo,
             @Param("flowType") FlowType flowType,
             Pageable pageable
     );
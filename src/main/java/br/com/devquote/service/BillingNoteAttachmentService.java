@@ -1,6 +1,5 @@
 package br.com.devquote.service;
 import br.com.devquote.dto.response.BillingNoteAttachmentResponse;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 import java.util.Map;
@@ -15,8 +14,6 @@ public interface BillingNoteAttachmentService {
 
     BillingNoteAttachmentResponse getAttachmentById(Long attachmentId);
 
-    Resource downloadAttachment(Long attachmentId);
-
     void deleteAttachment(Long attachmentId);
 
     void deleteAllByBillingNote(Long billingNoteId);
@@ -1,6 +1,5 @@
 package br.com.devquote.service;
 import br.com.devquote.dto.response.BillingPeriodAttachmentResponse;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -15,8 +14,6 @@ public interface BillingPeriodAttachmentService {
 
     BillingPeriodAttachmentResponse getAttachmentById(Long attachmentId);
 
-    Resource downloadAttachment(Long attachmentId);
-
     void deleteAttachment(Long attachmentId);
 
     void deleteAttachments(List<Long> attachmentIds);
@@ -5,6 +5,7 @@ import br.com.devquote.enums.FlowType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +33,8 @@ public interface BillingPeriodService {
 
     Map<String, Object> getStatistics();
 
-    byte[] exportToExcel(Integer month, Integer year, String status, String flowType, Long moduleId, String taskType) throws IOException;
+    void exportToExcel(Integer month, Integer year, String status, String flowType, Long moduleId, String taskType,
+                       OutputStream outputStream) throws IOException;
 
     void deleteWithAllLinkedTasks(Long id);
 
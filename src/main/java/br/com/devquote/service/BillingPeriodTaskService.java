@@ -5,8 +5,10 @@ import br.com.devquote.dto.response.TaskBillingLookupResponse;
 import br.com.devquote.enums.FlowType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BillingPeriodTaskService {
     List<BillingPeriodTaskResponse> findAll();
@@ -41,6 +43,10 @@ public interface BillingPeriodTaskService {
 
     boolean existsByTaskId(Long taskId);
 
+    Set<Long> findTaskIdsWithBilling(Collection<Long> taskIds);
+
+    Set<Long> findAllTaskIdsWithBilling();
+
     Optional<BillingPeriodTaskResponse> findByTaskId(Long taskId);
 
     Optional<TaskBillingLookupResponse> findByTaskCode(String code);
@@ -1,7 +1,6 @@
 package br.com.devquote.service;
 import br.com.devquote.dto.response.DeliveryAttachmentResponse;
 import br.com.devquote.entity.DeliveryAttachment;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
@@ -15,8 +14,6 @@ public interface DeliveryAttachmentService {
 
     DeliveryAttachmentResponse getAttachmentById(Long attachmentId);
 
-    Resource downloadAttachment(Long attachmentId);
-
     void deleteAttachment(Long attachmentId);
 
     void deleteAttachments(List<Long> attachmentIds);
@@ -1,7 +1,6 @@
 package br.com.devquote.service;
 import br.com.devquote.dto.response.DeliveryOperationalAttachmentResponse;
 import br.com.devquote.entity.DeliveryOperationalAttachment;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.List;
@@ -16,8 +15,6 @@ public interface DeliveryOperationalAttachmentService {
 
     void delete(Long id) throws IOException;
 
-    Resource downloadFile(Long id) throws IOException;
-
     void deleteAllOperationalAttachmentsByDeliveryId(Long deliveryId) throws IOException;
 
     List<DeliveryOperationalAttachment> getOperationalAttachmentsEntitiesByDeliveryId(Long deliveryId);
@@ -1,12 +1,17 @@
 package br.com.devquote.service;
 import br.com.devquote.dto.request.DeliveryRequest;
+import br.com.devquote.dto.response.CursorPagedResponse;
 import br.com.devquote.dto.response.DeliveryResponse;
 import br.com.devquote.dto.response.DeliveryGroupResponse;
 import br.com.devquote.dto.response.DeliveryStatusCount;
+import br.com.devquote.dto.response.DeliveryStatusRecalculationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface DeliveryService {
 
@@ -72,6 +77,18 @@ public interface DeliveryService {
                                                       String updatedAt,
                                                       Pageable pageable);
 
+    CursorPagedResponse<DeliveryGroupResponse> findAllGroupedByTaskByCursor(Long taskId,
+                                                                          String taskName,
+                                                                          String taskCode,
+                                                                          String flowType,
+                                                                          String taskType,
+                                                                          String environment,
+                                                                          String status,
+                                                                          String startDate,
+                                                                          String endDate,
+                                                                          String cursor,
+                                                                          int size);
+
     DeliveryGroupResponse findGroupDetailsByTaskId(Long taskId);
 
     Page<DeliveryGroupResponse> findAllGroupedByTaskOptimized(String taskName,
@@ -85,15 +102,19 @@ public interface DeliveryService {
 
     boolean existsByTaskId(Long taskId);
 
+    Set<Long> findTaskIdsWithDelivery(Collection<Long> taskIds);
+
+    Set<Long> findAllTaskIdsWithDelivery();
+
     DeliveryStatusCount getGlobalStatistics();
 
     DeliveryStatusCount getStatisticsByFlowType(String flowType);
 
-    void updateAllDeliveryStatuses();
+    DeliveryStatusRecalculationResponse updateAllDeliveryStatuses();
 
-    byte[] exportToExcel(String flowType, boolean canViewAmounts) throws IOException;
+    void exportToExcel(String flowType, boolean canViewAmounts, OutputStream outputStream) throws IOException;
 
-    byte[] exportDeliveriesOnlyToExcel(boolean canViewAmounts) throws IOException;
+    void exportDeliveriesOnlyToExcel(boolean canViewAmounts, OutputStream outputStream) throws IOException;
 
     DeliveryResponse findByTaskId(Long taskId);
 
@@ -0,0 +1,35 @@
+package br.com.devquote.service;
+
+import jakarta.mail.internet.MimeMessage;
+
+import java.util.List;
+
+public interface EmailOutboxService {
+
+    /**
+     * Persiste a mensagem para envio pelo worker; retorna o id no outbox.
+     */
+    Long enqueue(MimeMessage message);
+
+    /**
+     * Persiste a mensagem (sem os anexos) e as chaves dos anexos no storage; o worker anexa os arquivos
+     * em stream no momento do envio. Retorna o id no outbox.
+     */
+    Long enqueue(MimeMessage message, List<Attachment> attachments);
+
+    /**
+     * Envia um ciclo de mensagens pendentes; retorna quantas foram processadas.
+     */
+    int processDue();
+
+    /**
+     * Remove mensagens já enviadas além do período de retenção; retorna quantas foram removidas.
+     */
+    int purgeSent();
+
+    /**
+     * Anexo lido do storage no envio: nome exibido no e-mail e chave do arquivo.
+     */
+    record Attachment(String fileName, String storageKey) {
+    }
+}
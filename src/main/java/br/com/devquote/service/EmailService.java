@@ -11,7 +11,10 @@ public interface EmailService {
 
     void sendDeliveryUpdatedNotification(Delivery delivery, List<String> additionalEmails);
 
-    void sendDeliveryUpdatedNotificationWithAttachmentData(Delivery delivery, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails);
+    /**
+     * attachmentPaths: nome do anexo no e-mail → chave do arquivo no storage (lido só no envio pelo outbox).
+     */
+    void sendDeliveryUpdatedNotificationWithAttachmentData(Delivery delivery, Map<String, String> attachmentPaths, List<String> additionalEmails);
 
     void sendDeliveryNotificationWhatsApp(Delivery delivery, List<String> additionalWhatsAppRecipients);
 
@@ -21,5 +24,5 @@ public interface EmailService {
 
     void sendBillingPeriodNotificationAsync(BillingPeriod billingPeriod, List<String> additionalEmails, String flowType);
 
-    void sendBillingPeriodNotificationWithAttachmentData(BillingPeriod billingPeriod, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails, String flowType);
+    void sendBillingPeriodNotificationWithAttachmentData(BillingPeriod billingPeriod, Map<String, String> attachmentPaths, List<String> additionalEmails, String flowType);
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package br.com.devquote.service;
 
 import br.com.devquote.dto.response.SubTaskAttachmentResponse;
 import br.com.devquote.entity.SubTaskAttachment;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
@@ -18,8 +17,6 @@ public interface SubTaskAttachmentService {
 
     SubTaskAttachmentResponse getAttachmentById(Long attachmentId);
 
-    Resource downloadAttachment(Long attachmentId);
-
     void deleteAttachment(Long attachmentId);
 
     void deleteAttachments(List<Long> attachmentIds);
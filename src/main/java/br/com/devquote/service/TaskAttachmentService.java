@@ -1,7 +1,6 @@
 package br.com.devquote.service;
 import br.com.devquote.dto.response.TaskAttachmentResponse;
 import br.com.devquote.entity.TaskAttachment;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
@@ -17,8 +16,6 @@ public interface TaskAttachmentService {
 
     TaskAttachmentResponse getAttachmentById(Long attachmentId);
 
-    Resource downloadAttachment(Long attachmentId);
-
     void deleteAttachment(Long attachmentId);
 
     void deleteAttachments(List<Long> attachmentIds);
@@ -2,6 +2,7 @@ package br.com.devquote.service;
 import br.com.devquote.dto.request.TaskRequest;
 import br.com.devquote.dto.request.TaskWithSubTasksCreateRequest;
 import br.com.devquote.dto.request.TaskWithSubTasksUpdateRequest;
+import br.com.devquote.dto.response.CursorPagedResponse;
 import br.com.devquote.dto.response.TaskResponse;
 import br.com.devquote.dto.response.TaskStatsResponse;
 import br.com.devquote.dto.response.TaskWithSubTasksResponse;
@@ -9,6 +10,7 @@ import br.com.devquote.enums.FlowType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface TaskService {
@@ -61,6 +63,28 @@ public interface TaskService {
                                         Long serverId,
                                         Pageable pageable);
 
+    CursorPagedResponse<TaskResponse> findAllByCursor(Long id,
+                                                      Long requesterId,
+                                                      String requesterName,
+                                                      String title,
+                                                      String description,
+                                                      String code,
+                                                      String link,
+                                                      String createdAt,
+                                                      String updatedAt,
+                                                      FlowType flowType,
+                                                      String taskType,
+                                                      String environment,
+                                                      String startDate,
+                                                      String endDate,
+                                                      Boolean hasDelivery,
+                                                      Boolean hasBilling,
+                                                      Long moduleId,
+                                                      Long serverId,
+                                                      String cursor,
+                                                      int size,
+                                                      String sort);
+
     Page<TaskResponse> findUnlinkedBillingByOptionalFieldsPaginated(Long id,
                                                                     Long requesterId,
                                                                     String requesterName,
@@ -85,13 +109,13 @@ public interface TaskService {
                                                                      FlowType flowType,
                                                                      Pageable pageable);
     
-    byte[] exportTasksToExcel(String flowType) throws IOException;
+    void exportTasksToExcel(String flowType, OutputStream outputStream) throws IOException;
 
-    byte[] exportTasksOnlyToExcel(String flowType) throws IOException;
+    void exportTasksOnlyToExcel(String flowType, OutputStream outputStream) throws IOException;
 
-    byte[] exportGeneralReport() throws IOException;
+    void exportGeneralReport(OutputStream outputStream) throws IOException;
 
-    byte[] exportGeneralReportForUser() throws IOException;
+    void exportGeneralReportForUser(OutputStream outputStream) throws IOException;
 
     void sendFinancialEmail(Long taskId, List<String> additionalEmails, List<String> additionalWhatsAppRecipients, boolean sendEmail, boolean sendWhatsApp);
 
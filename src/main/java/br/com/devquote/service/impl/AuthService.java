@@ -1,4 +1,5 @@
 package br.com.devquote.service.impl;
+import br.com.devquote.configuration.security.AuthPrincipalCacheEvictor;
 import br.com.devquote.configuration.security.JwtUtils;
 import br.com.devquote.dto.UserInfoDto;
 import br.com.devquote.dto.request.LoginRequest;
@@ -36,6 +37,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final AuthPrincipalCacheEvictor authPrincipalCacheEvictor;
 
     @Transactional
     public MessageResponse registerUser(RegisterRequest signUpRequest) {
@@ -137,6 +139,7 @@ public class AuthService {
     public MessageResponse updateUserProfile(UpdateProfileRequest request, Authentication authentication) {
         String username = authentication.getName();
         log.info("PROFILE UPDATE ATTEMPT user={}", username);
+        authPrincipalCacheEvictor.evictAfterCommit(username);
         
         User currentUser = userRepository.findByUsernameWithProfiles(username)
                 .or(() -> userRepository.findByEmailWithProfiles(username))
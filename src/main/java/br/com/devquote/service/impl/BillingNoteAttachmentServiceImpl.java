@@ -10,8 +10,6 @@ import br.com.devquote.service.BillingNoteAttachmentService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -100,19 +98,6 @@ public class BillingNoteAttachmentServiceImpl implements BillingNoteAttachmentSe
         return billingNoteAttachmentAdapter.toResponse(findAttachmentOrThrow(attachmentId));
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Resource downloadAttachment(Long attachmentId) {
-        BillingNoteAttachment attachment = findAttachmentOrThrow(attachmentId);
-
-        try {
-            return new InputStreamResource(fileStorageStrategy.getFileStream(attachment.getFilePath()));
-        } catch (IOException e) {
-            log.error("Error loading file: {}", e.getMessage());
-            throw new RuntimeException("Error loading file: " + e.getMessage());
-        }
-    }
-
     @Override
     public void deleteAttachment(Long attachmentId) {
         BillingNoteAttachment attachment = findAttachmentOrThrow(attachmentId);
@@ -9,8 +9,6 @@ import br.com.devquote.service.BillingPeriodAttachmentService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -106,20 +104,6 @@ public class BillingPeriodAttachmentServiceImpl implements BillingPeriodAttachme
         return billingPeriodAttachmentAdapter.toResponse(attachment);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Resource downloadAttachment(Long attachmentId) {
-        BillingPeriodAttachment attachment = billingPeriodAttachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new RuntimeException("Attachment not found with id: " + attachmentId));
-
-        try {
-            return new InputStreamResource(fileStorageStrategy.getFileStream(attachment.getFilePath()));
-        } catch (IOException e) {
-            log.error("Error loading file: {}", e.getMessage());
-            throw new RuntimeException("Error loading file: " + e.getMessage());
-        }
-    }
-
     @Override
     public void deleteAttachment(Long attachmentId) {
         BillingPeriodAttachment attachment = billingPeriodAttachmentRepository.findById(attachmentId)
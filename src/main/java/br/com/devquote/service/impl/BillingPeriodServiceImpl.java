@@ -11,7 +11,7 @@ import br.com.devquote.service.BillingPeriodService;
 import br.com.devquote.service.BillingNoteService;
 import br.com.devquote.service.BillingPeriodAttachmentService;
 import br.com.devquote.service.EmailService;
-import br.com.devquote.service.storage.FileStorageStrategy;
+import br.com.devquote.utils.ExcelReportDefinitions;
 import br.com.devquote.utils.ExcelReportUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -22,12 +22,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -42,7 +45,6 @@ public class BillingPeriodServiceImpl implements BillingPeriodService {
     private final EmailService emailService;
     private final BillingPeriodAttachmentService billingPeriodAttachmentService;
     private final BillingNoteService billingNoteService;
-    private final FileStorageStrategy fileStorageStrategy;
 
     @Override
     public List<BillingPeriodResponse> findAll() {
@@ -151,28 +153,6 @@ public class BillingPeriodServiceImpl implements BillingPeriodService {
     @Override
     public void delete(Long id) {
 
-        Map<String, byte[]> attachmentDataMap = new HashMap<>();
-        try {
-            List<br.com.devquote.entity.BillingPeriodAttachment> attachments = billingPeriodAttachmentService.getBillingPeriodAttachmentsEntities(id);
-            if (attachments != null && !attachments.isEmpty()) {
-                for (br.com.devquote.entity.BillingPeriodAttachment attachment : attachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-                            
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put(attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download billing period attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error accessing billing period attachments from database: {}", e.getMessage());
-        }
-
         try {
 
             billingPeriodAttachmentService.deleteAllBillingPeriodAttachmentsAndFolder(id);
@@ -249,7 +229,8 @@ public class BillingPeriodServiceImpl implements BillingPeriodService {
     }
 
     @Override
-    public byte[] exportToExcel(Integer month, Integer year, String status, String flowType, Long moduleId, String taskType) throws IOException {
+    public void exportToExcel(Integer month, Integer year, String status, String flowType, Long moduleId, String taskType,
+                              OutputStream outputStream) throws IOException {
         StringBuilder sqlBuilder = new StringBuilder();
         sqlBuilder.append("""
             SELECT
@@ -318,10 +299,7 @@ public class BillingPeriodServiceImpl implements BillingPeriodService {
             query.setParameter(paramIndex, taskType);
         }
 
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
-
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new HashMap<>();
             map.put("billing_year", row[0]);
             map.put("billing_month", row[1]);
@@ -338,9 +316,9 @@ public class BillingPeriodServiceImpl implements BillingPeriodService {
             map.put("created_at", row[12]);
             map.put("updated_at", row[13]);
             return map;
-        }).collect(Collectors.toList());
-
-        return excelReportUtils.generateBillingReport(data);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.billing(), data, outputStream);
+        }
     }
 
     @Override
@@ -372,34 +350,18 @@ public class BillingPeriodServiceImpl implements BillingPeriodService {
         BillingPeriod billingPeriod = billingPeriodRepository.findById(billingPeriodId)
                 .orElseThrow(() -> new RuntimeException("BillingPeriod not found with id: " + billingPeriodId));
 
-        Map<String, byte[]> attachmentDataMap = new HashMap<>();
-
-
+        // Só as chaves no storage: o outbox lê cada arquivo em stream no envio
+        Map<String, String> attachmentPaths = new LinkedHashMap<>();
         try {
-            List<br.com.devquote.entity.BillingPeriodAttachment> attachments = billingPeriodAttachmentService.getBillingPeriodAttachmentsEntities(billingPeriodId);
-            if (attachments != null && !attachments.isEmpty()) {
-
-                for (br.com.devquote.entity.BillingPeriodAttachment attachment : attachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put(attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download billing period attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
-                }
-            }
+            billingPeriodAttachmentService.getBillingPeriodAttachmentsEntities(billingPeriodId).forEach(attachment ->
+                    attachmentPaths.put(attachment.getOriginalFileName(), attachment.getFilePath()));
         } catch (Exception e) {
             log.error("Error accessing billing period attachments from database: {}", e.getMessage());
         }
 
         try {
-            if (!attachmentDataMap.isEmpty()) {
-                emailService.sendBillingPeriodNotificationWithAttachmentData(billingPeriod, attachmentDataMap, additionalEmails, flowType);
+            if (!attachmentPaths.isEmpty()) {
+                emailService.sendBillingPeriodNotificationWithAttachmentData(billingPeriod, attachmentPaths, additionalEmails, flowType);
             } else {
                 emailService.sendBillingPeriodNotificationAsync(billingPeriod, additionalEmails, flowType);
             }
@@ -17,8 +17,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import br.com.devquote.error.TaskAlreadyInBillingException;
 
@@ -135,6 +137,19 @@ public class BillingPeriodTaskServiceImpl implements BillingPeriodTaskService {
         return billingPeriodTaskRepository.existsByTaskId(taskId);
     }
 
+    @Override
+    public Set<Long> findTaskIdsWithBilling(Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return Set.of();
+        }
+        return billingPeriodTaskRepository.findTaskIdsWithBilling(taskIds);
+    }
+
+    @Override
+    public Set<Long> findAllTaskIdsWithBilling() {
+        return billingPeriodTaskRepository.findAllTaskIdsWithBilling();
+    }
+
     @Override
     public Optional<BillingPeriodTaskResponse> findByTaskId(Long taskId) {
         return billingPeriodTaskRepository.findByTaskId(taskId)
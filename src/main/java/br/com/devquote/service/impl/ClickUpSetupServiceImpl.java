@@ -6,6 +6,7 @@ import br.com.devquote.dto.response.ClickUpSetupFieldsResponse;
 import br.com.devquote.dto.response.ClickUpSetupItemResponse;
 import br.com.devquote.dto.response.ClickUpSetupUserResponse;
 import br.com.devquote.entity.SystemParameter;
+import br.com.devquote.helper.ClickUpParameterHelper;
 import br.com.devquote.repository.SystemParameterRepository;
 import br.com.devquote.service.ClickUpSetupService;
 import br.com.devquote.service.PriorityBoardService;
@@ -36,8 +37,6 @@ import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 @Slf4j
 public class ClickUpSetupServiceImpl implements ClickUpSetupService {
 
-    private static final String API_BASE = "https://api.clickup.com/api/v2";
-
     // Aliases pra auto-detect de fields (case-insensitive)
     private static final List<String> DEV_FIELD_ALIASES = List.of(
             "desenvolvedor", "developer", "dev", "responsável dev", "responsavel dev"
@@ -50,6 +49,7 @@ public class ClickUpSetupServiceImpl implements ClickUpSetupService {
     );
 
     private final RestTemplate clickUpRestTemplate;
+    private final ClickUpParameterHelper clickUpParameterHelper;
     private final SystemParameterService systemParameterService;
     private final SystemParameterRepository systemParameterRepository;
     private final PriorityBoardService priorityBoardService;
@@ -298,7 +298,7 @@ public class ClickUpSetupServiceImpl implements ClickUpSetupService {
             headers.set("Authorization", token);
             HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-            URI uri = URI.create(API_BASE + path);
+            URI uri = URI.create(clickUpParameterHelper.getApiBaseUrl() + path);
             ResponseEntity<Map> response = clickUpRestTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
             Map<String, Object> body = response.getBody();
             if (body == null) {
@@ -1,11 +1,13 @@
 package br.com.devquote.service.impl;
 
 import br.com.devquote.client.clickup.ClickUpClient;
+import br.com.devquote.client.clickup.impl.ClickUpRateLimiter;
 import br.com.devquote.dto.response.SyncPullRequestsResponse;
 import br.com.devquote.entity.Delivery;
 import br.com.devquote.entity.DeliveryItem;
 import br.com.devquote.enums.ClickUpStatusMapping;
 import br.com.devquote.enums.ClickUpStatusOrder;
+import br.com.devquote.enums.DeliveryStatus;
 import br.com.devquote.enums.FlowType;
 import br.com.devquote.error.ResourceNotFoundException;
 import br.com.devquote.helper.ClickUpParameterHelper;
@@ -13,17 +15,26 @@ import br.com.devquote.helper.TaskBoardParameterHelper;
 import br.com.devquote.repository.DeliveryRepository;
 import br.com.devquote.service.ClickUpSyncService;
 import br.com.devquote.service.GitPullRequestSyncService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,11 +47,25 @@ public class ClickUpSyncServiceImpl implements ClickUpSyncService {
     private final ClickUpParameterHelper parameterHelper;
     private final TaskBoardParameterHelper boardConfig;
     private final GitPullRequestSyncService gitPullRequestSyncService;
+    private final ClickUpRateLimiter clickUpRateLimiter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("clickUpTaskExecutor")
+    private final Executor clickUpTaskExecutor;
 
     private static final String PR_BLOCK_HEADER = "Branchs da Entrega";
+    private static final int WRITE_BATCH_SIZE = 50;
 
+    /**
+     * Sync em três fases para não manter conexão/transação aberta durante as chamadas HTTP:
+     * 1) snapshot (id, status, código) das entregas elegíveis numa leitura curta;
+     * 2) chamadas ao ClickUp em paralelo, limitadas por integrations.clickup.max-concurrent-requests
+     *    e pela cota da API ({@link ClickUpRateLimiter});
+     * 3) gravação do status sincronizado em lotes pequenos, cada um na sua transação.
+     * Métricas por execução em devquote.clickup.sync (duração) e devquote.clickup.sync.deliveries{result}.
+     */
     @Override
-    @Transactional
     public void syncDeliveriesToClickUp() {
         long startTime = System.currentTimeMillis();
         log.info("=== INICIO: Sincronizacao ClickUp ===");
@@ -50,7 +75,7 @@ public class ClickUpSyncServiceImpl implements ClickUpSyncService {
             return;
         }
 
-        List<Delivery> eligibleDeliveries = deliveryRepository.findEligibleForClickUpSync(
+        List<Object[]> eligibleDeliveries = deliveryRepository.findEligibleForClickUpSync(
                 FlowType.DESENVOLVIMENTO.name()
         );
 
@@ -62,35 +87,29 @@ public class ClickUpSyncServiceImpl implements ClickUpSyncService {
             return;
         }
 
-        AtomicInteger updatedCount = new AtomicInteger(0);
-        AtomicInteger errorCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        for (Delivery delivery : eligibleDeliveries) {
-            String taskCode = delivery.getTask() != null ? delivery.getTask().getCode() : null;
-
-            log.info("[PROCESSANDO] Delivery ID: {}, Task Code: {}",
-                    delivery.getId(), taskCode != null ? taskCode : "N/A");
-
-            try {
-                String statusAnterior = delivery.getClickupLastSyncedStatus();
-                boolean updated = processDelivery(delivery);
-
-                if (updated) {
-                    updatedCount.incrementAndGet();
-                } else {
-                    skippedCount.incrementAndGet();
-                }
-            } catch (Exception e) {
-                errorCount.incrementAndGet();
-                log.error("[ERRO] Delivery ID: {}, Task Code: {} | Motivo: {}",
-                        delivery.getId(), taskCode != null ? taskCode : "N/A", e.getMessage());
-            }
-        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long callsBefore = clickUpRateLimiter.getRequestCount();
+        long throttlesBefore = clickUpRateLimiter.getThrottledCount();
+
+        List<SyncOutcome> outcomes = syncRemote(eligibleDeliveries);
+        int written = applyOutcomes(outcomes);
+
+        sample.stop(Timer.builder("devquote.clickup.sync").register(meterRegistry));
+        Map<SyncResult, Long> totals = outcomes.stream()
+                .collect(Collectors.groupingBy(SyncOutcome::result, () -> new EnumMap<>(SyncResult.class), Collectors.counting()));
+        totals.forEach((result, count) -> Counter.builder("devquote.clickup.sync.deliveries")
+                .tag("result", result.name().toLowerCase())
+                .register(meterRegistry)
+                .increment(count));
 
         long duration = System.currentTimeMillis() - startTime;
-        log.info("=== FIM: Sincronizacao ClickUp | Atualizados: {}, Erros: {}, Pulados: {}, Total: {} ({}ms) ===",
-                updatedCount.get(), errorCount.get(), skippedCount.get(), eligibleDeliveries.size(), duration);
+        log.info("=== FIM: Sincronizacao ClickUp | Atualizados: {}, Preservados: {}, Erros: {}, Pulados: {}, Total: {}, "
+                        + "Gravados: {}, Chamadas: {}, Throttles: {} ({}ms) ===",
+                totals.getOrDefault(SyncResult.UPDATED, 0L), totals.getOrDefault(SyncResult.PRESERVED, 0L),
+                totals.getOrDefault(SyncResult.FAILED, 0L), totals.getOrDefault(SyncResult.SKIPPED, 0L),
+                eligibleDeliveries.size(), written,
+                clickUpRateLimiter.getRequestCount() - callsBefore,
+                clickUpRateLimiter.getThrottledCount() - throttlesBefore, duration);
     }
 
     @Override
@@ -114,64 +133,105 @@ public class ClickUpSyncServiceImpl implements ClickUpSyncService {
 
     private boolean processDelivery(Delivery delivery) {
         String taskCode = delivery.getTask() != null ? delivery.getTask().getCode() : null;
+        SyncOutcome outcome = syncDelivery(delivery.getId(), delivery.getStatus(), taskCode);
 
-        if (delivery.getTask() == null) {
-            log.info("[PULADO] Delivery ID: {} | Motivo: Task nao associada", delivery.getId());
-            return false;
+        if (outcome.syncedStatus() != null) {
+            delivery.setClickupLastSyncedStatus(outcome.syncedStatus());
+            delivery.setClickupSyncedAt(outcome.syncedAt());
+            deliveryRepository.save(delivery);
         }
+        return outcome.result() == SyncResult.UPDATED;
+    }
+
+    /**
+     * Fase 2: uma tarefa por entrega no pool compartilhado do ClickUp; falhas viram resultado FAILED sem interromper as demais.
+     */
+    private List<SyncOutcome> syncRemote(List<Object[]> deliveries) {
+        List<CompletableFuture<SyncOutcome>> futures = deliveries.stream()
+                .map(row -> {
+                    Long deliveryId = ((Number) row[0]).longValue();
+                    DeliveryStatus status = DeliveryStatus.fromString((String) row[1]);
+                    String taskCode = (String) row[2];
+                    return CompletableFuture.supplyAsync(() -> syncDeliveryQuietly(deliveryId, status, taskCode), clickUpTaskExecutor);
+                })
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
 
+    private SyncOutcome syncDeliveryQuietly(Long deliveryId, DeliveryStatus status, String taskCode) {
+        log.info("[PROCESSANDO] Delivery ID: {}, Task Code: {}", deliveryId, taskCode != null ? taskCode : "N/A");
+        try {
+            return syncDelivery(deliveryId, status, taskCode);
+        } catch (Exception e) {
+            log.error("[ERRO] Delivery ID: {}, Task Code: {} | Motivo: {}",
+                    deliveryId, taskCode != null ? taskCode : "N/A", e.getMessage());
+            return SyncOutcome.of(deliveryId, SyncResult.FAILED);
+        }
+    }
+
+    /**
+     * Fase 3: grava o status sincronizado em lotes, cada lote em uma transação curta.
+     */
+    private int applyOutcomes(List<SyncOutcome> outcomes) {
+        List<Object[]> rows = outcomes.stream()
+                .filter(outcome -> outcome.syncedStatus() != null)
+                .map(outcome -> new Object[]{outcome.syncedStatus(), Timestamp.valueOf(outcome.syncedAt()), outcome.deliveryId()})
+                .toList();
+
+        for (int from = 0; from < rows.size(); from += WRITE_BATCH_SIZE) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + WRITE_BATCH_SIZE, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE delivery SET clickup_last_synced_status = ?, clickup_synced_at = ? WHERE id = ?", batch));
+        }
+        return rows.size();
+    }
+
+    private SyncOutcome syncDelivery(Long deliveryId, DeliveryStatus deliveryStatus, String taskCode) {
         if (taskCode == null || taskCode.trim().isEmpty()) {
-            log.info("[PULADO] Delivery ID: {} | Motivo: Task sem codigo ClickUp", delivery.getId());
-            return false;
+            log.info("[PULADO] Delivery ID: {} | Motivo: Task sem codigo ClickUp", deliveryId);
+            return SyncOutcome.of(deliveryId, SyncResult.SKIPPED);
         }
 
-        if (!ClickUpStatusMapping.isSyncableStatus(delivery.getStatus())) {
+        if (!ClickUpStatusMapping.isSyncableStatus(deliveryStatus)) {
             log.info("[PULADO] Delivery ID: {}, Task Code: {} | Motivo: Status {} nao sincronizavel",
-                    delivery.getId(), taskCode, delivery.getStatus());
-            return false;
+                    deliveryId, taskCode, deliveryStatus);
+            return SyncOutcome.of(deliveryId, SyncResult.SKIPPED);
         }
 
-        String newClickUpStatus = ClickUpStatusMapping.fromDeliveryStatus(delivery.getStatus());
+        String newClickUpStatus = ClickUpStatusMapping.fromDeliveryStatus(deliveryStatus);
         if (newClickUpStatus == null) {
             log.info("[PULADO] Delivery ID: {}, Task Code: {} | Motivo: Nao foi possivel mapear status {}",
-                    delivery.getId(), taskCode, delivery.getStatus());
-            return false;
+                    deliveryId, taskCode, deliveryStatus);
+            return SyncOutcome.of(deliveryId, SyncResult.SKIPPED);
         }
 
         String currentClickUpStatus = clickUpClient.getTaskStatus(taskCode);
         if (currentClickUpStatus == null) {
             log.warn("[PULADO] Delivery ID: {}, Task Code: {} | Motivo: Nao foi possivel obter status atual do ClickUp",
-                    delivery.getId(), taskCode);
-            return false;
+                    deliveryId, taskCode);
+            return SyncOutcome.of(deliveryId, SyncResult.SKIPPED);
         }
 
         if (!ClickUpStatusOrder.canAdvanceTo(currentClickUpStatus, newClickUpStatus)) {
             log.info("[PRESERVADO] Delivery ID: {}, Task Code: {} | Status ClickUp atual '{}' esta mais avancado que '{}'. Nao sera regredido.",
-                    delivery.getId(), taskCode, currentClickUpStatus, newClickUpStatus);
-            delivery.setClickupLastSyncedStatus(currentClickUpStatus);
-            delivery.setClickupSyncedAt(LocalDateTime.now());
-            deliveryRepository.save(delivery);
-            return false;
+                    deliveryId, taskCode, currentClickUpStatus, newClickUpStatus);
+            return new SyncOutcome(deliveryId, SyncResult.PRESERVED, currentClickUpStatus, LocalDateTime.now());
         }
 
         boolean success = clickUpClient.updateTaskStatus(taskCode, newClickUpStatus);
 
         if (success) {
-            delivery.setClickupLastSyncedStatus(newClickUpStatus);
-            delivery.setClickupSyncedAt(LocalDateTime.now());
-            deliveryRepository.save(delivery);
-
             // PRs NÃO são propagados aqui automaticamente — sync de PR é manual,
             // disparado pelo botão "Atualizar Branch" em /deliveries (endpoint próprio).
 
             log.info("[SUCESSO] Delivery ID: {}, Task Code: {} | Status: '{}' -> '{}'",
-                    delivery.getId(), taskCode, currentClickUpStatus, newClickUpStatus);
-            return true;
+                    deliveryId, taskCode, currentClickUpStatus, newClickUpStatus);
+            return new SyncOutcome(deliveryId, SyncResult.UPDATED, newClickUpStatus, LocalDateTime.now());
         }
 
         log.error("[ERRO] Delivery ID: {}, Task Code: {} | Motivo: Falha na API do ClickUp",
-                delivery.getId(), taskCode);
-        return false;
+                deliveryId, taskCode);
+        return SyncOutcome.of(deliveryId, SyncResult.FAILED);
     }
 
     /**
@@ -303,4 +363,18 @@ public class ClickUpSyncServiceImpl implements ClickUpSyncService {
         if (commentCreated) sb.append(" Comentario publicado.");
         return sb.toString();
     }
+
+    private enum SyncResult {
+        UPDATED, PRESERVED, SKIPPED, FAILED
+    }
+
+    /**
+     * Resultado da fase remota; syncedStatus preenchido quando o status do ClickUp deve ser gravado na entrega.
+     */
+    private record SyncOutcome(Long deliveryId, SyncResult result, String syncedStatus, LocalDateTime syncedAt) {
+
+        static SyncOutcome of(Long deliveryId, SyncResult result) {
+            return new SyncOutcome(deliveryId, result, null, null);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import br.com.devquote.repository.TaskRepository;
 import br.com.devquote.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
@@ -19,6 +20,8 @@ public class DashboardServiceImpl implements DashboardService {
     private final TaskRepository taskRepository;
     private final DeliveryRepository deliveryRepository;
 
+    private static final int RECENT_PER_TYPE = 5;
+
     @Override
     public DashboardStatsResponse getDashboardStats(Authentication authentication) {
         return DashboardStatsResponse.builder()
@@ -28,49 +31,31 @@ public class DashboardServiceImpl implements DashboardService {
 
     private List<DashboardStatsResponse.RecentActivity> buildRecentActivities() {
         List<DashboardStatsResponse.RecentActivity> activities = new ArrayList<>();
+        PageRequest topN = PageRequest.of(0, RECENT_PER_TYPE);
 
-        var recentTasks = taskRepository.findAll().stream()
-                .sorted((t1, t2) -> {
-                    LocalDateTime time1 = t1.getUpdatedAt() != null ? t1.getUpdatedAt() : t1.getCreatedAt();
-                    LocalDateTime time2 = t2.getUpdatedAt() != null ? t2.getUpdatedAt() : t2.getCreatedAt();
-                    return time2.compareTo(time1);
-                })
-                .limit(5)
-                .toList();
-
-        for (var task : recentTasks) {
-            LocalDateTime activityTime = task.getUpdatedAt() != null ? task.getUpdatedAt() : task.getCreatedAt();
-            String userName = task.getUpdatedBy() != null ? task.getUpdatedBy().getUsername()
-                    : task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : "Sistema";
+        for (Object[] row : taskRepository.findRecentActivity(topN)) {
+            LocalDateTime activityTime = (LocalDateTime) row[2];
+            String userName = row[3] != null ? (String) row[3] : "Sistema";
 
             activities.add(DashboardStatsResponse.RecentActivity.builder()
                     .type("TASK")
-                    .description("Tarefa: " + task.getTitle())
+                    .description("Tarefa: " + row[1])
                     .user(userName)
                     .timestamp(activityTime.toString())
-                    .entityId(task.getId().toString())
+                    .entityId(row[0].toString())
                     .build());
         }
 
-        var recentDeliveries = deliveryRepository.findAll().stream()
-                .sorted((d1, d2) -> {
-                    LocalDateTime time1 = d1.getUpdatedAt() != null ? d1.getUpdatedAt() : d1.getCreatedAt();
-                    LocalDateTime time2 = d2.getUpdatedAt() != null ? d2.getUpdatedAt() : d2.getCreatedAt();
-                    return time2.compareTo(time1);
-                })
-                .limit(5)
-                .toList();
-
-        for (var delivery : recentDeliveries) {
-            LocalDateTime activityTime = delivery.getUpdatedAt() != null ? delivery.getUpdatedAt() : delivery.getCreatedAt();
-            String deliveryTitle = delivery.getTask() != null ? delivery.getTask().getTitle() : "Entrega #" + delivery.getId();
+        for (Object[] row : deliveryRepository.findRecentActivity(topN)) {
+            LocalDateTime activityTime = (LocalDateTime) row[3];
+            String deliveryTitle = row[1] != null ? (String) row[1] : "Entrega #" + row[0];
 
             activities.add(DashboardStatsResponse.RecentActivity.builder()
                     .type("DELIVERY")
-                    .description("Entrega: " + deliveryTitle + " - Status: " + delivery.getStatus())
+                    .description("Entrega: " + deliveryTitle + " - Status: " + row[2])
                     .user("Sistema")
                     .timestamp(activityTime.toString())
-                    .entityId(delivery.getId().toString())
+                    .entityId(row[0].toString())
                     .build());
         }
 
@@ -9,8 +9,6 @@ import br.com.devquote.service.DeliveryItemAttachmentService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -97,20 +95,6 @@ public class DeliveryItemAttachmentServiceImpl implements DeliveryItemAttachment
         return deliveryItemAttachmentAdapter.toResponse(attachment);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Resource downloadAttachment(Long attachmentId) {
-        DeliveryItemAttachment attachment = deliveryItemAttachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new RuntimeException("Anexo não encontrado com ID: " + attachmentId));
-
-        try {
-            return new InputStreamResource(fileStorageStrategy.getFileStream(attachment.getFilePath()));
-        } catch (IOException e) {
-            log.error("Error downloading attachment {}: {}", attachmentId, e.getMessage());
-            throw new RuntimeException("Falha ao baixar anexo: " + e.getMessage());
-        }
-    }
-
     @Override
     public void deleteAttachment(Long attachmentId) {
         DeliveryItemAttachment attachment = deliveryItemAttachmentRepository.findById(attachmentId)
@@ -8,6 +8,7 @@ import br.com.devquote.entity.DeliveryItem;
 import br.com.devquote.entity.DeliveryItemAttachment;
 import br.com.devquote.entity.Project;
 import br.com.devquote.enums.DeliveryStatus;
+import br.com.devquote.helper.DeliveryProgressHelper;
 import br.com.devquote.repository.DeliveryItemAttachmentRepository;
 import br.com.devquote.repository.DeliveryItemRepository;
 import br.com.devquote.repository.DeliveryRepository;
@@ -17,6 +18,7 @@ import br.com.devquote.service.EmailService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
@@ -28,6 +30,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -44,6 +49,7 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
     private final DeliveryRepository deliveryRepository;
     private final ProjectRepository projectRepository;
     private final FileStorageStrategy fileStorageStrategy;
+    private final DeliveryProgressHelper deliveryProgressHelper;
 
     @Override
     public List<DeliveryItemResponse> findAll() {
@@ -65,7 +71,7 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
     public DeliveryItemResponse create(DeliveryItemRequest dto) {
         log.debug("Creating delivery item: {}", dto);
 
-        Delivery delivery = deliveryRepository.findById(dto.getDeliveryId())
+        Delivery delivery = deliveryRepository.findWithoutItemsById(dto.getDeliveryId())
                 .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + dto.getDeliveryId()));
 
         Project project = projectRepository.findById(dto.getProjectId())
@@ -84,11 +90,9 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
 
         item = deliveryItemRepository.save(item);
 
-        delivery.updateStatus();
-        delivery.updateDates();
+        deliveryProgressHelper.itemChanged(delivery, null, item.getStatus());
         deliveryRepository.save(delivery);
 
-
         log.debug("DeliveryItem created with id: {}", item.getId());
         return DeliveryItemAdapter.toResponseDTO(item);
     }
@@ -101,9 +105,12 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
         DeliveryItem item = deliveryItemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("DeliveryItem not found with id: " + id));
 
+        Delivery previousDelivery = item.getDelivery();
+        DeliveryStatus previousStatus = item.getStatus();
+
         Delivery delivery = null;
         if (!item.getDelivery().getId().equals(dto.getDeliveryId())) {
-            delivery = deliveryRepository.findById(dto.getDeliveryId())
+            delivery = deliveryRepository.findWithoutItemsById(dto.getDeliveryId())
                     .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + dto.getDeliveryId()));
         }
 
@@ -121,9 +128,7 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
 
         item = deliveryItemRepository.save(item);
 
-        item.getDelivery().updateStatus();
-        item.getDelivery().updateDates();
-        deliveryRepository.save(item.getDelivery());
+        applyItemChange(previousDelivery, previousStatus, item);
 
         log.debug("DeliveryItem updated with id: {}", item.getId());
         return DeliveryItemAdapter.toResponseDTO(item);
@@ -137,8 +142,6 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
         DeliveryItem item = deliveryItemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("DeliveryItem not found with id: " + id));
 
-        Long deliveryId = item.getDelivery().getId();
-
         List<DeliveryItemAttachment> attachments = deliveryItemAttachmentRepository.findByDeliveryItemId(id);
         for (DeliveryItemAttachment attachment : attachments) {
             try {
@@ -153,15 +156,11 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
         }
 
         Delivery delivery = item.getDelivery();
-        delivery.removeItem(item);
+        detachFromLoadedItems(delivery, item);
 
         deliveryItemRepository.delete(item);
 
-        delivery = deliveryRepository.findById(deliveryId)
-                .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + deliveryId));
-
-        delivery.updateStatus();
-        delivery.updateDates();
+        deliveryProgressHelper.itemChanged(delivery, item.getStatus(), null);
         deliveryRepository.save(delivery);
 
         log.info("Delivery item deleted successfully: {}", id);
@@ -177,23 +176,20 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
             throw new RuntimeException("Some delivery items not found");
         }
 
-        var affectedDeliveryIds = items.stream()
-                .map(item -> item.getDelivery().getId())
-                .distinct()
-                .toList();
-
+        Map<Long, Delivery> affectedDeliveries = new LinkedHashMap<>();
+        Map<Long, Map<DeliveryStatus, Integer>> deltas = new HashMap<>();
         items.forEach(item -> {
             Delivery delivery = item.getDelivery();
-            delivery.getItems().remove(item);
+            detachFromLoadedItems(delivery, item);
+            DeliveryProgressHelper.addChange(countDeltas(deltas, delivery), item.getStatus(), null);
+            affectedDeliveries.putIfAbsent(delivery.getId(), delivery);
         });
 
         deliveryItemRepository.deleteAll(items);
 
-        affectedDeliveryIds.forEach(deliveryId -> {
-            Delivery delivery = deliveryRepository.findById(deliveryId)
-                    .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + deliveryId));
-            delivery.updateStatus();
-            delivery.updateDates();
+        affectedDeliveries.values().forEach(delivery -> {
+            deliveryProgressHelper.applyCountChanges(delivery, deltas.get(delivery.getId()));
+            deliveryProgressHelper.refreshDates(delivery);
             deliveryRepository.save(delivery);
         });
 
@@ -296,7 +292,7 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
     public List<DeliveryItemResponse> createMultipleItems(Long deliveryId, List<DeliveryItemRequest> items) {
         log.debug("Creating multiple delivery items for delivery: {}", deliveryId);
 
-        Delivery delivery = deliveryRepository.findById(deliveryId)
+        Delivery delivery = deliveryRepository.findWithoutItemsById(deliveryId)
                 .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + deliveryId));
 
         List<DeliveryItem> createdItems = new ArrayList<>();
@@ -326,11 +322,12 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
 
         createdItems = deliveryItemRepository.saveAll(createdItems);
 
-        delivery.updateStatus();
-        delivery.updateDates();
+        Map<DeliveryStatus, Integer> deltas = new EnumMap<>(DeliveryStatus.class);
+        createdItems.forEach(item -> DeliveryProgressHelper.addChange(deltas, null, item.getStatus()));
+        deliveryProgressHelper.applyCountChanges(delivery, deltas);
+        deliveryProgressHelper.refreshDates(delivery);
         deliveryRepository.save(delivery);
 
-
         log.debug("Created {} delivery items for delivery: {}", createdItems.size(), deliveryId);
         return DeliveryItemAdapter.toResponseDTOList(createdItems);
     }
@@ -345,6 +342,10 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
         }
 
         List<DeliveryItem> updatedItems = new ArrayList<>();
+        // Estado anterior por id do item, para ajustar os contadores das entregas de origem e destino
+        Map<Long, Delivery> previousDeliveries = new LinkedHashMap<>();
+        Map<Long, DeliveryStatus> previousStatuses = new LinkedHashMap<>();
+        Map<Long, DeliveryItem> updatedById = new LinkedHashMap<>();
 
         for (int i = 0; i < itemIds.size(); i++) {
             Long itemId = itemIds.get(i);
@@ -353,9 +354,12 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
             DeliveryItem item = deliveryItemRepository.findById(itemId)
                     .orElseThrow(() -> new RuntimeException("DeliveryItem not found with id: " + itemId));
 
+            previousDeliveries.putIfAbsent(itemId, item.getDelivery());
+            previousStatuses.putIfAbsent(itemId, item.getStatus());
+
             Delivery delivery = null;
             if (!item.getDelivery().getId().equals(itemDto.getDeliveryId())) {
-                delivery = deliveryRepository.findById(itemDto.getDeliveryId())
+                delivery = deliveryRepository.findWithoutItemsById(itemDto.getDeliveryId())
                         .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + itemDto.getDeliveryId()));
             }
 
@@ -372,18 +376,24 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
             }
 
             updatedItems.add(item);
+            updatedById.put(itemId, item);
         }
 
-        updatedItems = deliveryItemRepository.saveAll(updatedItems);
+        Map<Long, Delivery> affectedDeliveries = new LinkedHashMap<>();
+        Map<Long, Map<DeliveryStatus, Integer>> deltas = new HashMap<>();
+        previousDeliveries.forEach((itemId, previousDelivery) -> {
+            DeliveryItem item = updatedById.get(itemId);
+            DeliveryProgressHelper.addChange(countDeltas(deltas, previousDelivery), previousStatuses.get(itemId), null);
+            DeliveryProgressHelper.addChange(countDeltas(deltas, item.getDelivery()), null, item.getStatus());
+            affectedDeliveries.putIfAbsent(previousDelivery.getId(), previousDelivery);
+            affectedDeliveries.putIfAbsent(item.getDelivery().getId(), item.getDelivery());
+        });
 
-        var affectedDeliveries = updatedItems.stream()
-                .map(DeliveryItem::getDelivery)
-                .distinct()
-                .toList();
+        updatedItems = deliveryItemRepository.saveAll(updatedItems);
 
-        affectedDeliveries.forEach(delivery -> {
-            delivery.updateStatus();
-            delivery.updateDates();
+        affectedDeliveries.values().forEach(delivery -> {
+            deliveryProgressHelper.applyCountChanges(delivery, deltas.get(delivery.getId()));
+            deliveryProgressHelper.refreshDates(delivery);
             deliveryRepository.save(delivery);
         });
 
@@ -408,6 +418,35 @@ public class DeliveryItemServiceImpl implements DeliveryItemService {
         deliveryItemRepository.saveAll(entities.values());
     }
 
+    /**
+     * Atualiza contadores e período das entregas afetadas por um item alterado, inclusive quando ele
+     * foi movido para outra entrega.
+     */
+    private void applyItemChange(Delivery previousDelivery, DeliveryStatus previousStatus, DeliveryItem item) {
+        Delivery currentDelivery = item.getDelivery();
+        if (!previousDelivery.getId().equals(currentDelivery.getId())) {
+            deliveryProgressHelper.itemChanged(previousDelivery, previousStatus, null);
+            deliveryRepository.save(previousDelivery);
+            deliveryProgressHelper.itemChanged(currentDelivery, null, item.getStatus());
+        } else {
+            deliveryProgressHelper.itemChanged(currentDelivery, previousStatus, item.getStatus());
+        }
+        deliveryRepository.save(currentDelivery);
+    }
+
+    private static Map<DeliveryStatus, Integer> countDeltas(Map<Long, Map<DeliveryStatus, Integer>> deltas, Delivery delivery) {
+        return deltas.computeIfAbsent(delivery.getId(), k -> new EnumMap<>(DeliveryStatus.class));
+    }
+
+    /**
+     * Tira o item da coleção da entrega apenas se ela já estiver carregada, para o cascade não regravá-lo.
+     */
+    private void detachFromLoadedItems(Delivery delivery, DeliveryItem item) {
+        if (Hibernate.isInitialized(delivery.getItems())) {
+            delivery.getItems().remove(item);
+        }
+    }
+
     @Override
     public byte[] exportToExcel() throws IOException {
         log.debug("Exporting delivery items to Excel");
@@ -9,8 +9,6 @@ import br.com.devquote.service.DeliveryOperationalAttachmentService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -105,15 +103,6 @@ public class DeliveryOperationalAttachmentServiceImpl implements DeliveryOperati
         }
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Resource downloadFile(Long id) throws IOException {
-        DeliveryOperationalAttachment attachment = attachmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Anexo não encontrado com ID: " + id));
-
-        return new InputStreamResource(fileStorageStrategy.getFileStream(attachment.getFilePath()));
-    }
-
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new RuntimeException("Arquivo não pode estar vazio");
@@ -8,6 +8,7 @@ import br.com.devquote.entity.DeliveryOperationalAttachment;
 import br.com.devquote.entity.DeliveryOperationalItem;
 import br.com.devquote.enums.OperationalItemStatus;
 import br.com.devquote.error.ResourceNotFoundException;
+import br.com.devquote.helper.DeliveryProgressHelper;
 import br.com.devquote.repository.DeliveryOperationalAttachmentRepository;
 import br.com.devquote.repository.DeliveryOperationalItemRepository;
 import br.com.devquote.repository.DeliveryRepository;
@@ -15,6 +16,7 @@ import br.com.devquote.service.DeliveryOperationalItemService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
@@ -32,13 +34,14 @@ public class DeliveryOperationalItemServiceImpl implements DeliveryOperationalIt
     private final DeliveryOperationalAttachmentRepository attachmentRepository;
     private final DeliveryRepository deliveryRepository;
     private final FileStorageStrategy fileStorageStrategy;
+    private final DeliveryProgressHelper deliveryProgressHelper;
 
     @Override
     @Transactional
     public DeliveryOperationalItemResponse create(DeliveryOperationalItemRequest request) {
         log.debug("Creating operational item for delivery: {}", request.getDeliveryId());
 
-        Delivery delivery = deliveryRepository.findById(request.getDeliveryId())
+        Delivery delivery = deliveryRepository.findWithoutItemsById(request.getDeliveryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Delivery not found"));
 
         Integer sortOrder = request.getSortOrder();
@@ -63,8 +66,7 @@ public class DeliveryOperationalItemServiceImpl implements DeliveryOperationalIt
 
         DeliveryOperationalItem saved = operationalItemRepository.save(item);
 
-        delivery.updateStatus();
-        delivery.updateDates();
+        deliveryProgressHelper.operationalItemChanged(delivery, null, saved.getStatus());
         deliveryRepository.save(delivery);
 
         return toResponse(saved);
@@ -78,6 +80,8 @@ public class DeliveryOperationalItemServiceImpl implements DeliveryOperationalIt
         DeliveryOperationalItem item = operationalItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Operational item not found"));
 
+        OperationalItemStatus previousStatus = item.getStatus();
+
         item.setTitle(request.getTitle());
         item.setDescription(request.getDescription());
         item.setStatus(OperationalItemStatus.fromString(request.getStatus()));
@@ -93,8 +97,7 @@ public class DeliveryOperationalItemServiceImpl implements DeliveryOperationalIt
 
         DeliveryOperationalItem updated = operationalItemRepository.save(item);
 
-        item.getDelivery().updateStatus();
-        item.getDelivery().updateDates();
+        deliveryProgressHelper.operationalItemChanged(item.getDelivery(), previousStatus, updated.getStatus());
         deliveryRepository.save(item.getDelivery());
 
         return toResponse(updated);
@@ -137,12 +140,14 @@ public class DeliveryOperationalItemServiceImpl implements DeliveryOperationalIt
             log.info("Attachment deleted from database: {}", attachment.getOriginalName());
         }
 
-        delivery.removeOperationalItem(item);
+        // Só mexe na coleção se já estiver carregada, para o cascade não regravar o item removido
+        if (Hibernate.isInitialized(delivery.getOperationalItems())) {
+            delivery.getOperationalItems().remove(item);
+        }
 
         operationalItemRepository.delete(item);
 
-        delivery.updateStatus();
-        delivery.updateDates();
+        deliveryProgressHelper.operationalItemChanged(delivery, item.getStatus(), null);
         deliveryRepository.save(delivery);
 
         log.info("Operational item deleted successfully: {}", id);
@@ -1,12 +1,19 @@
 package br.com.devquote.service.impl;
 import br.com.devquote.adapter.DeliveryAdapter;
+import br.com.devquote.adapter.DeliveryItemAdapter;
 import br.com.devquote.dto.request.DeliveryRequest;
+import br.com.devquote.dto.response.CursorPagedResponse;
 import br.com.devquote.dto.response.DeliveryResponse;
 import br.com.devquote.dto.response.DeliveryGroupResponse;
+import br.com.devquote.dto.response.DeliveryItemResponse;
 import br.com.devquote.dto.response.DeliveryStatusCount;
+import br.com.devquote.dto.response.DeliveryStatusRecalculationResponse;
 import br.com.devquote.entity.*;
 import br.com.devquote.enums.DeliveryStatus;
 import br.com.devquote.enums.Environment;
+import br.com.devquote.enums.OperationalItemStatus;
+import br.com.devquote.helper.DeliveryProgressHelper;
+import br.com.devquote.repository.DeliveryItemRepository;
 import br.com.devquote.repository.DeliveryRepository;
 import br.com.devquote.repository.ProjectRepository;
 import br.com.devquote.repository.TaskRepository;
@@ -15,22 +22,31 @@ import br.com.devquote.service.DeliveryAttachmentService;
 import br.com.devquote.service.DeliveryItemAttachmentService;
 import br.com.devquote.service.DeliveryOperationalAttachmentService;
 import br.com.devquote.service.EmailService;
-import br.com.devquote.service.storage.FileStorageStrategy;
+import br.com.devquote.utils.ExcelReportDefinitions;
 import br.com.devquote.utils.ExcelReportUtils;
+import br.com.devquote.utils.KeysetCursor;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -39,6 +55,7 @@ import java.util.stream.Collectors;
 public class DeliveryServiceImpl implements DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
+    private final DeliveryItemRepository deliveryItemRepository;
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final EntityManager entityManager;
@@ -47,7 +64,17 @@ public class DeliveryServiceImpl implements DeliveryService {
     private final DeliveryAttachmentService deliveryAttachmentService;
     private final DeliveryItemAttachmentService deliveryItemAttachmentService;
     private final DeliveryOperationalAttachmentService deliveryOperationalAttachmentService;
-    private final FileStorageStrategy fileStorageStrategy;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DeliveryProgressHelper deliveryProgressHelper;
+
+    private static final int STATUS_RECALC_CHUNK_SIZE = 500;
+
+    // Mesma ordem das colunas de contadores em findStatusCountersAfter e no UPDATE de correção
+    private static final DeliveryStatus[] COUNTER_STATUSES = {
+            DeliveryStatus.PENDING, DeliveryStatus.DEVELOPMENT, DeliveryStatus.DELIVERED, DeliveryStatus.HOMOLOGATION,
+            DeliveryStatus.APPROVED, DeliveryStatus.REJECTED, DeliveryStatus.PRODUCTION, DeliveryStatus.CANCELLED
+    };
 
     @Override
     public List<DeliveryResponse> findAll() {
@@ -118,6 +145,7 @@ public class DeliveryServiceImpl implements DeliveryService {
 
             entity.updateDates();
             entity = deliveryRepository.save(entity);
+            deliveryProgressHelper.recount(entity);
         }
 
         return DeliveryAdapter.toResponseDTO(entity);
@@ -163,8 +191,10 @@ public class DeliveryServiceImpl implements DeliveryService {
             });
         }
 
+        // Itens substituídos por completo: recontagem a partir dos itens gravados
         entity.updateDates();
         entity = deliveryRepository.save(entity);
+        deliveryProgressHelper.recount(entity);
 
         return DeliveryAdapter.toResponseDTO(entity);
     }
@@ -192,63 +222,6 @@ public class DeliveryServiceImpl implements DeliveryService {
                 })
                 .orElseThrow(() -> new RuntimeException("Delivery not found"));
 
-        Map<String, byte[]> attachmentDataMap = new HashMap<>();
-
-        try {
-            List<DeliveryAttachment> deliveryAttachments = deliveryAttachmentService.getDeliveryAttachmentsEntities(id);
-            if (deliveryAttachments != null && !deliveryAttachments.isEmpty()) {
-                for (DeliveryAttachment attachment : deliveryAttachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put("delivery_" + attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download delivery attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
-                }
-            }
-
-            List<DeliveryItemAttachment> itemAttachments = deliveryItemAttachmentService.getDeliveryItemAttachmentsEntitiesByDeliveryId(id);
-            if (itemAttachments != null && !itemAttachments.isEmpty()) {
-                for (DeliveryItemAttachment attachment : itemAttachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put("item_" + attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download item attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
-                }
-            }
-
-            List<DeliveryOperationalAttachment> operationalAttachments = deliveryOperationalAttachmentService.getOperationalAttachmentsEntitiesByDeliveryId(id);
-            if (operationalAttachments != null && !operationalAttachments.isEmpty()) {
-                for (DeliveryOperationalAttachment attachment : operationalAttachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put("operational_" + attachment.getOriginalName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download operational attachment {} from S3: {}", attachment.getOriginalName(), e.getMessage());
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error accessing attachments from database: {}", e.getMessage());
-        }
-
         try {
             deliveryAttachmentService.deleteAllDeliveryAttachmentsAndFolder(id);
             deliveryItemAttachmentService.deleteAllDeliveryItemAttachmentsByDeliveryId(id);
@@ -448,6 +421,7 @@ public class DeliveryServiceImpl implements DeliveryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DeliveryGroupResponse> findAllGroupedByTask(Long taskId,
                                                              String taskName,
                                                              String taskCode,
@@ -488,51 +462,138 @@ public class DeliveryServiceImpl implements DeliveryService {
             return idsPage.map(id -> null);
         }
 
-        List<Delivery> deliveries = deliveryRepository.findByIdsWithEntityGraph(idsPage.getContent());
+        List<DeliveryGroupResponse> responses = findGroupSummaries(idsPage.getContent());
 
-        List<DeliveryGroupResponse> responses = deliveries.stream().map(delivery -> {
-            Task task = null;
-            if (delivery.getTask() != null) {
-                task = delivery.getTask();
-                task.getId();
-            }
+        return new PageImpl<>(responses, pageable, idsPage.getTotalElements());
+    }
 
-            String calculatedStatus = "PENDING";
-            int totalItems = 0;
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<DeliveryGroupResponse> findAllGroupedByTaskByCursor(Long taskId,
+                                                                                 String taskName,
+                                                                                 String taskCode,
+                                                                                 String flowType,
+                                                                                 String taskType,
+                                                                                 String environment,
+                                                                                 String status,
+                                                                                 String startDate,
+                                                                                 String endDate,
+                                                                                 String cursor,
+                                                                                 int size) {
+
+        // Uma entrega por tarefa: o cursor guarda o id da última tarefa entregue (ordem t.id DESC)
+        KeysetCursor position = KeysetCursor.decode(cursor, KeysetCursor.SORT_ID);
+        DeliveryStatus statusEnum = convertStatusStringToEnum(status);
 
-            if (delivery.getItems() != null && !delivery.getItems().isEmpty()) {
-                totalItems += delivery.getItems().size();
-            }
+        List<Long> ids = deliveryRepository.findIdsByKeyset(
+                taskId, taskName, taskCode, flowType, taskType, environment, statusEnum, startDate, endDate,
+                position.getId(), PageRequest.of(0, size + 1)
+        );
 
-            if (delivery.getOperationalItems() != null && !delivery.getOperationalItems().isEmpty()) {
-                totalItems += delivery.getOperationalItems().size();
-            }
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return new CursorPagedResponse<>(List.of(), size, null, false);
+        }
 
-            if (totalItems > 0) {
-                delivery.updateStatus();
-                calculatedStatus = delivery.getStatus().name();
-            }
+        List<DeliveryGroupResponse> responses = findGroupSummaries(pageIds);
 
-            return DeliveryGroupResponse.builder()
-                    .taskId(task != null ? task.getId() : null)
-                    .taskName(task != null ? task.getTitle() : null)
-                    .taskCode(task != null ? task.getCode() : null)
-                    .taskType(task != null ? task.getTaskType() : null)
-                    .taskLink(task != null ? task.getLink() : null)
-                    .deliveryStatus(calculatedStatus)
-                    .calculatedDeliveryStatus(calculatedStatus)
-                    .totalItems(totalItems)
-                    .taskValue(task != null ? task.getAmount() : null)
-                    .createdAt(delivery.getCreatedAt())
-                    .updatedAt(delivery.getUpdatedAt())
-                    .totalDeliveries(1)
-                    .completedDeliveries(0)
-                    .pendingDeliveries(0)
-                    .deliveries(List.of(DeliveryAdapter.toResponseDTO(delivery)))
-                    .build();
-        }).toList();
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastTaskId = responses.get(responses.size() - 1).getTaskId();
+            nextCursor = KeysetCursor.after(KeysetCursor.SORT_ID, null, lastTaskId).encode();
+        }
+        return new CursorPagedResponse<>(responses, size, nextCursor, hasNext);
+    }
 
-        return new PageImpl<>(responses, pageable, idsPage.getTotalElements());
+    /**
+     * Linhas da listagem agrupada montadas a partir dos contadores de itens da entrega.
+     * O status é derivado das contagens com a mesma regra da entidade, sem tocar em entidades gerenciadas.
+     * Os itens da página vêm de uma única consulta e são distribuídos por entrega.
+     */
+    private List<DeliveryGroupResponse> findGroupSummaries(List<Long> deliveryIds) {
+        Map<Long, List<DeliveryItemResponse>> itemsByDelivery = deliveryItemRepository.findByDeliveryIdIn(deliveryIds).stream()
+                .map(DeliveryItemAdapter::toResponseDTO)
+                .collect(Collectors.groupingBy(DeliveryItemResponse::getDeliveryId, LinkedHashMap::new, Collectors.toList()));
+
+        return deliveryRepository.findGroupSummariesByIds(deliveryIds).stream()
+                .map(row -> mapSummaryRowToDeliveryGroupResponse(row, itemsByDelivery))
+                .toList();
+    }
+
+    private DeliveryGroupResponse mapSummaryRowToDeliveryGroupResponse(Object[] row, Map<Long, List<DeliveryItemResponse>> itemsByDelivery) {
+        Map<DeliveryStatus, Long> counts = new EnumMap<>(DeliveryStatus.class);
+        int totalItems = 0;
+        for (int i = 0; i < COUNTER_STATUSES.length; i++) {
+            int count = safeGetInteger(row[21 + i]);
+            counts.put(COUNTER_STATUSES[i], (long) count);
+            totalItems += count;
+        }
+
+        String persistedStatus = (String) row[1];
+        String calculatedStatus = "PENDING";
+        if (totalItems > 0) {
+            List<DeliveryStatus> present = counts.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            calculatedStatus = Delivery.resolveStatus(present).name();
+        }
+
+        Long taskId = safeGetLong(row[10]);
+        BigDecimal taskValue = row[15] != null ? new BigDecimal(row[15].toString()) : null;
+
+        Long deliveryId = safeGetLong(row[0]);
+        DeliveryResponse delivery = DeliveryResponse.builder()
+                .id(deliveryId)
+                .taskId(taskId)
+                .taskName((String) row[11])
+                .taskCode((String) row[12])
+                .taskType((String) row[13])
+                .taskLink((String) row[14])
+                .taskValue(taskValue)
+                .moduleId(safeGetLong(row[16]))
+                .moduleName((String) row[17])
+                .serverId(safeGetLong(row[18]))
+                .serverName((String) row[19])
+                .serverLink((String) row[20])
+                .flowType((String) row[2])
+                .environment((String) row[3])
+                .status(totalItems > 0 ? calculatedStatus : persistedStatus)
+                .totalItems(totalItems)
+                .pendingCount(counts.get(DeliveryStatus.PENDING))
+                .developmentCount(counts.get(DeliveryStatus.DEVELOPMENT))
+                .deliveredCount(counts.get(DeliveryStatus.DELIVERED))
+                .homologationCount(counts.get(DeliveryStatus.HOMOLOGATION))
+                .approvedCount(counts.get(DeliveryStatus.APPROVED))
+                .rejectedCount(counts.get(DeliveryStatus.REJECTED))
+                .productionCount(counts.get(DeliveryStatus.PRODUCTION))
+                .createdAt(safeGetTimestamp(row[4]))
+                .updatedAt(safeGetTimestamp(row[5]))
+                .startedAt(safeGetTimestamp(row[6]))
+                .finishedAt(safeGetTimestamp(row[7]))
+                .deliveryEmailSent((Boolean) row[8])
+                .notes((String) row[9])
+                .items(itemsByDelivery.getOrDefault(deliveryId, List.of()))
+                .build();
+
+        return DeliveryGroupResponse.builder()
+                .taskId(taskId)
+                .taskName(delivery.getTaskName())
+                .taskCode(delivery.getTaskCode())
+                .taskType(delivery.getTaskType())
+                .taskLink(delivery.getTaskLink())
+                .deliveryStatus(calculatedStatus)
+                .calculatedDeliveryStatus(calculatedStatus)
+                .totalItems(totalItems)
+                .taskValue(taskValue)
+                .createdAt(delivery.getCreatedAt())
+                .updatedAt(delivery.getUpdatedAt())
+                .totalDeliveries(1)
+                .completedDeliveries(0)
+                .pendingDeliveries(0)
+                .deliveries(List.of(delivery))
+                .build();
     }
 
     @Override
@@ -608,15 +669,15 @@ public class DeliveryServiceImpl implements DeliveryService {
     }
 
     @Override
-    public byte[] exportToExcel(String flowType, boolean canViewAmounts) throws IOException {
+    public void exportToExcel(String flowType, boolean canViewAmounts, OutputStream outputStream) throws IOException {
         if ("OPERACIONAL".equals(flowType)) {
-            return exportOperationalToExcel(canViewAmounts);
+            exportOperationalToExcel(canViewAmounts, outputStream);
         } else {
-            return exportDevelopmentToExcel(canViewAmounts);
+            exportDevelopmentToExcel(canViewAmounts, outputStream);
         }
     }
 
-    private byte[] exportDevelopmentToExcel(boolean canViewAmounts) throws IOException {
+    private void exportDevelopmentToExcel(boolean canViewAmounts, OutputStream outputStream) throws IOException {
         log.debug("EXCEL EXPORT (Development Deliveries) STARTED canViewAmounts={}", canViewAmounts);
 
         String sql = """
@@ -653,10 +714,8 @@ public class DeliveryServiceImpl implements DeliveryService {
         """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new HashMap<>();
             map.put("task_id", row[0]);
             map.put("task_code", row[1]);
@@ -681,12 +740,12 @@ public class DeliveryServiceImpl implements DeliveryService {
             map.put("module_name", row[20]);
             map.put("server_name", row[21]);
             return map;
-        }).collect(Collectors.toList());
-
-        return excelReportUtils.generateDeliveriesReport(data, canViewAmounts);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.developmentDeliveries(canViewAmounts), data, outputStream);
+        }
     }
 
-    private byte[] exportOperationalToExcel(boolean canViewAmounts) throws IOException {
+    private void exportOperationalToExcel(boolean canViewAmounts, OutputStream outputStream) throws IOException {
         log.debug("EXCEL EXPORT (Operational Deliveries) STARTED canViewAmounts={}", canViewAmounts);
 
         String sql = """
@@ -719,10 +778,8 @@ public class DeliveryServiceImpl implements DeliveryService {
         """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new HashMap<>();
             map.put("task_id", row[0]);
             map.put("task_code", row[1]);
@@ -744,13 +801,13 @@ public class DeliveryServiceImpl implements DeliveryService {
             map.put("module_name", row[17]);
             map.put("server_name", row[18]);
             return map;
-        }).collect(Collectors.toList());
-
-        return excelReportUtils.generateOperationalDeliveriesReport(data, canViewAmounts);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.operationalDeliveries(canViewAmounts), data, outputStream);
+        }
     }
 
     @Override
-    public byte[] exportDeliveriesOnlyToExcel(boolean canViewAmounts) throws IOException {
+    public void exportDeliveriesOnlyToExcel(boolean canViewAmounts, OutputStream outputStream) throws IOException {
         log.debug("EXCEL EXPORT (Deliveries Only - All Flows) STARTED canViewAmounts={}", canViewAmounts);
 
         String sql = """
@@ -780,10 +837,8 @@ public class DeliveryServiceImpl implements DeliveryService {
         """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new HashMap<>();
             map.put("delivery_id", row[0]);
             map.put("task_id", row[1]);
@@ -804,10 +859,10 @@ public class DeliveryServiceImpl implements DeliveryService {
             map.put("module_name", row[16]);
             map.put("server_name", row[17]);
             return map;
-        }).collect(Collectors.toList());
-
-        log.debug("EXCEL EXPORT (Deliveries Only) generating file with {} records", data.size());
-        return excelReportUtils.generateDeliveriesOnlyReport(data, canViewAmounts);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.deliveriesOnly(canViewAmounts), data, outputStream);
+        }
+        log.debug("EXCEL EXPORT (Deliveries Only) completed successfully");
     }
 
     @Override
@@ -816,52 +871,21 @@ public class DeliveryServiceImpl implements DeliveryService {
     }
 
     @Override
-    public DeliveryStatusCount getGlobalStatistics() {
-        log.debug("Executando query de estatísticas globais...");
-
-        List<Delivery> allDeliveries = deliveryRepository.findAll();
-        log.debug("Total de deliveries no banco: {}", allDeliveries.size());
-        
-        Map<DeliveryStatus, Integer> counts = new HashMap<>();
-        for (Delivery delivery : allDeliveries) {
-            counts.put(delivery.getStatus(), counts.getOrDefault(delivery.getStatus(), 0) + 1);
+    public Set<Long> findTaskIdsWithDelivery(Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return Set.of();
         }
-        log.debug("Contagem manual por status: {}", counts);
+        return deliveryRepository.findTaskIdsWithDelivery(taskIds);
+    }
 
-        Object[] result = deliveryRepository.findGlobalDeliveryStatistics();
-        log.debug("Resultado da query: {}", result != null ? Arrays.toString(result) : "null");
-        
-        if (result == null || result.length < 8) {
-            log.debug("Query retornou dados insuficientes. Usando contagem manual.");
-            return DeliveryStatusCount.builder()
-                    .pending(counts.getOrDefault(DeliveryStatus.PENDING, 0))
-                    .development(counts.getOrDefault(DeliveryStatus.DEVELOPMENT, 0))
-                    .delivered(counts.getOrDefault(DeliveryStatus.DELIVERED, 0))
-                    .homologation(counts.getOrDefault(DeliveryStatus.HOMOLOGATION, 0))
-                    .approved(counts.getOrDefault(DeliveryStatus.APPROVED, 0))
-                    .rejected(counts.getOrDefault(DeliveryStatus.REJECTED, 0))
-                    .production(counts.getOrDefault(DeliveryStatus.PRODUCTION, 0))
-                    .cancelled(counts.getOrDefault(DeliveryStatus.CANCELLED, 0))
-                    .build();
-        }
+    @Override
+    public Set<Long> findAllTaskIdsWithDelivery() {
+        return deliveryRepository.findAllTaskIdsWithDelivery();
+    }
 
-        DeliveryStatusCount stats = DeliveryStatusCount.builder()
-                .pending(result[0] != null ? ((Number) result[0]).intValue() : 0)
-                .development(result[1] != null ? ((Number) result[1]).intValue() : 0)
-                .delivered(result[2] != null ? ((Number) result[2]).intValue() : 0)
-                .homologation(result[3] != null ? ((Number) result[3]).intValue() : 0)
-                .approved(result[4] != null ? ((Number) result[4]).intValue() : 0)
-                .rejected(result[5] != null ? ((Number) result[5]).intValue() : 0)
-                .production(result[6] != null ? ((Number) result[6]).intValue() : 0)
-                .cancelled(result[7] != null ? ((Number) result[7]).intValue() : 0)
-                .build();
-        
-        log.debug("Estatísticas calculadas pela query: {}", stats);
-        log.debug("Estatísticas calculadas manualmente: pending={}, development={}", 
-            counts.getOrDefault(DeliveryStatus.PENDING, 0), 
-            counts.getOrDefault(DeliveryStatus.DEVELOPMENT, 0));
-        
-        return stats;
+    @Override
+    public DeliveryStatusCount getGlobalStatistics() {
+        return toStatusCount(deliveryRepository.findGlobalDeliveryStatistics(), "global");
     }
 
     @Override
@@ -872,60 +896,141 @@ public class DeliveryServiceImpl implements DeliveryService {
             return getGlobalStatistics();
         }
 
-        Object[] result = deliveryRepository.findDeliveryStatisticsByFlowType(flowType);
-        log.debug("Resultado da query por fluxo: {}", result != null ? Arrays.toString(result) : "null");
-
-        if (result == null || result.length < 8) {
-            log.debug("Query retornou dados insuficientes para fluxo {}. Retornando zeros.", flowType);
-            return DeliveryStatusCount.builder()
-                    .pending(0)
-                    .development(0)
-                    .delivered(0)
-                    .homologation(0)
-                    .approved(0)
-                    .rejected(0)
-                    .production(0)
-                    .cancelled(0)
-                    .build();
-        }
+        DeliveryStatusCount stats = toStatusCount(deliveryRepository.findDeliveryStatisticsByFlowType(flowType), flowType);
+        log.debug("Estatísticas por fluxo {} calculadas: {}", flowType, stats);
+        return stats;
+    }
 
-        DeliveryStatusCount stats = DeliveryStatusCount.builder()
-                .pending(result[0] != null ? ((Number) result[0]).intValue() : 0)
-                .development(result[1] != null ? ((Number) result[1]).intValue() : 0)
-                .delivered(result[2] != null ? ((Number) result[2]).intValue() : 0)
-                .homologation(result[3] != null ? ((Number) result[3]).intValue() : 0)
-                .approved(result[4] != null ? ((Number) result[4]).intValue() : 0)
-                .rejected(result[5] != null ? ((Number) result[5]).intValue() : 0)
-                .production(result[6] != null ? ((Number) result[6]).intValue() : 0)
-                .cancelled(result[7] != null ? ((Number) result[7]).intValue() : 0)
+    /**
+     * Linha única dos SUM por status (SUM nulo = nenhuma entrega no status). A agregação sempre devolve
+     * uma linha com 8 colunas; outro formato é erro, não "zero entregas".
+     */
+    private DeliveryStatusCount toStatusCount(List<Object[]> rows, String scope) {
+        if (rows == null || rows.isEmpty() || rows.get(0) == null || rows.get(0).length < 8) {
+            throw new IllegalStateException("Formato inesperado nas estatísticas de entregas (" + scope + "): "
+                    + (rows == null || rows.isEmpty() ? "sem linhas" : Arrays.deepToString(rows.toArray())));
+        }
+        Object[] row = rows.get(0);
+        log.debug("Resultado da query de estatísticas ({}): {}", scope, Arrays.toString(row));
+
+        return DeliveryStatusCount.builder()
+                .pending(count(row[0]))
+                .development(count(row[1]))
+                .delivered(count(row[2]))
+                .homologation(count(row[3]))
+                .approved(count(row[4]))
+                .rejected(count(row[5]))
+                .production(count(row[6]))
+                .cancelled(count(row[7]))
                 .build();
+    }
 
-        log.debug("Estatísticas por fluxo {} calculadas: {}", flowType, stats);
-        return stats;
+    private static int count(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
     }
 
     @Override
-    @Transactional
-    public void updateAllDeliveryStatuses() {
-        log.debug("Atualizando status de todas as entregas...");
+    // Sem a transação da classe: cada bloco abre e confirma a sua (transactionTemplate)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DeliveryStatusRecalculationResponse updateAllDeliveryStatuses() {
+        long start = System.currentTimeMillis();
+        long scanned = 0;
+        long updated = 0;
+        long lastId = 0L;
+
+        // Varre por keyset em blocos lendo status e contadores gravados e as contagens reais dos itens;
+        // apenas as entregas com contador ou status divergente são corrigidas, via batch JDBC.
+        // Cada bloco é uma transação: locks liberados a cada commit e falha num bloco não desfaz os anteriores.
+        while (true) {
+            long afterId = lastId;
+            StatusChunkResult result = transactionTemplate.execute(status -> recalculateStatusChunk(afterId));
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            scanned += result.scanned();
+            updated += result.updated();
+            lastId = result.lastId();
+        }
 
-        List<Delivery> deliveries = deliveryRepository.findAll();
-        int updated = 0;
+        long elapsedMs = System.currentTimeMillis() - start;
+        log.info("Recálculo de status das entregas: {} verificadas, {} atualizadas em {} ms", scanned, updated, elapsedMs);
+
+        return DeliveryStatusRecalculationResponse.builder()
+                .scanned(scanned)
+                .updated(updated)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private StatusChunkResult recalculateStatusChunk(long lastId) {
+        List<Object[]> chunk = deliveryRepository.findStatusCountersAfter(lastId, PageRequest.of(0, STATUS_RECALC_CHUNK_SIZE));
+        if (chunk.isEmpty()) {
+            return new StatusChunkResult(0, 0, lastId);
+        }
 
-        for (Delivery delivery : deliveries) {
-            DeliveryStatus oldStatus = delivery.getStatus();
-            delivery.updateStatus();
-            DeliveryStatus newStatus = delivery.getStatus();
+        Map<Long, Map<DeliveryStatus, Integer>> itemCounts = new HashMap<>();
+        List<Long> ids = chunk.stream().map(row -> (Long) row[0]).toList();
+        for (Object[] row : deliveryRepository.countItemStatusesByDeliveryIds(ids)) {
+            itemCounts.computeIfAbsent((Long) row[0], k -> new EnumMap<>(DeliveryStatus.class))
+                    .merge((DeliveryStatus) row[1], ((Number) row[2]).intValue(), Integer::sum);
+        }
+        for (Object[] row : deliveryRepository.countOperationalItemStatusesByDeliveryIds(ids)) {
+            itemCounts.computeIfAbsent((Long) row[0], k -> new EnumMap<>(DeliveryStatus.class))
+                    .merge(Delivery.toDeliveryStatus((OperationalItemStatus) row[1]), ((Number) row[2]).intValue(), Integer::sum);
+        }
+
+        List<Object[]> changes = new ArrayList<>();
+        for (Object[] row : chunk) {
+            Long id = (Long) row[0];
+            DeliveryStatus oldStatus = (DeliveryStatus) row[1];
+            Map<DeliveryStatus, Integer> actual = itemCounts.getOrDefault(id, Map.of());
+
+            int[] counts = new int[COUNTER_STATUSES.length];
+            boolean countersDrifted = false;
+            for (int i = 0; i < COUNTER_STATUSES.length; i++) {
+                counts[i] = actual.getOrDefault(COUNTER_STATUSES[i], 0);
+                Integer stored = (Integer) row[i + 2];
+                countersDrifted |= stored == null || stored != counts[i];
+            }
+
+            DeliveryStatus newStatus = Delivery.resolveStatus(actual.keySet());
+            if (countersDrifted || oldStatus != newStatus) {
+                changes.add(new Object[]{newStatus.name(), counts[0], counts[1], counts[2], counts[3], counts[4],
+                        counts[5], counts[6], counts[7], Timestamp.valueOf(LocalDateTime.now()), id, oldStatus.name(),
+                        row[2], row[3], row[4], row[5], row[6], row[7], row[8], row[9]});
+                if (countersDrifted) {
+                    log.warn("Delivery ID {} item counters out of sync, repaired", id);
+                }
+                log.debug("Delivery ID {} status updated: {} -> {}", id, oldStatus, newStatus);
+            }
+        }
 
-            if (oldStatus != newStatus) {
-                deliveryRepository.save(delivery);
-                updated++;
-                log.debug("Delivery ID {} status updated: {} -> {}",
-                    delivery.getId(), oldStatus, newStatus);
+        int updated = 0;
+        if (!changes.isEmpty()) {
+            // Grava valores absolutos: só se status e os oito contadores ainda são os lidos. Um addItemCounts
+            // (x = x + delta) confirmado depois da leitura não é sobrescrito; a entrega fica para a próxima execução
+            int[] results = jdbcTemplate.batchUpdate("""
+                    UPDATE delivery
+                       SET status = ?, pending_items = ?, development_items = ?, delivered_items = ?,
+                           homologation_items = ?, approved_items = ?, rejected_items = ?,
+                           production_items = ?, cancelled_items = ?, updated_at = ?
+                     WHERE id = ? AND status = ?
+                       AND pending_items IS NOT DISTINCT FROM ? AND development_items IS NOT DISTINCT FROM ?
+                       AND delivered_items IS NOT DISTINCT FROM ? AND homologation_items IS NOT DISTINCT FROM ?
+                       AND approved_items IS NOT DISTINCT FROM ? AND rejected_items IS NOT DISTINCT FROM ?
+                       AND production_items IS NOT DISTINCT FROM ? AND cancelled_items IS NOT DISTINCT FROM ?
+                    """, changes);
+            for (int result : results) {
+                if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                    updated++;
+                }
             }
         }
 
-        log.debug("Status de {} entregas foram atualizados", updated);
+        return new StatusChunkResult(chunk.size(), updated, ids.get(ids.size() - 1));
+    }
+
+    private record StatusChunkResult(int scanned, int updated, long lastId) {
     }
 
     public Page<DeliveryGroupResponse> findAllGroupedByTaskOptimized(String taskName, String taskCode,
@@ -1035,69 +1140,26 @@ public class DeliveryServiceImpl implements DeliveryService {
                 })
                 .orElseThrow(() -> new RuntimeException("Entrega não encontrada com ID: " + id));
 
-        Map<String, byte[]> attachmentDataMap = new HashMap<>();
+        // Só as chaves no storage: o outbox lê cada arquivo em stream no envio
+        Map<String, String> attachmentPaths = new LinkedHashMap<>();
 
         try {
+            deliveryAttachmentService.getDeliveryAttachmentsEntities(id).forEach(attachment ->
+                    attachmentPaths.put("delivery_" + attachment.getOriginalFileName(), attachment.getFilePath()));
 
-            List<DeliveryAttachment> deliveryAttachments = deliveryAttachmentService.getDeliveryAttachmentsEntities(id);
-            if (deliveryAttachments != null && !deliveryAttachments.isEmpty()) {
+            deliveryItemAttachmentService.getDeliveryItemAttachmentsEntitiesByDeliveryId(id).forEach(attachment ->
+                    attachmentPaths.put("item_" + attachment.getOriginalFileName(), attachment.getFilePath()));
 
-                for (DeliveryAttachment attachment : deliveryAttachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put("delivery_" + attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download delivery attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
-                }
-            }
-
-            List<DeliveryItemAttachment> itemAttachments = deliveryItemAttachmentService.getDeliveryItemAttachmentsEntitiesByDeliveryId(id);
-            if (itemAttachments != null && !itemAttachments.isEmpty()) {
-                for (DeliveryItemAttachment attachment : itemAttachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put("item_" + attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download item attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
-                }
-            }
-
-            List<DeliveryOperationalAttachment> operationalAttachments = deliveryOperationalAttachmentService.getOperationalAttachmentsEntitiesByDeliveryId(id);
-            if (operationalAttachments != null && !operationalAttachments.isEmpty()) {
-                for (DeliveryOperationalAttachment attachment : operationalAttachments) {
-                    try {
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put("operational_" + attachment.getOriginalName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download operational attachment {} from S3: {}", attachment.getOriginalName(), e.getMessage());
-                    }
-                }
-            }
+            deliveryOperationalAttachmentService.getOperationalAttachmentsEntitiesByDeliveryId(id).forEach(attachment ->
+                    attachmentPaths.put("operational_" + attachment.getOriginalName(), attachment.getFilePath()));
         } catch (Exception e) {
             log.error("Error accessing attachments from database: {}", e.getMessage());
         }
 
         if (sendEmail) {
             try {
-                if (!attachmentDataMap.isEmpty()) {
-                    emailService.sendDeliveryUpdatedNotificationWithAttachmentData(delivery, attachmentDataMap, additionalEmails);
+                if (!attachmentPaths.isEmpty()) {
+                    emailService.sendDeliveryUpdatedNotificationWithAttachmentData(delivery, attachmentPaths, additionalEmails);
                 } else {
                     emailService.sendDeliveryUpdatedNotification(delivery, additionalEmails);
                 }
@@ -1139,6 +1201,9 @@ public class DeliveryServiceImpl implements DeliveryService {
         if (value instanceof java.sql.Timestamp) {
             return ((java.sql.Timestamp) value).toLocalDateTime();
         }
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
         return null;
     }
 
@@ -1167,4 +1232,7 @@ public class DeliveryServiceImpl implements DeliveryService {
 
         return DeliveryAdapter.toResponseDTO(entity);
     }
-}
+
+    /**
+     * Fonte do anexo aberta sob demanda no storage a cada leitura do JavaMail.
+     */}
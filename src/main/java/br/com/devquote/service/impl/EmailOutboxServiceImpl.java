@@ -0,0 +1,362 @@
+package br.com.devquote.service.impl;
+
+import br.com.devquote.configuration.MailProperties;
+import br.com.devquote.entity.EmailOutboxAttachment;
+import br.com.devquote.entity.EmailOutboxMessage;
+import br.com.devquote.enums.EmailOutboxStatus;
+import br.com.devquote.repository.EmailOutboxAttachmentRepository;
+import br.com.devquote.repository.EmailOutboxRepository;
+import br.com.devquote.service.EmailOutboxService;
+import br.com.devquote.service.storage.FileStorageStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import jakarta.activation.FileTypeMap;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.ConfigurableMimeFileTypeMap;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox persistente de e-mails. O EmailServiceImpl monta a mensagem e grava aqui o MIME (corpo e imagens
+ * inline) e as chaves dos anexos no storage, que só são lidos, em stream, no envio;
+ * o worker ({@link br.com.devquote.job.EmailOutboxJob}) reserva lotes com SKIP LOCKED, envia cada lote
+ * numa única conexão SMTP (lotes em paralelo, um por worker) e reagenda falhas com backoff exponencial.
+ * Entrega at-least-once: uma mensagem reservada por um worker que caiu volta à fila após claim-timeout;
+ * cada reserva conta como tentativa, até max-attempts.
+ * Métricas: devquote.email.outbox.depth, devquote.email.outbox.latency (criação → envio),
+ * devquote.email.outbox.processed{result} e devquote.email.smtp.batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_RECIPIENTS_LENGTH = 2000;
+
+    private static final FileTypeMap FILE_TYPE_MAP = new ConfigurableMimeFileTypeMap();
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxAttachmentRepository attachmentRepository;
+    private final FileStorageStrategy fileStorageStrategy;
+    private final JavaMailSender mailSender;
+    private final MailProperties mailProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private ExecutorService senderExecutor;
+
+    @PostConstruct
+    void init() {
+        senderExecutor = Executors.newFixedThreadPool(Math.max(1, outbox().getWorkers()));
+        Gauge.builder("devquote.email.outbox.depth", pendingDepth, AtomicLong::get)
+                .description("Mensagens pendentes no outbox de e-mails")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        senderExecutor.shutdown();
+        senderExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long enqueue(MimeMessage message) {
+        return enqueue(message, List.of());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long enqueue(MimeMessage message, List<Attachment> attachments) {
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            message.writeTo(content);
+
+            EmailOutboxMessage outboxMessage = EmailOutboxMessage.builder()
+                    .recipients(truncate(recipientsOf(message), MAX_RECIPIENTS_LENGTH))
+                    .subject(truncate(message.getSubject(), 500))
+                    .mimeContent(content.toByteArray())
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build();
+            EmailOutboxMessage saved = outboxRepository.save(outboxMessage);
+            attachmentRepository.saveAll(attachments.stream()
+                    .map(attachment -> EmailOutboxAttachment.builder()
+                            .outboxMessage(saved)
+                            .fileName(attachment.fileName())
+                            .storageKey(attachment.storageKey())
+                            .build())
+                    .toList());
+            pendingDepth.incrementAndGet();
+            log.info("📧 E-mail {} enfileirado no outbox para: {} ({} bytes, {} anexo(s) no storage)",
+                    saved.getId(), saved.getRecipients(), content.size(), attachments.size());
+            return saved.getId();
+        } catch (MessagingException | IOException e) {
+            throw new RuntimeException("Failed to enqueue email", e);
+        }
+    }
+
+    @Override
+    public int processDue() {
+        MailProperties.Outbox config = outbox();
+        int batchSize = Math.max(1, config.getBatchSize());
+        int workers = Math.max(1, config.getWorkers());
+
+        List<Long> claimed = transactionTemplate.execute(status -> claim(batchSize * workers, config));
+        if (claimed == null || claimed.isEmpty()) {
+            pendingDepth.set(outboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+            return 0;
+        }
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<Long> batchIds = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            batches.add(CompletableFuture.runAsync(() -> sendBatch(outboxRepository.findAllById(batchIds), config), senderExecutor));
+        }
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+
+        pendingDepth.set(outboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        return claimed.size();
+    }
+
+    @Override
+    @Transactional
+    public int purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(outbox().getRetentionDays());
+        return outboxRepository.deleteByStatusAndSentAtBefore(EmailOutboxStatus.SENT, before);
+    }
+
+    /**
+     * Reserva até limit mensagens e devolve só os ids; o MIME de cada lote é lido pelo worker que vai enviá-lo,
+     * para não ter todos os lotes do ciclo em memória ao mesmo tempo.
+     */
+    private List<Long> claim(int limit, MailProperties.Outbox config) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(config.getClaimTimeout());
+        int abandoned = outboxRepository.failAbandoned(staleBefore, config.getMaxAttempts(),
+                "Reservada por um worker que nao concluiu o envio; tentativas esgotadas", now);
+        if (abandoned > 0) {
+            increment("failed", abandoned);
+            log.error("📧 ❌ {} e-mail(s) presos em envio descartados apos {} tentativas", abandoned, config.getMaxAttempts());
+        }
+
+        List<Long> due = outboxRepository.lockDueIds(now, staleBefore, config.getMaxAttempts(), limit);
+        if (!due.isEmpty()) {
+            outboxRepository.markClaimed(due, EmailOutboxStatus.SENDING, now);
+        }
+        return due;
+    }
+
+    /**
+     * Envia o lote numa única conexão SMTP (JavaMailSender.send(MimeMessage...)) e grava o resultado de cada mensagem.
+     */
+    private void sendBatch(List<EmailOutboxMessage> batch, MailProperties.Outbox config) {
+        Map<Long, MimeMessage> messages = new LinkedHashMap<>();
+        Map<Long, Exception> failures = new LinkedHashMap<>();
+
+        Map<Long, List<EmailOutboxAttachment>> attachments = attachmentRepository
+                .findByOutboxMessageIdIn(batch.stream().map(EmailOutboxMessage::getId).toList()).stream()
+                .collect(Collectors.groupingBy(attachment -> attachment.getOutboxMessage().getId()));
+
+        for (EmailOutboxMessage outboxMessage : batch) {
+            try {
+                messages.put(outboxMessage.getId(),
+                        toMimeMessage(outboxMessage, attachments.getOrDefault(outboxMessage.getId(), List.of())));
+            } catch (Exception e) {
+                failures.put(outboxMessage.getId(), e);
+            }
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (!messages.isEmpty()) {
+                mailSender.send(messages.values().toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            // Falhas por mensagem (ou de conexão, que marca todas) vêm indexadas pela própria MimeMessage
+            Map<Object, Exception> failed = e.getFailedMessages();
+            messages.forEach((id, mimeMessage) -> {
+                Exception cause = failed.get(mimeMessage);
+                if (cause != null || failed.isEmpty()) {
+                    failures.put(id, cause != null ? cause : e);
+                }
+            });
+        } catch (MailException e) {
+            messages.keySet().forEach(id -> failures.put(id, e));
+        } finally {
+            sample.stop(Timer.builder("devquote.email.smtp.batch").register(meterRegistry));
+        }
+
+        recordResults(batch, failures, config);
+    }
+
+    /**
+     * MIME gravado mais os anexos do storage, como partes lidas em stream durante o envio SMTP
+     * (o conteúdo não passa inteiro pelo heap). Arquivo removido do storage desde o enfileiramento
+     * é omitido, como na montagem original da mensagem.
+     */
+    private MimeMessage toMimeMessage(EmailOutboxMessage outboxMessage, List<EmailOutboxAttachment> attachments)
+            throws MessagingException, IOException {
+        MimeMessage message = mailSender.createMimeMessage(new ByteArrayInputStream(outboxMessage.getMimeContent()));
+        if (attachments.isEmpty()) {
+            return message;
+        }
+
+        MimeMultipart root = (MimeMultipart) message.getContent();
+        for (EmailOutboxAttachment attachment : attachments) {
+            if (!fileStorageStrategy.fileExists(attachment.getStorageKey())) {
+                log.warn("📎 Anexo {} do e-mail {} nao existe mais no storage; enviando sem ele",
+                        attachment.getFileName(), outboxMessage.getId());
+                continue;
+            }
+            MimeBodyPart part = new MimeBodyPart();
+            part.setDisposition(Part.ATTACHMENT);
+            part.setFileName(attachment.getFileName());
+            part.setDataHandler(new DataHandler(storageDataSource(attachment)));
+            // Encoding fixo: sem ele o JavaMail abre o arquivo uma vez a mais só para escolher
+            part.setHeader("Content-Transfer-Encoding", "base64");
+            root.addBodyPart(part);
+        }
+        message.setContent(root);
+        message.saveChanges();
+        return message;
+    }
+
+    private DataSource storageDataSource(EmailOutboxAttachment attachment) {
+        String fileName = attachment.getFileName();
+        String storageKey = attachment.getStorageKey();
+        return new DataSource() {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return fileStorageStrategy.getFileStream(storageKey);
+            }
+
+            @Override
+            public OutputStream getOutputStream() {
+                throw new UnsupportedOperationException("Read-only DataSource");
+            }
+
+            @Override
+            public String getContentType() {
+                return FILE_TYPE_MAP.getContentType(fileName);
+            }
+
+            @Override
+            public String getName() {
+                return fileName;
+            }
+        };
+    }
+
+    private void recordResults(List<EmailOutboxMessage> batch, Map<Long, Exception> failures, MailProperties.Outbox config) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sent = batch.stream()
+                .map(EmailOutboxMessage::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(sent, EmailOutboxStatus.SENT, now);
+            }
+            for (EmailOutboxMessage outboxMessage : batch) {
+                Exception error = failures.get(outboxMessage.getId());
+                if (error != null) {
+                    recordFailure(outboxMessage, error, config, now);
+                }
+            }
+        });
+
+        for (EmailOutboxMessage outboxMessage : batch) {
+            if (!failures.containsKey(outboxMessage.getId())) {
+                Timer.builder("devquote.email.outbox.latency")
+                        .register(meterRegistry)
+                        .record(Duration.between(outboxMessage.getCreatedAt(), now));
+            }
+        }
+        increment("sent", sent.size());
+        log.info("📧 Lote do outbox processado: {} enviado(s), {} com falha", sent.size(), failures.size());
+    }
+
+    private void recordFailure(EmailOutboxMessage outboxMessage, Exception error, MailProperties.Outbox config, LocalDateTime now) {
+        // Já incrementado na reserva
+        int attempts = outboxMessage.getAttempts();
+        String message = truncate(error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName(), MAX_ERROR_LENGTH);
+
+        if (attempts >= config.getMaxAttempts()) {
+            outboxRepository.markFailedAttempt(outboxMessage.getId(), EmailOutboxStatus.FAILED, attempts, now, message, now);
+            increment("failed", 1);
+            log.error("📧 ❌ E-mail {} para {} descartado apos {} tentativas: {}",
+                    outboxMessage.getId(), outboxMessage.getRecipients(), attempts, message);
+            return;
+        }
+
+        long backoffMs = Math.min(config.getRetryBackoff().toMillis() << Math.min(attempts - 1, 20),
+                config.getMaxRetryBackoff().toMillis());
+        LocalDateTime nextAttemptAt = now.plus(Duration.ofMillis(backoffMs));
+        outboxRepository.markFailedAttempt(outboxMessage.getId(), EmailOutboxStatus.PENDING, attempts, nextAttemptAt, message, now);
+        increment("retry", 1);
+        log.warn("📧 Falha ao enviar e-mail {} para {} (tentativa {}), nova tentativa as {}: {}",
+                outboxMessage.getId(), outboxMessage.getRecipients(), attempts, nextAttemptAt, message);
+    }
+
+    private void increment(String result, int amount) {
+        if (amount > 0) {
+            Counter.builder("devquote.email.outbox.processed")
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .increment(amount);
+        }
+    }
+
+    private MailProperties.Outbox outbox() {
+        return mailProperties.getOutbox();
+    }
+
+    private static String recipientsOf(MimeMessage message) throws MessagingException {
+        Address[] recipients = message.getAllRecipients();
+        return recipients != null ? InternetAddress.toString(recipients) : "";
+    }
+
+    private static String truncate(String value, int max) {
+        return value != null && value.length() > max ? value.substring(0, max) : value;
+    }
+}
@@ -12,11 +12,13 @@ import br.com.devquote.enums.NotificationConfigType;
 import br.com.devquote.enums.NotificationType;
 import br.com.devquote.repository.BillingPeriodTaskRepository;
 import br.com.devquote.repository.SubTaskRepository;
+import br.com.devquote.service.EmailOutboxService;
 import br.com.devquote.service.EmailService;
 import br.com.devquote.service.NotificationConfigService;
 import br.com.devquote.service.TaskAttachmentService;
 import br.com.devquote.service.WhatsAppService;
 import br.com.devquote.service.storage.FileStorageStrategy;
+import br.com.devquote.utils.EmailTemplateRenderer;
 import br.com.devquote.utils.HtmlImageExtractor;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -28,16 +30,17 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import jakarta.annotation.PostConstruct;
 
@@ -48,7 +51,8 @@ import jakarta.annotation.PostConstruct;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
     private final EmailProperties emailProperties;
     private final SubTaskRepository subTaskRepository;
     private final BillingPeriodTaskRepository billingPeriodTaskRepository;
@@ -61,6 +65,7 @@ public class EmailServiceImpl implements EmailService {
     private final br.com.devquote.repository.BillingPeriodRepository billingPeriodRepository;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
 
     @PostConstruct
     public void init() {
@@ -77,7 +82,7 @@ public class EmailServiceImpl implements EmailService {
         }
 
         try {
-            Task task = taskRepository.findById(taskParam.getId())
+            Task task = taskRepository.findByIdForNotification(taskParam.getId())
                     .orElseThrow(() -> new RuntimeException("Task not found: " + taskParam.getId()));
 
             log.debug("Sending task updated notification for task ID: {}", task.getId());
@@ -133,7 +138,7 @@ public class EmailServiceImpl implements EmailService {
         if (additionalEmails != null && !additionalEmails.isEmpty()) {
             additionalEmails.stream()
                     .filter(email -> email != null && !email.trim().isEmpty())
-                    .filter(email -> email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$"))
+                    .filter(email -> EMAIL_PATTERN.matcher(email).matches())
                     .forEach(ccEmails::add);
 
             log.info("Added {} additional email(s) to CC list for task data notification. Task ID: {}",
@@ -179,9 +184,9 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    private void sendEmailWithInMemoryAttachments(String to, String cc, String subject, String htmlContent, Map<String, byte[]> attachmentDataMap) {
-        log.info("📧 SENDWITHINDEMEMORYATTACHMENTS called - To: {}, CC: {}, Subject: {}, Attachments: {}",
-                to, cc != null ? cc : "none", subject, attachmentDataMap != null ? attachmentDataMap.size() : 0);
+    private void sendEmailWithStorageAttachments(String to, String cc, String subject, String htmlContent, Map<String, String> attachmentPaths) {
+        log.info("📧 SENDWITHSTORAGEATTACHMENTS called - To: {}, CC: {}, Subject: {}, Attachments: {}",
+                to, cc != null ? cc : "none", subject, attachmentPaths != null ? attachmentPaths.size() : 0);
 
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -207,39 +212,23 @@ public class EmailServiceImpl implements EmailService {
             helper.setSubject(subject);
             helper.setText(htmlContent, true);
 
-            if (attachmentDataMap != null && !attachmentDataMap.isEmpty()) {
-                log.debug("📎 Adding {} IN-MEMORY attachments to email", attachmentDataMap.size());
-                for (Map.Entry<String, byte[]> entry : attachmentDataMap.entrySet()) {
-                    try {
-                        String fileName = entry.getKey();
-                        byte[] fileData = entry.getValue();
-
-                        org.springframework.core.io.InputStreamSource inputStreamSource = new org.springframework.core.io.InputStreamSource() {
-                            @Override
-                            public java.io.InputStream getInputStream() throws java.io.IOException {
-                                return new java.io.ByteArrayInputStream(fileData);
-                            }
-                        };
-
-                        helper.addAttachment(fileName, inputStreamSource);
-                        log.debug("📎 ✅ Successfully attached IN-MEMORY file: {} ({} bytes)", fileName, fileData.length);
-
-                    } catch (Exception e) {
-                        log.warn("📎 ❌ Failed to attach IN-MEMORY file: {} - Error: {}", entry.getKey(), e.getMessage());
-                    }
-                }
+            // Anexos vão para o outbox só como chave no storage; o worker lê cada arquivo em stream no envio
+            List<EmailOutboxService.Attachment> attachments = new ArrayList<>();
+            if (attachmentPaths != null) {
+                attachmentPaths.forEach((fileName, storageKey) ->
+                        attachments.add(new EmailOutboxService.Attachment(fileName, storageKey)));
             }
 
-            log.info("📧 CALLING mailSender.send() - Final step to send email with IN-MEMORY attachments to: {}", to);
-            mailSender.send(message);
-            log.info("📧 ✅ EMAIL WITH IN-MEMORY ATTACHMENTS SENT successfully via mailSender to: {}", to);
+            // Envio SMTP fica com o worker do outbox (lotes por conexão, retry com backoff)
+            Long outboxId = emailOutboxService.enqueue(message, attachments);
+            log.info("📧 ✅ EMAIL WITH ATTACHMENTS QUEUED in outbox (id {}) to: {}", outboxId, to);
 
         } catch (MessagingException e) {
-            log.error("📧 ❌ MESSAGING EXCEPTION - Failed to send email with IN-MEMORY attachments to: {} (cc: {}) - Error: {}", to, cc, e.getMessage(), e);
-            throw new RuntimeException("Failed to send email with in-memory attachments", e);
+            log.error("📧 ❌ MESSAGING EXCEPTION - Failed to send email with attachments to: {} (cc: {}) - Error: {}", to, cc, e.getMessage(), e);
+            throw new RuntimeException("Failed to send email with attachments", e);
         } catch (Exception e) {
-            log.error("📧 ❌ GENERAL EXCEPTION - Failed to send email with IN-MEMORY attachments to: {} (cc: {}) - Error: {}", to, cc, e.getMessage(), e);
-            throw new RuntimeException("Failed to send email with in-memory attachments", e);
+            log.error("📧 ❌ GENERAL EXCEPTION - Failed to send email with attachments to: {} (cc: {}) - Error: {}", to, cc, e.getMessage(), e);
+            throw new RuntimeException("Failed to send email with attachments", e);
         }
     }
 
@@ -283,23 +272,7 @@ public class EmailServiceImpl implements EmailService {
         context.setVariable("hasSubTasks", subTasks != null && !subTasks.isEmpty());
         context.setVariable("subTasks", subTasksTranslated);
 
-        context.setVariable("translateStatus", new Object() {
-            public String translate(String status) {
-                return translateStatus(status);
-            }
-        });
-        context.setVariable("getStatusCssClass", new Object() {
-            public String getCssClass(String status) {
-                return getStatusCssClass(status);
-            }
-        });
-        context.setVariable("getPriorityCssClass", new Object() {
-            public String getCssClass(String priority) {
-                return getPriorityCssClass(priority);
-            }
-        });
-
-        return templateEngine.process("email/task-updated", context);
+        return emailTemplateRenderer.render(EmailTemplateRenderer.TASK_UPDATED, context);
     }
 
     @Override
@@ -312,7 +285,7 @@ public class EmailServiceImpl implements EmailService {
         }
 
         try {
-            Delivery delivery = deliveryRepository.findById(deliveryParam.getId())
+            Delivery delivery = deliveryRepository.findByIdForNotification(deliveryParam.getId())
                     .orElseThrow(() -> new RuntimeException("Delivery not found: " + deliveryParam.getId()));
 
             Map<String, byte[]> allInlineImages = new java.util.LinkedHashMap<>();
@@ -395,7 +368,7 @@ public class EmailServiceImpl implements EmailService {
 
             additionalEmails.stream()
                     .filter(email -> email != null && !email.trim().isEmpty())
-                    .filter(email -> email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$"))
+                    .filter(email -> EMAIL_PATTERN.matcher(email).matches())
                     .forEach(ccEmails::add);
 
             log.info("Added {} additional email(s) to CC list for delivery notification. Delivery ID: {}",
@@ -433,7 +406,7 @@ public class EmailServiceImpl implements EmailService {
 
         buildDeliveryEmailContext(context, delivery, replaceCounter);
 
-        return templateEngine.process("email/delivery-updated", context);
+        return emailTemplateRenderer.render(EmailTemplateRenderer.DELIVERY_UPDATED, context);
     }
 
     private void buildDeliveryEmailContext(Context context, Delivery delivery) {
@@ -643,24 +616,16 @@ public class EmailServiceImpl implements EmailService {
                 }
             }
 
-            if (attachments != null && !attachments.isEmpty()) {
+            List<EmailOutboxService.Attachment> storageAttachments = new ArrayList<>();
+            if (attachments != null) {
                 log.debug("Adding {} attachments to email", attachments.size());
                 for (TaskAttachment attachment : attachments) {
-                    try {
-
-                        org.springframework.core.io.InputStreamSource inputStreamSource = () -> fileStorageStrategy.getFileStream(attachment.getFilePath());
-
-                        helper.addAttachment(attachment.getOriginalFileName(), inputStreamSource);
-                        log.debug("Attached file: {} ({})", attachment.getOriginalFileName(), attachment.getContentType());
-                    } catch (Exception e) {
-                        log.warn("Failed to attach file: {} - {}", attachment.getOriginalFileName(), e.getMessage());
-                    }
+                    storageAttachments.add(new EmailOutboxService.Attachment(attachment.getOriginalFileName(), attachment.getFilePath()));
                 }
             }
 
-            log.info("📧 CALLING mailSender.send() - Final step to send email to: {}", to);
-            mailSender.send(message);
-            log.info("📧 ✅ EMAIL SENT successfully via mailSender to: {}", to);
+            Long outboxId = emailOutboxService.enqueue(message, storageAttachments);
+            log.info("📧 ✅ EMAIL QUEUED in outbox (id {}) to: {}", outboxId, to);
 
         } catch (MessagingException e) {
             log.error("📧 ❌ MESSAGING EXCEPTION - Failed to send email to: {} (cc: {}) - Error: {}", to, cc, e.getMessage(), e);
@@ -668,20 +633,6 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    private String translateStatus(String status) {
-        if (status == null) return "N/A";
-        return switch (status.toUpperCase()) {
-            case "PENDING" -> "Pendente";
-            case "IN_PROGRESS" -> "Em Progresso";
-            case "COMPLETED" -> "Concluída";
-            case "CANCELLED" -> "Cancelada";
-            case "ON_HOLD" -> "Em Espera";
-            case "BLOCKED" -> "Bloqueada";
-            case "REVIEWING" -> "Em Revisão";
-            default -> status;
-        };
-    }
-
     private String translatePriority(String priority) {
         if (priority == null) return "";
         return switch (priority.toUpperCase()) {
@@ -698,44 +649,6 @@ public class EmailServiceImpl implements EmailService {
         };
     }
 
-    private String getStatusCssClass(String status) {
-        if (status == null) return "pending";
-        return switch (status.toUpperCase()) {
-            case "PENDING" -> "pending";
-            case "IN_PROGRESS" -> "in-progress";
-            case "DEVELOPMENT" -> "in-progress";
-            case "DELIVERED" -> "delivered";
-            case "HOMOLOGATION" -> "testing";
-            case "PRODUCTION" -> "production";
-            case "COMPLETED" -> "completed";
-            case "CANCELLED" -> "cancelled";
-            case "ON_HOLD" -> "on-hold";
-            case "BLOCKED" -> "blocked";
-            case "REVIEWING" -> "reviewing";
-            case "APPROVED" -> "approved";
-            case "REJECTED" -> "rejected";
-            case "DRAFT" -> "draft";
-            case "ACTIVE" -> "active";
-            case "INACTIVE" -> "inactive";
-            case "PAUSED" -> "paused";
-            case "REOPENED" -> "reopened";
-            default -> "pending";
-        };
-    }
-
-    private String getPriorityCssClass(String priority) {
-        if (priority == null) return "media";
-        return switch (priority.toUpperCase()) {
-            case "LOW" -> "baixa";
-            case "MEDIUM" -> "media";
-            case "HIGH", "URGENT", "CRITICAL" -> "alta";
-            case "VERY_LOW" -> "baixa";
-            case "VERY_HIGH", "IMMEDIATE" -> "alta";
-            case "NORMAL" -> "media";
-            default -> "media";
-        };
-    }
-
     @Override
     @Async("emailTaskExecutor")
     @Transactional(readOnly = true)
@@ -746,7 +659,7 @@ public class EmailServiceImpl implements EmailService {
         }
 
         try {
-            Task task = taskRepository.findById(taskParam.getId())
+            Task task = taskRepository.findByIdForNotification(taskParam.getId())
                     .orElseThrow(() -> new RuntimeException("Task not found: " + taskParam.getId()));
 
             Map<String, byte[]> allInlineImages = new java.util.LinkedHashMap<>();
@@ -802,7 +715,7 @@ public class EmailServiceImpl implements EmailService {
             BigDecimal totalAmount = task.getAmount() != null ? task.getAmount() : BigDecimal.ZERO;
             context.setVariable("totalAmount", totalAmount);
 
-            String htmlContent = templateEngine.process("email/financial-notification", context);
+            String htmlContent = emailTemplateRenderer.render(EmailTemplateRenderer.FINANCIAL_NOTIFICATION, context);
             String subject = "💰 Notificação Financeira - Tarefa " + task.getCode();
 
             sendFinancialEmailWithNotificationConfig(task, subject, htmlContent, additionalEmails, allInlineImages);
@@ -853,7 +766,7 @@ public class EmailServiceImpl implements EmailService {
         if (additionalEmails != null && !additionalEmails.isEmpty()) {
             additionalEmails.stream()
                     .filter(email -> email != null && !email.trim().isEmpty())
-                    .filter(email -> email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$"))
+                    .filter(email -> EMAIL_PATTERN.matcher(email).matches())
                     .forEach(ccEmails::add);
 
             log.info("Added {} additional email(s) to CC list for task ID: {}",
@@ -1164,7 +1077,7 @@ public class EmailServiceImpl implements EmailService {
     }
 
     @Override
-    @Async
+    @Async("emailTaskExecutor")
     @Transactional(readOnly = true)
     public void sendBillingPeriodNotificationAsync(BillingPeriod billingPeriodParam, List<String> additionalEmails, String flowType) {
         if (!emailProperties.isEnabled()) {
@@ -1221,7 +1134,7 @@ public class EmailServiceImpl implements EmailService {
             context.setVariable("totalAmount", totalAmount);
             context.setVariable("taskCount", billingTasks.size());
 
-            String htmlContent = templateEngine.process("email/billing-period-notification", context);
+            String htmlContent = emailTemplateRenderer.render(EmailTemplateRenderer.BILLING_PERIOD_NOTIFICATION, context);
             String subject = "📊 Faturamento Mensal - " + String.format("%02d/%d", billingPeriod.getMonth(), billingPeriod.getYear());
 
             sendBillingEmailWithNotificationConfig(billingPeriod, subject, htmlContent, additionalEmails);
@@ -1263,7 +1176,7 @@ public class EmailServiceImpl implements EmailService {
 
             additionalEmails.stream()
                     .filter(email -> email != null && !email.trim().isEmpty())
-                    .filter(email -> email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$"))
+                    .filter(email -> EMAIL_PATTERN.matcher(email).matches())
                     .forEach(ccEmails::add);
 
             log.info("Added {} additional email(s) to CC list for billing period notification. BillingPeriod ID: {}",
@@ -1294,14 +1207,14 @@ public class EmailServiceImpl implements EmailService {
     @Override
     @Async("emailTaskExecutor")
     @Transactional(readOnly = true)
-    public void sendDeliveryUpdatedNotificationWithAttachmentData(Delivery deliveryParam, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails) {
+    public void sendDeliveryUpdatedNotificationWithAttachmentData(Delivery deliveryParam, Map<String, String> attachmentPaths, List<String> additionalEmails) {
         if (deliveryParam == null) {
             log.warn("Cannot send delivery updated notification with attachments: delivery is null");
             return;
         }
 
         try {
-            Delivery delivery = deliveryRepository.findById(deliveryParam.getId())
+            Delivery delivery = deliveryRepository.findByIdForNotification(deliveryParam.getId())
                     .orElseThrow(() -> new RuntimeException("Delivery not found: " + deliveryParam.getId()));
 
             String subject = String.format("📊 Dados da Entrega - %s",
@@ -1310,14 +1223,14 @@ public class EmailServiceImpl implements EmailService {
 
             String htmlContent = buildDeliveryUpdatedEmailContent(delivery);
 
-            sendToMultipleRecipientsForDeliveryWithInMemoryAttachments(delivery, subject, htmlContent, "updated", attachmentDataMap, additionalEmails);
+            sendToMultipleRecipientsForDeliveryWithAttachments(delivery, subject, htmlContent, "updated", attachmentPaths, additionalEmails);
 
         } catch (Exception e) {
             log.error("Failed to send delivery updated notification with attachments for delivery ID: {}", deliveryParam.getId(), e);
         }
     }
 
-    private void sendToMultipleRecipientsForDeliveryWithInMemoryAttachments(Delivery delivery, String subject, String htmlContent, String action, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails) {
+    private void sendToMultipleRecipientsForDeliveryWithAttachments(Delivery delivery, String subject, String htmlContent, String action, Map<String, String> attachmentPaths, List<String> additionalEmails) {
         NotificationConfig config = findNotificationConfig(NotificationConfigType.NOTIFICACAO_ENTREGA, NotificationType.EMAIL);
 
         if (config == null) {
@@ -1350,7 +1263,7 @@ public class EmailServiceImpl implements EmailService {
 
             additionalEmails.stream()
                     .filter(email -> email != null && !email.trim().isEmpty())
-                    .filter(email -> email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$"))
+                    .filter(email -> EMAIL_PATTERN.matcher(email).matches())
                     .forEach(ccEmails::add);
 
             log.info("Added {} additional email(s) to CC list for delivery notification with attachments. Delivery ID: {}",
@@ -1363,13 +1276,13 @@ public class EmailServiceImpl implements EmailService {
             return;
         }
 
-        log.debug("📧 Sending DELIVERY {} notification WITH IN-MEMORY ATTACHMENTS with config - To: {}, CC: {}",
+        log.debug("📧 Sending DELIVERY {} notification WITH ATTACHMENTS with config - To: {}, CC: {}",
                 action.toUpperCase(), toEmails, ccEmails.isEmpty() ? "none" : ccEmails);
 
         for (String toEmail : toEmails) {
             try {
                 String ccRecipientsString = ccEmails.isEmpty() ? null : String.join(",", ccEmails);
-                sendEmailWithInMemoryAttachments(toEmail, ccRecipientsString, subject, htmlContent, attachmentDataMap);
+                sendEmailWithStorageAttachments(toEmail, ccRecipientsString, subject, htmlContent, attachmentPaths);
                 log.debug("Delivery notification with attachments sent successfully for delivery ID: {} to {}", delivery.getId(), toEmail);
             } catch (Exception e) {
                 log.error("Failed to send delivery notification with attachments for delivery ID: {} to {}: {}",
@@ -1381,7 +1294,7 @@ public class EmailServiceImpl implements EmailService {
     @Override
     @Async("emailTaskExecutor")
     @Transactional(readOnly = true)
-    public void sendBillingPeriodNotificationWithAttachmentData(BillingPeriod billingPeriodParam, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails, String flowType) {
+    public void sendBillingPeriodNotificationWithAttachmentData(BillingPeriod billingPeriodParam, Map<String, String> attachmentPaths, List<String> additionalEmails, String flowType) {
         if (billingPeriodParam == null) {
             log.warn("Cannot send billing period notification with attachments: billingPeriod is null");
             return;
@@ -1437,9 +1350,9 @@ public class EmailServiceImpl implements EmailService {
             context.setVariable("totalAmount", totalAmount);
             context.setVariable("taskCount", billingTasks.size());
 
-            String htmlContent = templateEngine.process("email/billing-period-notification", context);
+            String htmlContent = emailTemplateRenderer.render(EmailTemplateRenderer.BILLING_PERIOD_NOTIFICATION, context);
 
-            sendBillingEmailWithAttachmentsUsingNotificationConfig(billingPeriod, subject, htmlContent, attachmentDataMap, additionalEmails);
+            sendBillingEmailWithAttachmentsUsingNotificationConfig(billingPeriod, subject, htmlContent, attachmentPaths, additionalEmails);
 
         } catch (Exception e) {
             log.error("Failed to send billing period notification with attachments for period ID: {}",
@@ -1447,7 +1360,7 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    private void sendBillingEmailWithAttachmentsUsingNotificationConfig(BillingPeriod billingPeriod, String subject, String htmlContent, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails) {
+    private void sendBillingEmailWithAttachmentsUsingNotificationConfig(BillingPeriod billingPeriod, String subject, String htmlContent, Map<String, String> attachmentPaths, List<String> additionalEmails) {
         NotificationConfig config = findNotificationConfig(NotificationConfigType.NOTIFICACAO_FATURAMENTO, NotificationType.EMAIL);
 
         if (config == null) {
@@ -1477,7 +1390,7 @@ public class EmailServiceImpl implements EmailService {
 
             additionalEmails.stream()
                     .filter(email -> email != null && !email.trim().isEmpty())
-                    .filter(email -> email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$"))
+                    .filter(email -> EMAIL_PATTERN.matcher(email).matches())
                     .forEach(ccEmails::add);
 
             log.info("Added {} additional email(s) to CC list for billing period notification with attachments. BillingPeriod ID: {}",
@@ -1493,7 +1406,7 @@ public class EmailServiceImpl implements EmailService {
         for (String toEmail : toEmails) {
             try {
                 String ccRecipientsString = ccEmails.isEmpty() ? null : String.join(",", ccEmails);
-                sendEmailWithInMemoryAttachments(toEmail, ccRecipientsString, subject, htmlContent, attachmentDataMap);
+                sendEmailWithStorageAttachments(toEmail, ccRecipientsString, subject, htmlContent, attachmentPaths);
                 log.debug("Billing notification with attachments sent successfully for period ID: {} to {}", billingPeriod.getId(), toEmail);
             } catch (Exception e) {
                 log.error("Failed to send billing notification with attachments for period ID: {} to {}: {}",
@@ -1,25 +1,41 @@
 package br.com.devquote.service.impl;
 
-import br.com.devquote.client.git.GitProviderClient;
 import br.com.devquote.client.git.GitProviderFactory;
+import br.com.devquote.client.git.PullRequestStatus;
 import br.com.devquote.entity.Delivery;
 import br.com.devquote.entity.DeliveryItem;
+import br.com.devquote.entity.GitPullRequestCheck;
 import br.com.devquote.enums.DeliveryStatus;
 import br.com.devquote.error.GitProviderException;
+import br.com.devquote.helper.DeliveryProgressHelper;
 import br.com.devquote.helper.GitIntegrationParameterHelper;
 import br.com.devquote.repository.DeliveryItemRepository;
 import br.com.devquote.repository.DeliveryRepository;
+import br.com.devquote.repository.GitPullRequestCheckRepository;
 import br.com.devquote.service.GitPullRequestSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,15 +46,23 @@ public class GitPullRequestSyncServiceImpl implements GitPullRequestSyncService
     private final DeliveryRepository deliveryRepository;
     private final GitProviderFactory gitProviderFactory;
     private final GitIntegrationParameterHelper parameterHelper;
-
+    private final GitPullRequestCheckRepository gitPullRequestCheckRepository;
+    private final DeliveryProgressHelper deliveryProgressHelper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("gitPullRequestCheckExecutor")
+    private final Executor gitPullRequestCheckExecutor;
+
+    /**
+     * Sem transação aberta durante as chamadas ao provedor Git: os itens elegíveis são lidos numa leitura
+     * curta, os PRs consultados em paralelo e cada item mergeado é promovido na sua própria transação.
+     */
     @Override
-    @Transactional
     public void syncMergedPullRequests() {
         runSync("Sincronizacao PRs Git", deliveryItemRepository::findEligibleForGitSync);
     }
 
     @Override
-    @Transactional
     public void syncMergedPullRequestsDevelopmentFlow() {
         runSync("Sincronizacao PRs Git (fluxo DESENVOLVIMENTO)",
                 deliveryItemRepository::findEligibleForGitSyncDevelopment);
@@ -58,7 +82,7 @@ public class GitPullRequestSyncServiceImpl implements GitPullRequestSyncService
             return;
         }
 
-        List<DeliveryItem> eligibleItems = itemsSupplier.get();
+        List<ItemSnapshot> eligibleItems = readEligibleItems(itemsSupplier);
         log.info("Encontrados {} itens elegiveis para verificacao", eligibleItems.size());
 
         if (eligibleItems.isEmpty()) {
@@ -71,44 +95,54 @@ public class GitPullRequestSyncServiceImpl implements GitPullRequestSyncService
         AtomicInteger errorCount = new AtomicInteger(0);
         AtomicInteger skippedCount = new AtomicInteger(0);
 
-        for (DeliveryItem item : eligibleItems) {
-            String taskCode = item.getDelivery() != null && item.getDelivery().getTask() != null
-                    ? item.getDelivery().getTask().getCode() : "N/A";
-            Long deliveryId = item.getDelivery() != null ? item.getDelivery().getId() : null;
-            String prUrl = item.getPullRequest() != null ? item.getPullRequest() : "N/A";
-
-            log.info("[PROCESSANDO] DeliveryItem ID: {}, Delivery ID: {}, Task Code: {}, PR: {}",
-                    item.getId(), deliveryId, taskCode, prUrl);
-
-            try {
-                DeliveryStatus statusAnterior = item.getStatus();
-                boolean updated = processDeliveryItem(item);
-
-                if (updated) {
-                    updatedCount.incrementAndGet();
-                    log.info("[SUCESSO] DeliveryItem ID: {}, Task Code: {} | merged: false -> true | Status: {} -> PRODUCTION",
-                            item.getId(), taskCode, statusAnterior);
-                } else {
-                    skippedCount.incrementAndGet();
-                    log.info("[PULADO] DeliveryItem ID: {}, Task Code: {} | Motivo: PR ainda nao mergeado",
-                            item.getId(), taskCode);
-                }
-            } catch (GitProviderException e) {
-                if ("UNSUPPORTED_PROVIDER".equals(e.getCode())) {
-                    skippedCount.incrementAndGet();
-                    log.warn("[PULADO] DeliveryItem ID: {}, Task Code: {} | Motivo: Provedor nao suportado",
-                            item.getId(), taskCode);
-                } else {
+        Map<String, List<ItemSnapshot>> itemsByPullRequest = groupByPullRequest(eligibleItems);
+        skippedCount.addAndGet(eligibleItems.size() - itemsByPullRequest.values().stream().mapToInt(List::size).sum());
+
+        Map<String, PullRequestCheckResult> results = checkPullRequests(itemsByPullRequest.keySet());
+        log.info("{} PRs distintos consultados para {} itens", results.size(), eligibleItems.size());
+
+        itemsByPullRequest.forEach((prUrl, items) -> {
+            PullRequestCheckResult result = results.get(prUrl);
+
+            for (ItemSnapshot item : items) {
+                log.info("[PROCESSANDO] DeliveryItem ID: {}, Delivery ID: {}, Task Code: {}, PR: {}",
+                        item.id(), item.deliveryId(), item.taskCode(), prUrl);
+
+                try {
+                    if (result.error() != null) {
+                        throw result.error();
+                    }
+
+                    if (!result.merged()) {
+                        skippedCount.incrementAndGet();
+                        log.info("[PULADO] DeliveryItem ID: {}, Task Code: {} | Motivo: PR ainda nao mergeado",
+                                item.id(), item.taskCode());
+                    } else if (markAsProduction(item.id())) {
+                        updatedCount.incrementAndGet();
+                        log.info("[SUCESSO] DeliveryItem ID: {}, Task Code: {} | merged: false -> true | Status: {} -> PRODUCTION",
+                                item.id(), item.taskCode(), item.status());
+                    } else {
+                        skippedCount.incrementAndGet();
+                        log.info("[PULADO] DeliveryItem ID: {}, Task Code: {} | Motivo: item removido ou ja mergeado",
+                                item.id(), item.taskCode());
+                    }
+                } catch (GitProviderException e) {
+                    if ("UNSUPPORTED_PROVIDER".equals(e.getCode())) {
+                        skippedCount.incrementAndGet();
+                        log.warn("[PULADO] DeliveryItem ID: {}, Task Code: {} | Motivo: Provedor nao suportado",
+                                item.id(), item.taskCode());
+                    } else {
+                        errorCount.incrementAndGet();
+                        log.error("[ERRO] DeliveryItem ID: {}, Task Code: {} | Motivo: {} - {}",
+                                item.id(), item.taskCode(), e.getCode(), e.getMessage());
+                    }
+                } catch (Exception e) {
                     errorCount.incrementAndGet();
-                    log.error("[ERRO] DeliveryItem ID: {}, Task Code: {} | Motivo: {} - {}",
-                            item.getId(), taskCode, e.getCode(), e.getMessage());
+                    log.error("[ERRO] DeliveryItem ID: {}, Task Code: {} | Motivo: {}",
+                            item.id(), item.taskCode(), e.getMessage());
                 }
-            } catch (Exception e) {
-                errorCount.incrementAndGet();
-                log.error("[ERRO] DeliveryItem ID: {}, Task Code: {} | Motivo: {}",
-                        item.getId(), taskCode, e.getMessage());
             }
-        }
+        });
 
         long duration = System.currentTimeMillis() - startTime;
         log.info("=== FIM: {} | Atualizados: {}, Erros: {}, Pulados: {}, Total: {} ({}ms) ===",
@@ -123,7 +157,6 @@ public class GitPullRequestSyncServiceImpl implements GitPullRequestSyncService
     }
 
     @Override
-    @Transactional
     public boolean checkAndUpdatePullRequestStatus(Long deliveryItemId) {
         if (!parameterHelper.isIntegrationEnabled()) {
             log.warn("Integracao com Git desabilitada");
@@ -132,65 +165,181 @@ public class GitPullRequestSyncServiceImpl implements GitPullRequestSyncService
 
         DeliveryItem item = deliveryItemRepository.findById(deliveryItemId)
                 .orElseThrow(() -> new RuntimeException("DeliveryItem nao encontrado: " + deliveryItemId));
+        String prUrl = normalizePullRequestUrl(item.getPullRequest());
+
+        if (prUrl == null || !gitProviderFactory.isSupported(prUrl)) {
+            return false;
+        }
+
+        PullRequestCheckResult result = checkPullRequests(List.of(prUrl)).get(prUrl);
+        if (result.error() != null) {
+            throw result.error();
+        }
 
-        return processDeliveryItem(item);
+        if (result.merged()) {
+            markAsProduction(deliveryItemId);
+            return true;
+        }
+
+        return false;
     }
 
     @Override
-    @Transactional
     public int syncMergedPullRequestsForDelivery(Long deliveryId) {
         if (!parameterHelper.isIntegrationEnabled()) {
             log.info("Integracao com Git desabilitada. Pulando sync de PRs da Delivery {}", deliveryId);
             return 0;
         }
 
-        List<DeliveryItem> items = deliveryItemRepository.findEligibleForGitSyncByDeliveryId(deliveryId);
+        List<ItemSnapshot> items = readEligibleItems(() -> deliveryItemRepository.findEligibleForGitSyncByDeliveryId(deliveryId));
         if (items.isEmpty()) {
             log.info("[git-sync/delivery] Delivery {} | Nenhum item elegivel (sem PR ou ja mergeado)", deliveryId);
             return 0;
         }
 
+        Map<String, List<ItemSnapshot>> itemsByPullRequest = groupByPullRequest(items);
+        Map<String, PullRequestCheckResult> results = checkPullRequests(itemsByPullRequest.keySet());
+
         int updated = 0;
-        for (DeliveryItem item : items) {
-            try {
-                if (processDeliveryItem(item)) {
-                    updated++;
-                    log.info("[git-sync/delivery] Delivery {} | Item {} merged -> PRODUCTION", deliveryId, item.getId());
+        for (Map.Entry<String, List<ItemSnapshot>> entry : itemsByPullRequest.entrySet()) {
+            PullRequestCheckResult result = results.get(entry.getKey());
+            for (ItemSnapshot item : entry.getValue()) {
+                if (result.error() instanceof GitProviderException e) {
+                    log.warn("[git-sync/delivery] Delivery {} | Item {} | Erro {}: {}",
+                            deliveryId, item.id(), e.getCode(), e.getMessage());
+                } else if (result.error() != null) {
+                    log.error("[git-sync/delivery] Delivery {} | Item {} | Erro: {}",
+                            deliveryId, item.id(), result.error().getMessage());
+                } else if (result.merged()) {
+                    try {
+                        if (markAsProduction(item.id())) {
+                            updated++;
+                            log.info("[git-sync/delivery] Delivery {} | Item {} merged -> PRODUCTION", deliveryId, item.id());
+                        }
+                    } catch (Exception e) {
+                        log.error("[git-sync/delivery] Delivery {} | Item {} | Erro: {}",
+                                deliveryId, item.id(), e.getMessage());
+                    }
                 }
-            } catch (GitProviderException e) {
-                log.warn("[git-sync/delivery] Delivery {} | Item {} | Erro {}: {}",
-                        deliveryId, item.getId(), e.getCode(), e.getMessage());
-            } catch (Exception e) {
-                log.error("[git-sync/delivery] Delivery {} | Item {} | Erro: {}",
-                        deliveryId, item.getId(), e.getMessage());
             }
         }
         return updated;
     }
 
-    private boolean processDeliveryItem(DeliveryItem item) {
-        String prUrl = item.getPullRequest();
+    /**
+     * Leitura curta dos itens elegíveis, copiando só o que o sync usa depois da transação.
+     */
+    private List<ItemSnapshot> readEligibleItems(Supplier<List<DeliveryItem>> itemsSupplier) {
+        List<ItemSnapshot> items = transactionTemplate.execute(status -> itemsSupplier.get().stream()
+                .map(ItemSnapshot::of)
+                .toList());
+        return items != null ? items : List.of();
+    }
 
-        if (prUrl == null || prUrl.trim().isEmpty()) {
-            return false;
+    /**
+     * Agrupa os itens pela URL do PR (itens sem PR ou de provedor nao suportado ficam de fora),
+     * para que cada PR seja consultado uma unica vez.
+     */
+    private Map<String, List<ItemSnapshot>> groupByPullRequest(List<ItemSnapshot> items) {
+        Map<String, List<ItemSnapshot>> itemsByPullRequest = new LinkedHashMap<>();
+        for (ItemSnapshot item : items) {
+            String prUrl = normalizePullRequestUrl(item.pullRequest());
+            if (prUrl == null || !gitProviderFactory.isSupported(prUrl)) {
+                log.info("[PULADO] DeliveryItem ID: {} | Motivo: PR ausente ou provedor nao suportado", item.id());
+                continue;
+            }
+            itemsByPullRequest.computeIfAbsent(prUrl, key -> new ArrayList<>()).add(item);
         }
+        return itemsByPullRequest;
+    }
 
-        if (!gitProviderFactory.isSupported(prUrl)) {
-            return false;
+    private String normalizePullRequestUrl(String prUrl) {
+        return prUrl == null || prUrl.trim().isEmpty() ? null : prUrl.trim();
+    }
+
+    /**
+     * Consulta os PRs em paralelo no pool compartilhado gitPullRequestCheckExecutor (limitado por
+     * integrations.github.max-concurrent-requests) usando o ETag persistido da consulta anterior: PR
+     * inalterado volta 304 e reaproveita o estado salvo sem consumir cota.
+     * O resultado é gravado por upsert (ON CONFLICT na URL), então execuções concorrentes para o mesmo PR
+     * não falham na constraint única.
+     */
+    private Map<String, PullRequestCheckResult> checkPullRequests(Collection<String> prUrls) {
+        Map<String, PullRequestCheckResult> results = new HashMap<>();
+        if (prUrls.isEmpty()) {
+            return results;
         }
 
-        GitProviderClient provider = gitProviderFactory.getProvider(prUrl);
-        boolean isMerged = provider.checkIfMerged(prUrl);
+        Map<String, GitPullRequestCheck> checks = gitPullRequestCheckRepository.findByPullRequestUrlIn(prUrls).stream()
+                .collect(Collectors.toMap(GitPullRequestCheck::getPullRequestUrl, Function.identity()));
 
-        if (isMerged) {
-            updateDeliveryItemToProduction(item);
-            return true;
+        Map<String, CompletableFuture<PullRequestStatus>> futures = new LinkedHashMap<>();
+        for (String prUrl : prUrls) {
+            GitPullRequestCheck check = checks.get(prUrl);
+            String eTag = check != null ? check.getEtag() : null;
+            futures.put(prUrl, CompletableFuture.supplyAsync(
+                    () -> gitProviderFactory.getProvider(prUrl).checkStatus(prUrl, eTag), gitPullRequestCheckExecutor));
         }
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        futures.forEach((prUrl, future) -> {
+            PullRequestStatus status;
+            try {
+                status = future.join();
+            } catch (CompletionException e) {
+                results.put(prUrl, new PullRequestCheckResult(false, e.getCause() instanceof RuntimeException re
+                        ? re : new RuntimeException(e.getCause())));
+                return;
+            }
 
-        return false;
+            GitPullRequestCheck check = checks.get(prUrl);
+            String eTag = check != null ? check.getEtag() : null;
+            boolean merged = check != null && Boolean.TRUE.equals(check.getMerged());
+            if (!status.isNotModified()) {
+                eTag = status.getETag();
+                merged = status.isMerged();
+            }
+            rows.add(new Object[]{prUrl, eTag, merged, now, now, now});
+
+            results.put(prUrl, new PullRequestCheckResult(merged, null));
+        });
+
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate("""
+                    INSERT INTO git_pull_request_check (pull_request_url, etag, merged, checked_at, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    ON CONFLICT (pull_request_url) DO UPDATE
+                       SET etag = EXCLUDED.etag,
+                           merged = EXCLUDED.merged,
+                           checked_at = EXCLUDED.checked_at,
+                           updated_at = EXCLUDED.updated_at
+                    """, rows));
+        }
+
+        return results;
+    }
+
+    /**
+     * Promove o item a PRODUCTION na sua própria transação, relendo-o: false se foi removido ou já
+     * mergeado depois da leitura inicial.
+     */
+    private boolean markAsProduction(Long deliveryItemId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            DeliveryItem item = deliveryItemRepository.findById(deliveryItemId).orElse(null);
+            if (item == null || Boolean.TRUE.equals(item.getMerged())) {
+                return false;
+            }
+            updateDeliveryItemToProduction(item);
+            return true;
+        }));
     }
 
     private void updateDeliveryItemToProduction(DeliveryItem item) {
+        DeliveryStatus previousStatus = item.getStatus();
         item.setMerged(true);
         item.setMergedAt(LocalDateTime.now());
         item.setStatus(DeliveryStatus.PRODUCTION);
@@ -202,8 +351,20 @@ public class GitPullRequestSyncServiceImpl implements GitPullRequestSyncService
         deliveryItemRepository.save(item);
 
         Delivery delivery = item.getDelivery();
-        delivery.updateStatus();
-        delivery.updateDates();
+        deliveryProgressHelper.itemChanged(delivery, previousStatus, item.getStatus());
         deliveryRepository.save(delivery);
     }
+
+    private record ItemSnapshot(Long id, Long deliveryId, String taskCode, String pullRequest, DeliveryStatus status) {
+
+        static ItemSnapshot of(DeliveryItem item) {
+            Delivery delivery = item.getDelivery();
+            String taskCode = delivery != null && delivery.getTask() != null ? delivery.getTask().getCode() : "N/A";
+            return new ItemSnapshot(item.getId(), delivery != null ? delivery.getId() : null, taskCode,
+                    item.getPullRequest(), item.getStatus());
+        }
+    }
+
+    private record PullRequestCheckResult(boolean merged, RuntimeException error) {
+    }
 }
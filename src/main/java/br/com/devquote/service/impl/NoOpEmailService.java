@@ -104,18 +104,18 @@ public class NoOpEmailService implements EmailService {
     }
 
     @Override
-    public void sendDeliveryUpdatedNotificationWithAttachmentData(Delivery delivery, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails) {
-        log.debug("📧 [EMAIL DISABLED] Would send DELIVERY UPDATED notification WITH IN-MEMORY ATTACHMENTS for: Delivery ID={}, Status={}",
+    public void sendDeliveryUpdatedNotificationWithAttachmentData(Delivery delivery, Map<String, String> attachmentPaths, List<String> additionalEmails) {
+        log.debug("📧 [EMAIL DISABLED] Would send DELIVERY UPDATED notification WITH ATTACHMENTS for: Delivery ID={}, Status={}",
                 delivery.getId(), delivery.getStatus());
         if (delivery.getTask() != null && delivery.getTask().getRequester() != null) {
             log.debug("📧 [EMAIL DISABLED] Would send to requester: {} <{}>",
                     delivery.getTask().getRequester().getName(),
                     delivery.getTask().getRequester().getEmail());
         }
-        if (attachmentDataMap != null && !attachmentDataMap.isEmpty()) {
-            log.debug("📧 [EMAIL DISABLED] Would include {} in-memory attachments: {}",
-                    attachmentDataMap.size(),
-                    attachmentDataMap.keySet());
+        if (attachmentPaths != null && !attachmentPaths.isEmpty()) {
+            log.debug("📧 [EMAIL DISABLED] Would include {} attachments: {}",
+                    attachmentPaths.size(),
+                    attachmentPaths.keySet());
         }
         if (additionalEmails != null && !additionalEmails.isEmpty()) {
             log.debug("📧 [EMAIL DISABLED] Would include {} additional email(s) in CC: {}",
@@ -124,14 +124,14 @@ public class NoOpEmailService implements EmailService {
     }
 
     @Override
-    public void sendBillingPeriodNotificationWithAttachmentData(BillingPeriod billingPeriod, Map<String, byte[]> attachmentDataMap, List<String> additionalEmails, String flowType) {
-        log.debug("📧 [EMAIL DISABLED] Would send BILLING PERIOD notification WITH IN-MEMORY ATTACHMENTS for: Period ID={}, Month={}, Year={}, FlowType={}",
+    public void sendBillingPeriodNotificationWithAttachmentData(BillingPeriod billingPeriod, Map<String, String> attachmentPaths, List<String> additionalEmails, String flowType) {
+        log.debug("📧 [EMAIL DISABLED] Would send BILLING PERIOD notification WITH ATTACHMENTS for: Period ID={}, Month={}, Year={}, FlowType={}",
                 billingPeriod.getId(), billingPeriod.getMonth(), billingPeriod.getYear(), flowType);
         log.debug("📧 [EMAIL DISABLED] Would send to finance department with billing period details");
-        if (attachmentDataMap != null && !attachmentDataMap.isEmpty()) {
-            log.debug("📧 [EMAIL DISABLED] Would include {} in-memory attachments: {}",
-                    attachmentDataMap.size(),
-                    attachmentDataMap.keySet());
+        if (attachmentPaths != null && !attachmentPaths.isEmpty()) {
+            log.debug("📧 [EMAIL DISABLED] Would include {} attachments: {}",
+                    attachmentPaths.size(),
+                    attachmentPaths.keySet());
         }
         if (additionalEmails != null && !additionalEmails.isEmpty()) {
             log.debug("📧 [EMAIL DISABLED] Would include {} additional email(s) in CC: {}",
@@ -8,17 +8,26 @@ import br.com.devquote.dto.request.SystemParameterRequest;
 import br.com.devquote.dto.response.PriorityBoardResponse;
 import br.com.devquote.entity.SystemParameter;
 import br.com.devquote.enums.BoardFilterMode;
+import br.com.devquote.helper.SystemParameterStore;
 import br.com.devquote.helper.TaskBoardParameterHelper;
 import br.com.devquote.repository.SystemParameterRepository;
 import br.com.devquote.repository.TaskRepository;
 import br.com.devquote.service.PriorityBoardService;
 import br.com.devquote.service.SystemParameterService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -31,6 +40,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,10 +54,71 @@ public class PriorityBoardServiceImpl implements PriorityBoardService {
     private final TaskRepository taskRepository;
     private final SystemParameterService systemParameterService;
     private final SystemParameterRepository systemParameterRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Board por modo (substitui o @Cacheable "priorityBoard"): o LoadingCache garante uma única carga
+    // por modo em andamento (os demais leitores aguardam a mesma) e, passado REFRESH_AFTER, devolve o
+    // board atual e recarrega em background — só a primeira carga ou um "Atualizar" esperam o ClickUp.
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(4);
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(20);
+
+    private ExecutorService refreshExecutor;
+    private LoadingCache<BoardFilterMode, LoadedBoard> boards;
+
+    @PostConstruct
+    void initCache() {
+        refreshExecutor = Executors.newFixedThreadPool(2);
+        boards = Caffeine.newBuilder()
+                .maximumSize(BoardFilterMode.values().length)
+                .refreshAfterWrite(REFRESH_AFTER)
+                .expireAfterWrite(EXPIRE_AFTER)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::loadBoard);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, boards, "priorityBoard");
+        for (BoardFilterMode mode : BoardFilterMode.values()) {
+            Gauge.builder("devquote.priority.board.staleness", boards, cache -> staleness(cache, mode))
+                    .tag("mode", mode.name())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void shutdownCache() {
+        refreshExecutor.shutdownNow();
+    }
 
     @Override
-    @Cacheable(value = "priorityBoard", key = "'board-' + #mode")
     public PriorityBoardResponse getBoard(BoardFilterMode mode) {
+        return boards.get(mode != null ? mode : BoardFilterMode.DEV_OR_ASSIGNEE).board();
+    }
+
+    private LoadedBoard loadBoard(BoardFilterMode mode) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            PriorityBoardResponse board = buildBoard(mode);
+            outcome = "success";
+            return new LoadedBoard(board, System.currentTimeMillis());
+        } finally {
+            sample.stop(Timer.builder("devquote.priority.board.load")
+                    .tag("mode", String.valueOf(mode))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Idade em segundos do board em cache para o modo; NaN se não houver.
+     */
+    private static double staleness(LoadingCache<BoardFilterMode, LoadedBoard> cache, BoardFilterMode mode) {
+        LoadedBoard loaded = cache.policy().getIfPresentQuietly(mode);
+        return loaded == null ? Double.NaN : (System.currentTimeMillis() - loaded.loadedAt()) / 1000.0;
+    }
+
+    private PriorityBoardResponse buildBoard(BoardFilterMode mode) {
         String fetchedAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
         Optional<TaskBoardProvider> active = providerFactory.getActiveProvider();
@@ -169,13 +241,23 @@ public class PriorityBoardServiceImpl implements PriorityBoardService {
     }
 
     @Override
-    @CacheEvict(value = "priorityBoard", allEntries = true)
     public void evict() {
+        boards.invalidateAll();
         log.info("Cache 'priorityBoard' invalidado (refresh manual).");
     }
 
+    /**
+     * Configuração do board alterada (nesta ou em outra instância, via refresh do snapshot): descarta os boards montados.
+     */
+    @EventListener
+    public void onParametersChanged(SystemParameterStore.Changed event) {
+        if (event.names().stream().anyMatch(name -> name.startsWith("CLICKUP_") || name.startsWith("TASK_BOARD_"))) {
+            boards.invalidateAll();
+            log.info("Cache 'priorityBoard' invalidado (parametros do board alterados).");
+        }
+    }
+
     @Override
-    @CacheEvict(value = "priorityBoard", allEntries = true)
     public void updatePreferences(BoardPreferencesRequest request) {
         if (request == null) return;
 
@@ -198,6 +280,8 @@ public class PriorityBoardServiceImpl implements PriorityBoardService {
                     "Status ocultados do board (CSV). Vazio = mostra tudo. Editável via UI em /priorities.");
             log.info("[board-prefs] Novos ocultos: [{}]", csv);
         }
+
+        boards.invalidateAll();
     }
 
     private void upsertParam(String name, String value, String description) {
@@ -215,4 +299,7 @@ public class PriorityBoardServiceImpl implements PriorityBoardService {
             systemParameterService.create(dto);
         }
     }
+
+    private record LoadedBoard(PriorityBoardResponse board, long loadedAt) {
+    }
 }
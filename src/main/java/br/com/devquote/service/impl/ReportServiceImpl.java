@@ -10,6 +10,8 @@ import br.com.devquote.dto.response.ContentBlock;
 import br.com.devquote.dto.response.SubTaskReportRow;
 import br.com.devquote.dto.response.TaskReportData;
 import br.com.devquote.utils.HtmlImageExtractor;
+import br.com.devquote.utils.JasperTemplateRegistry;
+import br.com.devquote.utils.ReportPdfCache;
 import br.com.devquote.entity.Delivery;
 import br.com.devquote.entity.DeliveryItem;
 import br.com.devquote.entity.DeliveryOperationalItem;
@@ -24,30 +26,20 @@ import br.com.devquote.service.ReportService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JREmptyDataSource;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperExportManager;
-import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.JasperReport;
-import net.sf.jasperreports.engine.util.JRLoader;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
-import net.sf.jasperreports.engine.export.JRPdfExporter;
-import net.sf.jasperreports.export.SimpleExporterInput;
-import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
-import net.sf.jasperreports.export.SimplePdfExporterConfiguration;
-import java.io.ByteArrayOutputStream;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -59,6 +51,8 @@ public class ReportServiceImpl implements ReportService {
     private final SubTaskRepository subTaskRepository;
     private final BillingPeriodTaskRepository billingPeriodTaskRepository;
     private final FileStorageStrategy fileStorageStrategy;
+    private final JasperTemplateRegistry jasperTemplateRegistry;
+    private final ReportPdfCache reportPdfCache;
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
     private static final NumberFormat CURRENCY_FORMATTER = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
@@ -70,15 +64,13 @@ public class ReportServiceImpl implements ReportService {
 
             OperationalReportData reportData = buildReportData(request);
 
-            JasperReport jasperReport = loadJasperReport();
-
             Map<String, Object> parameters = buildReportParameters(reportData);
 
             JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(reportData.getLinhas());
 
-            JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
+            JasperPrint jasperPrint = jasperTemplateRegistry.fill(JasperTemplateRegistry.OPERATIONAL_REPORT, parameters, dataSource);
 
-            byte[] pdfBytes = JasperExportManager.exportReportToPdf(jasperPrint);
+            byte[] pdfBytes = jasperTemplateRegistry.exportPdf(JasperTemplateRegistry.OPERATIONAL_REPORT, jasperPrint);
 
             log.info("Relatório operacional gerado com sucesso - {} linhas", reportData.getLinhas().size());
 
@@ -705,30 +697,6 @@ public class ReportServiceImpl implements ReportService {
                 .build();
     }
 
-    private JasperReport loadJasperReport() throws JRException, IOException {
-//        try {
-//            ClassPathResource resource = new ClassPathResource("reports/operational_report.jasper");
-//            return (JasperReport) JRLoader.loadObject(resource.getInputStream());
-//        } catch (Exception e) {
-//            log.error("Erro ao carregar template Jasper compilado, tentando carregar .jrxml", e);
-//            try {
-//                ClassPathResource resourceJrxml = new ClassPathResource("reports/operational_report.jrxml");
-//                return JasperCompileManager.compileReport(resourceJrxml.getInputStream());
-//            } catch (Exception ex) {
-//                log.error("Erro ao compilar template Jasper", ex);
-//                throw new RuntimeException("Não foi possível carregar o template do relatório", ex);
-//            }
-//        }
-        ClassPathResource jasper = new ClassPathResource("reports/operational_report.jasper");
-
-        if (jasper.exists()) {
-            return (JasperReport) JRLoader.loadObject(jasper.getInputStream());
-        }
-
-        ClassPathResource jrxml = new ClassPathResource("reports/operational_report.jrxml");
-        return JasperCompileManager.compileReport(jrxml.getInputStream());
-    }
-
     private Map<String, Object> buildReportParameters(OperationalReportData data) {
         Map<String, Object> parameters = new HashMap<>();
 
@@ -800,6 +768,12 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public byte[] generateTaskReportPdf(Long taskId, boolean showValues) {
+        String version = reportVersion(taskRepository.findReportVersion(taskId));
+        return reportPdfCache.get(ReportPdfCache.TASK_REPORT, taskId, showValues, version,
+                () -> renderTaskReportPdf(taskId, showValues));
+    }
+
+    private byte[] renderTaskReportPdf(Long taskId, boolean showValues) {
         try {
             log.info("Gerando relatorio PDF da tarefa ID: {} - showValues: {}", taskId, showValues);
 
@@ -810,35 +784,24 @@ public class ReportServiceImpl implements ReportService {
 
             TaskReportData reportData = buildTaskReportData(task, subTasks, showValues);
 
-            JasperReport contentBlocksSubreport = loadContentBlocksSubreport();
+            JasperReport contentBlocksSubreport = jasperTemplateRegistry.get(JasperTemplateRegistry.CONTENT_BLOCKS_SUBREPORT);
 
-            JasperReport taskReport = loadTaskJasperReport();
             Map<String, Object> taskParameters = buildTaskReportParameters(reportData);
             taskParameters.put("CONTENT_BLOCKS_SUBREPORT", contentBlocksSubreport);
-            JasperPrint taskPrint = JasperFillManager.fillReport(taskReport, taskParameters, new JREmptyDataSource());
+            JasperPrint taskPrint = jasperTemplateRegistry.fill(JasperTemplateRegistry.TASK_REPORT, taskParameters, new JREmptyDataSource());
 
             List<JasperPrint> jasperPrints = new ArrayList<>();
             jasperPrints.add(taskPrint);
 
             if (!subTasks.isEmpty()) {
-                JasperReport subTasksReport = loadSubTasksJasperReport();
                 Map<String, Object> subTasksParameters = buildSubTasksReportParameters(reportData);
                 subTasksParameters.put("CONTENT_BLOCKS_SUBREPORT", contentBlocksSubreport);
                 JRBeanCollectionDataSource subTasksDataSource = new JRBeanCollectionDataSource(reportData.getSubTasks());
-                JasperPrint subTasksPrint = JasperFillManager.fillReport(subTasksReport, subTasksParameters, subTasksDataSource);
+                JasperPrint subTasksPrint = jasperTemplateRegistry.fill(JasperTemplateRegistry.TASK_SUBTASKS_REPORT, subTasksParameters, subTasksDataSource);
                 jasperPrints.add(subTasksPrint);
             }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JRPdfExporter exporter = new JRPdfExporter();
-            exporter.setExporterInput(SimpleExporterInput.getInstance(jasperPrints));
-            exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(outputStream));
-            SimplePdfExporterConfiguration configuration = new SimplePdfExporterConfiguration();
-            configuration.setCreatingBatchModeBookmarks(true);
-            exporter.setConfiguration(configuration);
-            exporter.exportReport();
-
-            byte[] pdfBytes = outputStream.toByteArray();
+            byte[] pdfBytes = jasperTemplateRegistry.exportPdf(JasperTemplateRegistry.TASK_REPORT, jasperPrints);
 
             log.info("Relatorio PDF da tarefa gerado com sucesso - Tarefa: {} - {} subtarefas", task.getCode(), subTasks.size());
 
@@ -850,25 +813,6 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
-    private JasperReport loadContentBlocksSubreport() throws JRException {
-        ClassPathResource jasperResource = new ClassPathResource("reports/content_blocks_subreport.jasper");
-        if (jasperResource.exists()) {
-            try {
-                return (JasperReport) JRLoader.loadObject(jasperResource.getInputStream());
-            } catch (Exception e) {
-                log.warn("Erro ao carregar subreport de blocos de conteudo compilado, compilando .jrxml", e);
-            }
-        }
-
-        try {
-            ClassPathResource jrxmlResource = new ClassPathResource("reports/content_blocks_subreport.jrxml");
-            return JasperCompileManager.compileReport(jrxmlResource.getInputStream());
-        } catch (Exception ex) {
-            log.error("Erro ao compilar subreport de blocos de conteudo", ex);
-            throw new RuntimeException("Nao foi possivel carregar o subreport de blocos de conteudo", ex);
-        }
-    }
-
     private TaskReportData buildTaskReportData(Task task, List<SubTask> subTasks, boolean showValues) {
         boolean hasDelivery = deliveryRepository.existsByTaskId(task.getId());
         boolean hasQuoteInBilling = billingPeriodTaskRepository.existsByTaskId(task.getId());
@@ -879,13 +823,19 @@ public class ReportServiceImpl implements ReportService {
                 .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        List<ContentBlock> taskDescriptionBlocks = HtmlImageExtractor.parseHtmlToBlocks(task.getDescription(), fileStorageStrategy);
+        // Todas as imagens da tarefa e das subtarefas baixadas de uma vez, em paralelo, antes de montar os blocos
+        List<String> htmls = new ArrayList<>();
+        htmls.add(task.getDescription());
+        subTasks.forEach(subTask -> htmls.add(subTask.getDescription()));
+        Map<String, byte[]> images = HtmlImageExtractor.resolveImages(htmls, fileStorageStrategy);
+
+        List<ContentBlock> taskDescriptionBlocks = HtmlImageExtractor.parseHtmlToBlocks(task.getDescription(), images);
         boolean hasTaskDescriptionContent = !taskDescriptionBlocks.isEmpty();
 
         List<SubTaskReportRow> subTaskRows = new ArrayList<>();
         int order = 1;
         for (SubTask subTask : subTasks) {
-            List<ContentBlock> subTaskBlocks = HtmlImageExtractor.parseHtmlToBlocks(subTask.getDescription(), fileStorageStrategy);
+            List<ContentBlock> subTaskBlocks = HtmlImageExtractor.parseHtmlToBlocks(subTask.getDescription(), images);
             boolean hasSubTaskContent = !subTaskBlocks.isEmpty();
 
             subTaskRows.add(SubTaskReportRow.builder()
@@ -943,25 +893,6 @@ public class ReportServiceImpl implements ReportService {
                 .build();
     }
 
-    private JasperReport loadTaskJasperReport() throws JRException {
-        ClassPathResource jasperResource = new ClassPathResource("reports/task_report.jasper");
-        if (jasperResource.exists()) {
-            try {
-                return (JasperReport) JRLoader.loadObject(jasperResource.getInputStream());
-            } catch (Exception e) {
-                log.warn("Erro ao carregar template Jasper compilado, compilando .jrxml", e);
-            }
-        }
-
-        try {
-            ClassPathResource jrxmlResource = new ClassPathResource("reports/task_report.jrxml");
-            return JasperCompileManager.compileReport(jrxmlResource.getInputStream());
-        } catch (Exception ex) {
-            log.error("Erro ao compilar template Jasper da tarefa", ex);
-            throw new RuntimeException("Nao foi possivel carregar o template do relatorio de tarefa", ex);
-        }
-    }
-
     private Map<String, Object> buildTaskReportParameters(TaskReportData data) {
         Map<String, Object> parameters = new HashMap<>();
 
@@ -1002,25 +933,6 @@ public class ReportServiceImpl implements ReportService {
         return parameters;
     }
 
-    private JasperReport loadSubTasksJasperReport() throws JRException {
-        ClassPathResource jasperResource = new ClassPathResource("reports/task_subtasks_report.jasper");
-        if (jasperResource.exists()) {
-            try {
-                return (JasperReport) JRLoader.loadObject(jasperResource.getInputStream());
-            } catch (Exception e) {
-                log.warn("Erro ao carregar template Jasper de subtarefas compilado, compilando .jrxml", e);
-            }
-        }
-
-        try {
-            ClassPathResource jrxmlResource = new ClassPathResource("reports/task_subtasks_report.jrxml");
-            return JasperCompileManager.compileReport(jrxmlResource.getInputStream());
-        } catch (Exception ex) {
-            log.error("Erro ao compilar template Jasper de subtarefas", ex);
-            throw new RuntimeException("Nao foi possivel carregar o template do relatorio de subtarefas", ex);
-        }
-    }
-
     private Map<String, Object> buildSubTasksReportParameters(TaskReportData data) {
         Map<String, Object> parameters = new HashMap<>();
 
@@ -1086,6 +998,24 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public byte[] generateDeliveryReportPdf(Long deliveryId, boolean showValues) {
+        String version = reportVersion(deliveryRepository.findReportVersion(deliveryId));
+        return reportPdfCache.get(ReportPdfCache.DELIVERY_REPORT, deliveryId, showValues, version,
+                () -> renderDeliveryReportPdf(deliveryId, showValues));
+    }
+
+    /**
+     * Fingerprint da linha de findReportVersion; null se a entidade não existe (a geração trata o 404).
+     */
+    private String reportVersion(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return Arrays.stream(rows.get(0))
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+    }
+
+    private byte[] renderDeliveryReportPdf(Long deliveryId, boolean showValues) {
         try {
             log.info("Gerando relatorio PDF da entrega ID: {} - showValues: {}", deliveryId, showValues);
 
@@ -1094,36 +1024,28 @@ public class ReportServiceImpl implements ReportService {
 
             DeliveryReportData reportData = buildDeliveryReportData(delivery, showValues);
 
-            JasperReport contentBlocksSubreport = loadContentBlocksSubreport();
+            JasperReport contentBlocksSubreport = jasperTemplateRegistry.get(JasperTemplateRegistry.CONTENT_BLOCKS_SUBREPORT);
 
-            JasperReport deliveryReport = loadDeliveryJasperReport();
             Map<String, Object> deliveryParameters = buildDeliveryReportParameters(reportData);
             deliveryParameters.put("CONTENT_BLOCKS_SUBREPORT", contentBlocksSubreport);
-            JasperPrint deliveryPrint = JasperFillManager.fillReport(deliveryReport, deliveryParameters, new JREmptyDataSource());
+            JasperPrint deliveryPrint = jasperTemplateRegistry.fill(JasperTemplateRegistry.DELIVERY_REPORT, deliveryParameters, new JREmptyDataSource());
 
             List<JasperPrint> jasperPrints = new ArrayList<>();
             jasperPrints.add(deliveryPrint);
 
             if (!reportData.getItems().isEmpty()) {
                 boolean isDesenvolvimento = "DESENVOLVIMENTO".equals(reportData.getFlowType());
-                JasperReport itemsReport = isDesenvolvimento ? loadDeliveryItemsDevJasperReport() : loadDeliveryItemsOpJasperReport();
+                String itemsTemplate = isDesenvolvimento
+                        ? JasperTemplateRegistry.DELIVERY_ITEMS_DEV_REPORT
+                        : JasperTemplateRegistry.DELIVERY_ITEMS_OP_REPORT;
                 Map<String, Object> itemsParameters = buildDeliveryItemsReportParameters(reportData);
                 itemsParameters.put("CONTENT_BLOCKS_SUBREPORT", contentBlocksSubreport);
                 JRBeanCollectionDataSource itemsDataSource = new JRBeanCollectionDataSource(reportData.getItems());
-                JasperPrint itemsPrint = JasperFillManager.fillReport(itemsReport, itemsParameters, itemsDataSource);
+                JasperPrint itemsPrint = jasperTemplateRegistry.fill(itemsTemplate, itemsParameters, itemsDataSource);
                 jasperPrints.add(itemsPrint);
             }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JRPdfExporter exporter = new JRPdfExporter();
-            exporter.setExporterInput(SimpleExporterInput.getInstance(jasperPrints));
-            exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(outputStream));
-            SimplePdfExporterConfiguration configuration = new SimplePdfExporterConfiguration();
-            configuration.setCreatingBatchModeBookmarks(true);
-            exporter.setConfiguration(configuration);
-            exporter.exportReport();
-
-            byte[] pdfBytes = outputStream.toByteArray();
+            byte[] pdfBytes = jasperTemplateRegistry.exportPdf(JasperTemplateRegistry.DELIVERY_REPORT, jasperPrints);
 
             log.info("Relatorio PDF da entrega gerado com sucesso - Entrega: {} - {} itens", delivery.getId(), reportData.getTotalItems());
 
@@ -1139,9 +1061,22 @@ public class ReportServiceImpl implements ReportService {
         List<DeliveryItemReportRow> itemRows = new ArrayList<>();
         int order = 1;
 
+        // Imagens de todos os textos da entrega resolvidas de uma vez, em paralelo e sem repetir URL
+        Task task = delivery.getTask();
+        List<String> htmls = new ArrayList<>();
+        htmls.add(delivery.getNotes());
+        htmls.add(task.getDescription());
+        if (delivery.getItems() != null) {
+            delivery.getItems().forEach(item -> htmls.add(item.getNotes()));
+        }
+        if (delivery.getOperationalItems() != null) {
+            delivery.getOperationalItems().forEach(item -> htmls.add(item.getDescription()));
+        }
+        Map<String, byte[]> images = HtmlImageExtractor.resolveImages(htmls, fileStorageStrategy);
+
         if (delivery.getItems() != null) {
             for (DeliveryItem item : delivery.getItems()) {
-                List<ContentBlock> notesBlocks = HtmlImageExtractor.parseHtmlToBlocks(item.getNotes(), fileStorageStrategy);
+                List<ContentBlock> notesBlocks = HtmlImageExtractor.parseHtmlToBlocks(item.getNotes(), images);
                 itemRows.add(DeliveryItemReportRow.builder()
                         .id(item.getId())
                         .order(order++)
@@ -1165,7 +1100,7 @@ public class ReportServiceImpl implements ReportService {
 
         if (delivery.getOperationalItems() != null) {
             for (DeliveryOperationalItem item : delivery.getOperationalItems()) {
-                List<ContentBlock> descBlocks = HtmlImageExtractor.parseHtmlToBlocks(item.getDescription(), fileStorageStrategy);
+                List<ContentBlock> descBlocks = HtmlImageExtractor.parseHtmlToBlocks(item.getDescription(), images);
                 itemRows.add(DeliveryItemReportRow.builder()
                         .id(item.getId())
                         .order(order++)
@@ -1187,11 +1122,9 @@ public class ReportServiceImpl implements ReportService {
             }
         }
 
-        Task task = delivery.getTask();
-
-        List<ContentBlock> deliveryNotesBlocks = HtmlImageExtractor.parseHtmlToBlocks(delivery.getNotes(), fileStorageStrategy);
+        List<ContentBlock> deliveryNotesBlocks = HtmlImageExtractor.parseHtmlToBlocks(delivery.getNotes(), images);
         String desc = task.getDescription() != null ? task.getDescription() : "";
-        List<ContentBlock> taskDescriptionBlocks = HtmlImageExtractor.parseHtmlToBlocks(desc, fileStorageStrategy);
+        List<ContentBlock> taskDescriptionBlocks = HtmlImageExtractor.parseHtmlToBlocks(desc, images);
 
         return DeliveryReportData.builder()
                 .id(delivery.getId())
@@ -1225,63 +1158,6 @@ public class ReportServiceImpl implements ReportService {
                 .build();
     }
 
-    private JasperReport loadDeliveryJasperReport() throws JRException {
-        ClassPathResource jasperResource = new ClassPathResource("reports/delivery_report.jasper");
-        if (jasperResource.exists()) {
-            try {
-                return (JasperReport) JRLoader.loadObject(jasperResource.getInputStream());
-            } catch (Exception e) {
-                log.warn("Erro ao carregar template Jasper de entrega compilado, compilando .jrxml", e);
-            }
-        }
-
-        try {
-            ClassPathResource jrxmlResource = new ClassPathResource("reports/delivery_report.jrxml");
-            return JasperCompileManager.compileReport(jrxmlResource.getInputStream());
-        } catch (Exception ex) {
-            log.error("Erro ao compilar template Jasper de entrega", ex);
-            throw new RuntimeException("Nao foi possivel carregar o template do relatorio de entrega", ex);
-        }
-    }
-
-    private JasperReport loadDeliveryItemsDevJasperReport() throws JRException {
-        ClassPathResource jasperResource = new ClassPathResource("reports/delivery_items_dev_report.jasper");
-        if (jasperResource.exists()) {
-            try {
-                return (JasperReport) JRLoader.loadObject(jasperResource.getInputStream());
-            } catch (Exception e) {
-                log.warn("Erro ao carregar template Jasper de itens dev compilado, compilando .jrxml", e);
-            }
-        }
-
-        try {
-            ClassPathResource jrxmlResource = new ClassPathResource("reports/delivery_items_dev_report.jrxml");
-            return JasperCompileManager.compileReport(jrxmlResource.getInputStream());
-        } catch (Exception ex) {
-            log.error("Erro ao compilar template Jasper de itens dev", ex);
-            throw new RuntimeException("Nao foi possivel carregar o template do relatorio de itens dev", ex);
-        }
-    }
-
-    private JasperReport loadDeliveryItemsOpJasperReport() throws JRException {
-        ClassPathResource jasperResource = new ClassPathResource("reports/delivery_items_op_report.jasper");
-        if (jasperResource.exists()) {
-            try {
-                return (JasperReport) JRLoader.loadObject(jasperResource.getInputStream());
-            } catch (Exception e) {
-                log.warn("Erro ao carregar template Jasper de itens op compilado, compilando .jrxml", e);
-            }
-        }
-
-        try {
-            ClassPathResource jrxmlResource = new ClassPathResource("reports/delivery_items_op_report.jrxml");
-            return JasperCompileManager.compileReport(jrxmlResource.getInputStream());
-        } catch (Exception ex) {
-            log.error("Erro ao compilar template Jasper de itens op", ex);
-            throw new RuntimeException("Nao foi possivel carregar o template do relatorio de itens op", ex);
-        }
-    }
-
     private Map<String, Object> buildDeliveryReportParameters(DeliveryReportData data) {
         Map<String, Object> parameters = new HashMap<>();
 
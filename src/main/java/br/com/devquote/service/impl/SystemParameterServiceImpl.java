@@ -6,6 +6,7 @@ import br.com.devquote.dto.response.SystemParameterResponse;
 import br.com.devquote.entity.SystemParameter;
 import br.com.devquote.error.BusinessException;
 import br.com.devquote.error.ResourceNotFoundException;
+import br.com.devquote.helper.SystemParameterStore;
 import br.com.devquote.repository.SystemParameterRepository;
 import br.com.devquote.service.SystemParameterService;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -13,18 +14,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * CRUD de system_parameter. As leituras por nome (getValue/getString/getBoolean/...) vêm do
+ * {@link SystemParameterStore}, snapshot em memória recarregado após cada alteração.
+ */
 @Slf4j
 @Service
 @Transactional
@@ -34,23 +39,14 @@ public class SystemParameterServiceImpl implements SystemParameterService {
     private final SystemParameterRepository systemParameterRepository;
     private final ObjectMapper objectMapper;
     private final br.com.devquote.utils.EncryptionUtil encryptionUtil;
+    private final SystemParameterStore systemParameterStore;
 
     @Override
-    @Cacheable(value = "systemParameters", key = "'all'")
     public List<SystemParameterResponse> findAll() {
-        return systemParameterRepository.findAllOrderedById().stream()
-                .map(entity -> {
-                    SystemParameterResponse response = SystemParameterAdapter.toResponseDTO(entity);
-                    if (Boolean.TRUE.equals(entity.getIsEncrypted()) && response.getValue() != null) {
-                        response.setValue(encryptionUtil.decrypt(response.getValue()));
-                    }
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toResponses(systemParameterRepository.findAllOrderedById());
     }
 
     @Override
-    @Cacheable(value = "systemParameters", key = "'id:' + #id")
     public SystemParameterResponse findById(Long id) {
         SystemParameter entity = systemParameterRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Parâmetro", id));
@@ -62,7 +58,6 @@ public class SystemParameterServiceImpl implements SystemParameterService {
     }
 
     @Override
-    @Cacheable(value = "systemParameters", key = "'name:' + #name")
     public SystemParameterResponse findByName(String name) {
         SystemParameter entity = systemParameterRepository.findByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("Parâmetro com nome: " + name));
@@ -100,6 +95,7 @@ public class SystemParameterServiceImpl implements SystemParameterService {
             }
             throw new BusinessException("Erro ao salvar parâmetro: " + e.getMessage(), "PARAMETER_SAVE_ERROR");
         }
+        systemParameterStore.reloadAfterCommit();
 
         SystemParameterResponse response = SystemParameterAdapter.toResponseDTO(entity);
         if (Boolean.TRUE.equals(entity.getIsEncrypted()) && response.getValue() != null) {
@@ -138,6 +134,7 @@ public class SystemParameterServiceImpl implements SystemParameterService {
             }
             throw new BusinessException("Erro ao atualizar parâmetro: " + e.getMessage(), "PARAMETER_UPDATE_ERROR");
         }
+        systemParameterStore.reloadAfterCommit();
 
         SystemParameterResponse response = SystemParameterAdapter.toResponseDTO(entity);
         if (Boolean.TRUE.equals(entity.getIsEncrypted()) && response.getValue() != null) {
@@ -151,6 +148,7 @@ public class SystemParameterServiceImpl implements SystemParameterService {
         SystemParameter entity = systemParameterRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Parâmetro", id));
         systemParameterRepository.deleteById(id);
+        systemParameterStore.reloadAfterCommit();
     }
 
     @Override
@@ -159,6 +157,7 @@ public class SystemParameterServiceImpl implements SystemParameterService {
             return;
         }
         systemParameterRepository.deleteAllById(ids);
+        systemParameterStore.reloadAfterCommit();
     }
 
     @Override
@@ -173,25 +172,37 @@ public class SystemParameterServiceImpl implements SystemParameterService {
         Page<SystemParameter> page = systemParameterRepository.findByOptionalFieldsPaginated(
                 id, name, description, createdAt, updatedAt, pageable
         );
-        return page.map(entity -> {
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    /**
+     * Converte para DTO descriptografando os valores cifrados de uma vez (EncryptionUtil.decryptAll).
+     */
+    private List<SystemParameterResponse> toResponses(List<SystemParameter> entities) {
+        List<SystemParameterResponse> responses = new ArrayList<>(entities.size());
+        List<SystemParameterResponse> encrypted = new ArrayList<>();
+        for (SystemParameter entity : entities) {
             SystemParameterResponse response = SystemParameterAdapter.toResponseDTO(entity);
             if (Boolean.TRUE.equals(entity.getIsEncrypted()) && response.getValue() != null) {
-                response.setValue(encryptionUtil.decrypt(response.getValue()));
+                encrypted.add(response);
             }
-            return response;
-        });
+            responses.add(response);
+        }
+
+        List<String> values = encryptionUtil.decryptAll(encrypted.stream().map(SystemParameterResponse::getValue).toList());
+        for (int i = 0; i < encrypted.size(); i++) {
+            encrypted.get(i).setValue(values.get(i));
+        }
+        return responses;
     }
 
     @Override
-    @Cacheable(value = "systemParameters", key = "#name")
     public String getValue(String name) {
-        SystemParameter parameter = systemParameterRepository.findByName(name)
-                .orElseThrow(() -> new ResourceNotFoundException("Parâmetro com nome: " + name));
-        String value = parameter.getValue();
-        if (Boolean.TRUE.equals(parameter.getIsEncrypted()) && value != null) {
-            value = encryptionUtil.decrypt(value);
+        SystemParameterStore.Entry entry = systemParameterStore.find(name);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Parâmetro com nome: " + name);
         }
-        return value;
+        return entry.value();
     }
 
     @Override
@@ -201,23 +212,14 @@ public class SystemParameterServiceImpl implements SystemParameterService {
 
     @Override
     public String getString(String name, String defaultValue) {
-        try {
-            return getValue(name);
-        } catch (ResourceNotFoundException e) {
-            log.warn("Parâmetro '{}' não encontrado. Usando valor padrão: '{}'", name, defaultValue);
-            return defaultValue;
-        }
+        SystemParameterStore.Entry entry = findOrReportMissing(name, defaultValue);
+        return entry != null ? entry.value() : defaultValue;
     }
 
     @Override
     public Boolean getBoolean(String name, Boolean defaultValue) {
-        try {
-            String value = getValue(name);
-            return Boolean.parseBoolean(value);
-        } catch (ResourceNotFoundException e) {
-            log.warn("Parâmetro '{}' não encontrado. Usando valor padrão: '{}'", name, defaultValue);
-            return defaultValue;
-        }
+        SystemParameterStore.Entry entry = findOrReportMissing(name, defaultValue);
+        return entry != null ? entry.booleanValue() : defaultValue;
     }
 
     @Override
@@ -232,16 +234,26 @@ public class SystemParameterServiceImpl implements SystemParameterService {
 
     @Override
     public Long getLong(String name, Long defaultValue) {
-        try {
-            String value = getValue(name);
-            return Long.parseLong(value);
-        } catch (ResourceNotFoundException e) {
-            log.warn("Parâmetro '{}' não encontrado. Usando valor padrão: '{}'", name, defaultValue);
+        SystemParameterStore.Entry entry = findOrReportMissing(name, defaultValue);
+        if (entry == null) {
             return defaultValue;
-        } catch (NumberFormatException e) {
+        }
+        if (entry.longValue() == null) {
             log.error("Parâmetro '{}' não é um número long válido. Usando valor padrão: '{}'", name, defaultValue);
             return defaultValue;
         }
+        return entry.longValue();
+    }
+
+    /**
+     * Parâmetro do snapshot; ausente loga uma vez por nome (até o próximo reload) em vez de a cada leitura.
+     */
+    private SystemParameterStore.Entry findOrReportMissing(String name, Object defaultValue) {
+        SystemParameterStore.Entry entry = systemParameterStore.find(name);
+        if (entry == null && systemParameterStore.reportMissing(name)) {
+            log.warn("Parâmetro '{}' não encontrado. Usando valor padrão: '{}'", name, defaultValue);
+        }
+        return entry;
     }
 
     @Override
@@ -9,8 +9,6 @@ import br.com.devquote.service.TaskAttachmentService;
 import br.com.devquote.service.storage.FileStorageStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -104,20 +102,6 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
         return taskAttachmentAdapter.toResponse(attachment);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Resource downloadAttachment(Long attachmentId) {
-        TaskAttachment attachment = taskAttachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new RuntimeException("Anexo não encontrado com ID: " + attachmentId));
-
-        try {
-            return new InputStreamResource(fileStorageStrategy.getFileStream(attachment.getFilePath()));
-        } catch (IOException e) {
-            log.error("Error downloading attachment {}: {}", attachmentId, e.getMessage());
-            throw new RuntimeException("Falha ao baixar anexo: " + e.getMessage());
-        }
-    }
-
     @Override
     public void deleteAttachment(Long attachmentId) {
         TaskAttachment attachment = taskAttachmentRepository.findById(attachmentId)
@@ -5,6 +5,7 @@ import br.com.devquote.enums.FlowType;
 import br.com.devquote.error.BusinessException;
 import br.com.devquote.error.ResourceNotFoundException;
 import br.com.devquote.dto.request.*;
+import br.com.devquote.dto.response.CursorPagedResponse;
 import br.com.devquote.dto.response.TaskResponse;
 import br.com.devquote.dto.response.TaskStatsResponse;
 import br.com.devquote.dto.response.TaskWithSubTasksResponse;
@@ -15,7 +16,10 @@ import br.com.devquote.repository.ServerRepository;
 import br.com.devquote.repository.SubTaskRepository;
 import br.com.devquote.repository.TaskRepository;
 import br.com.devquote.service.*;
+import br.com.devquote.utils.DateFilterRange;
+import br.com.devquote.utils.ExcelReportDefinitions;
 import br.com.devquote.utils.ExcelReportUtils;
+import br.com.devquote.utils.KeysetCursor;
 import br.com.devquote.utils.SecurityUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -24,10 +28,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -36,7 +43,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -56,7 +65,6 @@ public class TaskServiceImpl implements TaskService {
     private final EmailService emailService;
     private final DeliveryService deliveryService;
     private final TaskAttachmentService taskAttachmentService;
-    private final br.com.devquote.service.storage.FileStorageStrategy fileStorageStrategy;
 
     @Override
     public List<TaskResponse> findAll() {
@@ -65,18 +73,19 @@ public class TaskServiceImpl implements TaskService {
                 .collect(Collectors.toList());
 
         if (!tasks.isEmpty()) {
-            List<Long> taskIds = tasks.stream().map(TaskResponse::getId).toList();
-
-            Map<Long, Boolean> taskInBillingMap = getTaskInBillingStatus(taskIds);
-            Map<Long, Boolean> taskDeliveryMap = getTaskDeliveryStatus(taskIds);
+            // Lista completa: subtarefas e vinculos carregados da tabela inteira, sem IN por id
+            Map<Long, List<SubTask>> subTasksByTaskId = subTaskRepository.findAllOrderedById().stream()
+                    .collect(Collectors.groupingBy(st -> st.getTask().getId()));
+            Set<Long> taskIdsInBilling = billingPeriodTaskService.findAllTaskIdsWithBilling();
+            Set<Long> taskIdsWithDelivery = deliveryService.findAllTaskIdsWithDelivery();
 
             tasks.forEach(dto -> {
-                List<SubTask> subTasks = subTaskRepository.findByTaskId(dto.getId());
+                List<SubTask> subTasks = subTasksByTaskId.getOrDefault(dto.getId(), List.of());
                 dto.setSubTasks(SubTaskAdapter.toResponseDTOList(subTasks));
 
                 dto.setHasQuote(false);
-                dto.setHasQuoteInBilling(taskInBillingMap.getOrDefault(dto.getId(), false));
-                dto.setHasDelivery(taskDeliveryMap.getOrDefault(dto.getId(), false));
+                dto.setHasQuoteInBilling(taskIdsInBilling.contains(dto.getId()));
+                dto.setHasDelivery(taskIdsWithDelivery.contains(dto.getId()));
             });
         }
 
@@ -114,9 +123,13 @@ public class TaskServiceImpl implements TaskService {
                                                 Boolean hasBilling,
                                                 Long moduleId,
                                                 Long serverId) {
+        DateFilterRange created = DateFilterRange.parse(createdAt);
+        DateFilterRange updated = DateFilterRange.parse(updatedAt);
         java.math.BigDecimal total = taskRepository.sumAmountByOptionalFields(
                 id, requesterId, requesterName, title, description, code, link,
-                createdAt, updatedAt, flowType, taskType, environment,
+                created.getLikeValue(), updated.getLikeValue(),
+                created.getFrom(), created.getTo(), updated.getFrom(), updated.getTo(),
+                flowType, taskType, environment,
                 startDate, endDate, hasDelivery, hasBilling, moduleId, serverId
         );
         return total != null ? total : java.math.BigDecimal.ZERO;
@@ -246,34 +259,6 @@ public class TaskServiceImpl implements TaskService {
 
         validateTaskAccess(entity, "excluir");
 
-        Map<String, byte[]> attachmentDataMap = new HashMap<>();
-
-        
-        try {
-            List<TaskAttachment> attachments = taskAttachmentService.getTaskAttachmentsEntities(id);
-            if (attachments != null && !attachments.isEmpty()) {
-
-                
-                for (TaskAttachment attachment : attachments) {
-                    try {
-
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-                            
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put(attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error accessing attachments from database: {}", e.getMessage());
-        }
-
         try {
             taskAttachmentService.deleteAllTaskAttachmentsAndFolder(id);
         } catch (Exception e) {
@@ -411,34 +396,6 @@ public class TaskServiceImpl implements TaskService {
             throw new RuntimeException("Cannot delete task. It is linked to a billing period.");
         }
 
-        Map<String, byte[]> attachmentDataMap = new HashMap<>();
-
-        
-        try {
-            List<TaskAttachment> attachments = taskAttachmentService.getTaskAttachmentsEntities(taskId);
-            if (attachments != null && !attachments.isEmpty()) {
-
-                
-                for (TaskAttachment attachment : attachments) {
-                    try {
-
-                        try (java.io.InputStream inputStream = fileStorageStrategy.getFileStream(attachment.getFilePath());
-                             java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-                            
-                            inputStream.transferTo(baos);
-                            byte[] data = baos.toByteArray();
-                            attachmentDataMap.put(attachment.getOriginalFileName(), data);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to download attachment {} from S3: {}", attachment.getOriginalFileName(), e.getMessage());
-
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error accessing attachments from database: {}", e.getMessage());
-        }
-
         try {
             taskAttachmentService.deleteAllTaskAttachmentsAndFolder(taskId);
         } catch (Exception e) {
@@ -470,12 +427,71 @@ public class TaskServiceImpl implements TaskService {
                                                Long serverId,
                                                Pageable pageable) {
 
+        DateFilterRange created = DateFilterRange.parse(createdAt);
+        DateFilterRange updated = DateFilterRange.parse(updatedAt);
         Page<Task> page = taskRepository.findByOptionalFieldsPaginated(
-                id, requesterId, requesterName, title, description, code, link, createdAt, updatedAt, flowType, taskType, environment, startDate, endDate, hasDelivery, hasBilling, moduleId, serverId, pageable
+                id, requesterId, requesterName, title, description, code, link,
+                created.getLikeValue(), updated.getLikeValue(),
+                created.getFrom(), created.getTo(), updated.getFrom(), updated.getTo(),
+                flowType, taskType, environment, startDate, endDate, hasDelivery, hasBilling, moduleId, serverId, pageable
         );
         return buildTaskResponsePage(page, pageable);
     }
 
+    @Override
+    public CursorPagedResponse<TaskResponse> findAllByCursor(Long id,
+                                                             Long requesterId,
+                                                             String requesterName,
+                                                             String title,
+                                                             String description,
+                                                             String code,
+                                                             String link,
+                                                             String createdAt,
+                                                             String updatedAt,
+                                                             FlowType flowType,
+                                                             String taskType,
+                                                             String environment,
+                                                             String startDate,
+                                                             String endDate,
+                                                             Boolean hasDelivery,
+                                                             Boolean hasBilling,
+                                                             Long moduleId,
+                                                             Long serverId,
+                                                             String cursor,
+                                                             int size,
+                                                             String sort) {
+
+        KeysetCursor position = KeysetCursor.decode(cursor, sort);
+        DateFilterRange created = DateFilterRange.parse(createdAt);
+        DateFilterRange updated = DateFilterRange.parse(updatedAt);
+
+        Sort order = position.isSortedByCreatedAt()
+                ? Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))
+                : Sort.by(Sort.Order.desc("id"));
+
+        // Busca um item a mais para saber se existe próxima página, sem COUNT
+        List<Task> tasks = taskRepository.findKeysetByOptionalFields(
+                id, requesterId, requesterName, title, description, code, link,
+                created.getLikeValue(), updated.getLikeValue(),
+                created.getFrom(), created.getTo(), updated.getFrom(), updated.getTo(),
+                flowType, taskType, environment, startDate, endDate, hasDelivery, hasBilling, moduleId, serverId,
+                position.getCreatedAt(), position.getId(),
+                PageRequest.of(0, size + 1, order)
+        );
+
+        boolean hasNext = tasks.size() > size;
+        List<Task> pageTasks = hasNext ? tasks.subList(0, size) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = KeysetCursor.after(position.getSortKey(), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<TaskResponse> content = buildTaskResponsePage(new PageImpl<>(pageTasks), Pageable.unpaged()).getContent();
+        return new CursorPagedResponse<>(content, size, nextCursor, hasNext);
+    }
+
     @Override
     public Page<TaskResponse> findUnlinkedBillingByOptionalFieldsPaginated(Long id,
                                                                            Long requesterId,
@@ -489,8 +505,13 @@ public class TaskServiceImpl implements TaskService {
                                                                            FlowType flowType,
                                                                            Pageable pageable) {
 
+        DateFilterRange created = DateFilterRange.parse(createdAt);
+        DateFilterRange updated = DateFilterRange.parse(updatedAt);
         Page<Task> page = taskRepository.findUnlinkedBillingByOptionalFieldsPaginated(
-                id, requesterId, requesterName, title, description, code, link, createdAt, updatedAt, flowType, pageable
+                id, requesterId, requesterName, title, description, code, link,
+                created.getLikeValue(), updated.getLikeValue(),
+                created.getFrom(), created.getTo(), updated.getFrom(), updated.getTo(),
+                flowType, pageable
         );
         return buildTaskResponsePage(page, pageable);
     }
@@ -508,8 +529,13 @@ public class TaskServiceImpl implements TaskService {
                                                                             FlowType flowType,
                                                                             Pageable pageable) {
 
+        DateFilterRange created = DateFilterRange.parse(createdAt);
+        DateFilterRange updated = DateFilterRange.parse(updatedAt);
         Page<Task> page = taskRepository.findUnlinkedDeliveryByOptionalFieldsPaginated(
-                id, requesterId, requesterName, title, description, code, link, createdAt, updatedAt, flowType, pageable
+                id, requesterId, requesterName, title, description, code, link,
+                created.getLikeValue(), updated.getLikeValue(),
+                created.getFrom(), created.getTo(), updated.getFrom(), updated.getTo(),
+                flowType, pageable
         );
         return buildTaskResponsePage(page, pageable);
     }
@@ -529,16 +555,16 @@ public class TaskServiceImpl implements TaskService {
         Map<Long, List<SubTask>> subTasksByTaskId = allSubTasks.stream()
                 .collect(Collectors.groupingBy(st -> st.getTask().getId()));
 
-        Map<Long, Boolean> taskInBillingMap = getTaskInBillingStatus(taskIds);
-        Map<Long, Boolean> taskDeliveryMap = getTaskDeliveryStatus(taskIds);
+        Set<Long> taskIdsInBilling = billingPeriodTaskService.findTaskIdsWithBilling(taskIds);
+        Set<Long> taskIdsWithDelivery = deliveryService.findTaskIdsWithDelivery(taskIds);
 
         dtos.forEach(dto -> {
             List<SubTask> list = subTasksByTaskId.getOrDefault(dto.getId(), List.of());
             dto.setSubTasks(SubTaskAdapter.toResponseDTOList(list));
 
             dto.setHasQuote(false);
-            dto.setHasQuoteInBilling(taskInBillingMap.getOrDefault(dto.getId(), false));
-            dto.setHasDelivery(taskDeliveryMap.getOrDefault(dto.getId(), false));
+            dto.setHasQuoteInBilling(taskIdsInBilling.contains(dto.getId()));
+            dto.setHasDelivery(taskIdsWithDelivery.contains(dto.getId()));
         });
 
         return new PageImpl<>(dtos, pageable, page.getTotalElements());
@@ -726,24 +752,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
 
-    private Map<Long, Boolean> getTaskInBillingStatus(List<Long> taskIds) {
-        return taskIds.stream()
-                .collect(Collectors.toMap(
-                        taskId -> taskId,
-                        billingPeriodTaskService::existsByTaskId
-                ));
-    }
-
-    private Map<Long, Boolean> getTaskDeliveryStatus(List<Long> taskIds) {
-        return taskIds.stream()
-                .collect(Collectors.toMap(
-                        taskId -> taskId,
-                        deliveryService::existsByTaskId
-                ));
-    }
-
     @Override
-    public byte[] exportTasksToExcel(String flowType) throws IOException {
+    public void exportTasksToExcel(String flowType, OutputStream outputStream) throws IOException {
         log.debug("EXCEL EXPORT STARTED with flowType={}", flowType);
 
         User currentUser = securityUtils.getCurrentUser();
@@ -798,10 +808,8 @@ public class TaskServiceImpl implements TaskService {
             """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new java.util.HashMap<>();
             map.put("task_id", row[0]);
             map.put("task_code", row[1]);
@@ -829,17 +837,14 @@ public class TaskServiceImpl implements TaskService {
             map.put("subtask_description", ExcelReportUtils.stripHtml(row[23]));
             map.put("subtask_amount", row[24]);
             return map;
-        }).collect(Collectors.toList());
-
-        log.debug("EXCEL EXPORT generating file with {} records", data.size());
-        byte[] result = excelReportUtils.generateTasksReport(data, canViewAmounts);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.tasksWithSubTasks(canViewAmounts), data, outputStream);
+        }
         log.debug("EXCEL EXPORT completed successfully");
-
-        return result;
     }
 
     @Override
-    public byte[] exportTasksOnlyToExcel(String flowType) throws IOException {
+    public void exportTasksOnlyToExcel(String flowType, OutputStream outputStream) throws IOException {
         log.debug("EXCEL EXPORT TASKS ONLY STARTED with flowType={}", flowType);
 
         User currentUser = securityUtils.getCurrentUser();
@@ -889,10 +894,8 @@ public class TaskServiceImpl implements TaskService {
             """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new java.util.HashMap<>();
             map.put("task_id", row[0]);
             map.put("task_code", row[1]);
@@ -916,17 +919,14 @@ public class TaskServiceImpl implements TaskService {
             map.put("task_created_at", row[19]);
             map.put("task_updated_at", row[20]);
             return map;
-        }).collect(Collectors.toList());
-
-        log.debug("EXCEL EXPORT TASKS ONLY generating file with {} records", data.size());
-        byte[] result = excelReportUtils.generateTasksOnlyReport(data, canViewAmounts);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.tasksOnly(canViewAmounts), data, outputStream);
+        }
         log.debug("EXCEL EXPORT TASKS ONLY completed successfully");
-
-        return result;
     }
 
     @Override
-    public byte[] exportGeneralReport() throws IOException {
+    public void exportGeneralReport(OutputStream outputStream) throws IOException {
         log.debug("GENERAL REPORT EXPORT STARTED");
 
         String sql = """
@@ -988,10 +988,8 @@ public class TaskServiceImpl implements TaskService {
         """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new HashMap<>();
 
             map.put("task_id", row[0]);
@@ -1029,17 +1027,14 @@ public class TaskServiceImpl implements TaskService {
             map.put("billing_status", row[27]);
 
             return map;
-        }).collect(Collectors.toList());
-
-        log.debug("GENERAL REPORT generating file with {} records", data.size());
-        byte[] result = excelReportUtils.generateGeneralReport(data);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.general(), data, outputStream);
+        }
         log.debug("GENERAL REPORT completed successfully");
-
-        return result;
     }
 
     @Override
-    public byte[] exportGeneralReportForUser() throws IOException {
+    public void exportGeneralReportForUser(OutputStream outputStream) throws IOException {
         log.debug("GENERAL REPORT FOR USER EXPORT STARTED");
 
         String sql = """
@@ -1088,10 +1083,8 @@ public class TaskServiceImpl implements TaskService {
         """;
 
         Query query = entityManager.createNativeQuery(sql);
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = query.getResultList();
 
-        List<Map<String, Object>> data = results.stream().map(row -> {
+        try (Stream<Map<String, Object>> data = ExcelReportUtils.streamResults(query).map(row -> {
             Map<String, Object> map = new HashMap<>();
 
             map.put("task_id", row[0]);
@@ -1118,13 +1111,10 @@ public class TaskServiceImpl implements TaskService {
             map.put("delivery_finished_at", row[18]);
 
             return map;
-        }).collect(Collectors.toList());
-
-        log.debug("GENERAL REPORT FOR USER generating file with {} records", data.size());
-        byte[] result = excelReportUtils.generateGeneralReportForUser(data);
+        })) {
+            excelReportUtils.writeReport(ExcelReportDefinitions.generalForUser(), data, outputStream);
+        }
         log.debug("GENERAL REPORT FOR USER completed successfully");
-
-        return result;
     }
 
     @Override
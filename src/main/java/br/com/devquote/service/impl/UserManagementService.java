@@ -6,6 +6,7 @@ import br.com.devquote.entity.User;
 import br.com.devquote.repository.ProfileRepository;
 import br.com.devquote.repository.UserRepository;
 import br.com.devquote.service.UserProfileService;
+import br.com.devquote.configuration.security.AuthPrincipalCacheEvictor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +26,7 @@ public class UserManagementService {
     private final ProfileRepository profileRepository;
     private final UserProfileService userProfileService;
     private final PasswordEncoder passwordEncoder;
+    private final AuthPrincipalCacheEvictor authPrincipalCacheEvictor;
 
     public Page<UserDto> findAll(Pageable pageable) {
         return userRepository.findAll(pageable)
@@ -133,6 +135,7 @@ public class UserManagementService {
         }
 
         user = userRepository.save(user);
+        authPrincipalCacheEvictor.evictAllAfterCommit();
         return convertToDto(user);
     }
 
@@ -154,6 +157,7 @@ public class UserManagementService {
         userProfileService.removeAllProfilesFromUser(id);
 
         userRepository.deleteById(id);
+        authPrincipalCacheEvictor.evictAllAfterCommit();
     }
     
     @Transactional
@@ -173,6 +177,7 @@ public class UserManagementService {
                 userRepository.deleteById(id);
             }
         }
+        authPrincipalCacheEvictor.evictAllAfterCommit();
     }
 
     @Transactional
@@ -0,0 +1,378 @@
+package br.com.devquote.service.storage;
+
+import br.com.devquote.configuration.StorageCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Decorator de leitura com cache local na frente do storage remoto (S3), por chave do objeto.
+ * Camada em disco limitada por tamanho total e uma camada pequena em memória para objetos pequenos
+ * (imagens inline), ambas com eviction por tamanho do Caffeine. Upload e exclusão invalidam as entradas;
+ * os metadados (ETag usado na chave das imagens reduzidas do PDF) também expiram por TTL, já que uploads
+ * feitos por outra instância não chegam aqui.
+ * Objetos acima do limite por entrada (pelo tamanho dos metadados) são lidos direto do storage remoto.
+ * Hit/miss expostos pelo actuator em cache.gets{cache="storageBlobDisk|storageBlobMemory|storageBlobMetadata"}.
+ */
+@Slf4j
+public class CachingFileStorageStrategy implements FileStorageStrategy {
+
+    private static final String INSTANCE_DIRECTORY_PREFIX = "instance-";
+    private static final String LOCK_FILE = ".lock";
+
+    private final FileStorageStrategy delegate;
+    private final StorageCacheProperties properties;
+    private final Path directory;
+    // Mantido aberto até o fim do processo: marca o diretório desta instância como em uso
+    private FileLock instanceLock;
+
+    private final Cache<String, CachedFile> diskCache;
+    private final Cache<String, byte[]> memoryCache;
+    private final Cache<String, StoredFileMetadata> metadataCache;
+
+    // Downloads em andamento: leituras concorrentes da mesma chave aguardam um único download
+    private final ConcurrentHashMap<String, CompletableFuture<CachedFile>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CachingFileStorageStrategy(FileStorageStrategy delegate, StorageCacheProperties properties,
+                                      MeterRegistry meterRegistry) throws IOException {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.directory = createInstanceDirectory(Path.of(properties.getDirectory()));
+
+        this.diskCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxDiskBytes())
+                .weigher((String key, CachedFile file) -> (int) Math.min(file.size(), Integer.MAX_VALUE))
+                .removalListener((String key, CachedFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        deleteQuietly(file.path());
+                    }
+                })
+                .recordStats()
+                .build();
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxMemoryBytes())
+                .weigher((String key, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+        this.metadataCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(properties.getMetadataTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, diskCache, "storageBlobDisk");
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryCache, "storageBlobMemory");
+        CaffeineCacheMetrics.monitor(meterRegistry, metadataCache, "storageBlobMetadata");
+
+        log.info("Storage cache enabled at {} (disk: {} bytes, memory: {} bytes)",
+                directory, properties.getMaxDiskBytes(), properties.getMaxMemoryBytes());
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String path) throws IOException {
+        String key = delegate.uploadFile(file, path);
+        invalidate(key);
+        return key;
+    }
+
+    @Override
+    public String getFileUrl(String filePath) {
+        return delegate.getFileUrl(filePath);
+    }
+
+    @Override
+    public InputStream getFileStream(String filePath) throws IOException {
+        byte[] bytes = memoryCache.getIfPresent(filePath);
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        CachedFile file = loadToDisk(filePath);
+        if (file == null) {
+            // Objeto maior que o limite por entrada: não fica em cache
+            return delegate.getFileStream(filePath);
+        }
+
+        try {
+            if (file.size() <= properties.getMaxMemoryEntryBytes()) {
+                byte[] data = Files.readAllBytes(file.path());
+                memoryCache.put(filePath, data);
+                return new ByteArrayInputStream(data);
+            }
+            return Files.newInputStream(file.path());
+        } catch (NoSuchFileException e) {
+            // Entrada removida do disco entre o lookup e a abertura
+            diskCache.invalidate(filePath);
+            return delegate.getFileStream(filePath);
+        }
+    }
+
+    @Override
+    public InputStream getFileStream(String filePath, long start, long end) throws IOException {
+        long length = end - start + 1;
+
+        byte[] bytes = memoryCache.getIfPresent(filePath);
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes, (int) start, (int) length);
+        }
+
+        // Range não dispara download do objeto inteiro; só aproveita o que já está em disco
+        CachedFile file = diskCache.getIfPresent(filePath);
+        if (file != null) {
+            try {
+                SeekableByteChannel channel = Files.newByteChannel(file.path());
+                channel.position(start);
+                return new BoundedInputStream(Channels.newInputStream(channel), length);
+            } catch (NoSuchFileException e) {
+                diskCache.invalidate(filePath);
+            }
+        }
+        return delegate.getFileStream(filePath, start, end);
+    }
+
+    @Override
+    public StoredFileMetadata getFileMetadata(String filePath) throws IOException {
+        StoredFileMetadata metadata = metadataCache.getIfPresent(filePath);
+        if (metadata == null) {
+            metadata = delegate.getFileMetadata(filePath);
+            metadataCache.put(filePath, metadata);
+        }
+        return metadata;
+    }
+
+    @Override
+    public StoredFileStream openFile(String filePath) throws IOException {
+        StoredFileMetadata metadata = metadataCache.getIfPresent(filePath);
+        if (metadata != null) {
+            return new StoredFileStream(metadata, getFileStream(filePath));
+        }
+        // Sem metadados em cache: um único GET remoto traz conteúdo e metadados; o próximo acesso já usa o cache
+        StoredFileStream file = delegate.openFile(filePath);
+        metadataCache.put(filePath, file.getMetadata());
+        return file;
+    }
+
+    @Override
+    public boolean deleteFile(String filePath) {
+        boolean deleted = delegate.deleteFile(filePath);
+        invalidate(filePath);
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteFolder(String folderPath) {
+        boolean deleted = delegate.deleteFolder(folderPath);
+        String prefix = folderPath.endsWith("/") ? folderPath : folderPath + "/";
+        Stream.of(diskCache.asMap().keySet(), memoryCache.asMap().keySet(), metadataCache.asMap().keySet())
+                .flatMap(keys -> keys.stream().filter(key -> key.startsWith(prefix)).toList().stream())
+                .distinct()
+                .forEach(this::invalidate);
+        return deleted;
+    }
+
+    @Override
+    public boolean fileExists(String filePath) {
+        if (memoryCache.getIfPresent(filePath) != null || diskCache.getIfPresent(filePath) != null) {
+            return true;
+        }
+        return delegate.fileExists(filePath);
+    }
+
+    private void invalidate(String key) {
+        inFlight.remove(key);
+        memoryCache.invalidate(key);
+        diskCache.invalidate(key);
+        metadataCache.invalidate(key);
+    }
+
+    /**
+     * Objeto em disco, baixando do storage remoto se necessário; null se exceder o limite por entrada.
+     */
+    private CachedFile loadToDisk(String key) throws IOException {
+        CachedFile cached = diskCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Tamanho conhecido pelos metadados (também em cache): objeto grande nem é baixado aqui,
+        // quem chamou lê direto do storage remoto uma única vez
+        if (getFileMetadata(key).getContentLength() > properties.getMaxEntryBytes()) {
+            return null;
+        }
+
+        CompletableFuture<CachedFile> future = new CompletableFuture<>();
+        CompletableFuture<CachedFile> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            }
+        }
+
+        Path target = directory.resolve(Long.toString(sequence.incrementAndGet()));
+        try {
+            long size;
+            try (InputStream inputStream = delegate.getFileStream(key)) {
+                size = Files.copy(inputStream, target);
+            }
+
+            CachedFile file = null;
+            if (size <= properties.getMaxEntryBytes()) {
+                file = new CachedFile(target, size);
+                diskCache.put(key, file);
+                // Invalidado durante o download: descarta o que acabou de ser gravado
+                if (inFlight.get(key) != future) {
+                    diskCache.invalidate(key);
+                }
+            } else {
+                deleteQuietly(target);
+            }
+            future.complete(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(target);
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Subdiretório exclusivo deste processo dentro do diretório configurado, que pode ser compartilhado
+     * por várias instâncias (mesmo volume). O lock no arquivo .lock dura enquanto o processo vive; na
+     * subida são apagados só os subdiretórios cujo lock está livre (processo encerrado) e os arquivos
+     * soltos do layout antigo, sem um único diretório por processo.
+     */
+    private Path createInstanceDirectory(Path baseDirectory) throws IOException {
+        Files.createDirectories(baseDirectory);
+        try (Stream<Path> entries = Files.list(baseDirectory)) {
+            for (Path entry : entries.toList()) {
+                if (!Files.isDirectory(entry)) {
+                    deleteQuietly(entry);
+                } else if (entry.getFileName().toString().startsWith(INSTANCE_DIRECTORY_PREFIX) && isAbandoned(entry)) {
+                    deleteRecursively(entry);
+                }
+            }
+        }
+
+        Path instanceDirectory = Files.createTempDirectory(baseDirectory, INSTANCE_DIRECTORY_PREFIX);
+        FileChannel channel = FileChannel.open(instanceDirectory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.instanceLock = channel.lock();
+        return instanceDirectory;
+    }
+
+    private boolean isAbandoned(Path instanceDirectory) {
+        Path lockFile = instanceDirectory.resolve(LOCK_FILE);
+        if (!Files.exists(lockFile)) {
+            // Instância ainda criando o diretório
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                return false;
+            }
+            lock.release();
+            return true;
+        } catch (OverlappingFileLockException e) {
+            // Lock de outra instância nesta mesma JVM
+            return false;
+        } catch (IOException e) {
+            log.warn("Could not check cache directory {}: {}", instanceDirectory, e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteRecursively(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Could not delete cache directory {}: {}", root, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete cached file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record CachedFile(Path path, long size) {
+    }
+
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -11,6 +11,18 @@ public interface FileStorageStrategy {
 
     InputStream getFileStream(String filePath) throws IOException;
 
+    /**
+     * Trecho [start, end] (inclusive) do arquivo, para respostas HTTP 206.
+     */
+    InputStream getFileStream(String filePath, long start, long end) throws IOException;
+
+    StoredFileMetadata getFileMetadata(String filePath) throws IOException;
+
+    /**
+     * Arquivo inteiro com os metadados da própria leitura, sem consulta separada de metadados.
+     */
+    StoredFileStream openFile(String filePath) throws IOException;
+
     boolean deleteFile(String filePath);
 
     boolean deleteFolder(String folderPath);
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
@@ -113,6 +114,68 @@ public class S3FileStorageStrategy implements FileStorageStrategy {
         }
     }
 
+    @Override
+    public InputStream getFileStream(String filePath, long start, long end) throws IOException {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(filePath)
+                    .range("bytes=" + start + "-" + end)
+                    .build();
+
+            return s3Client.getObject(getObjectRequest);
+
+        } catch (Exception e) {
+            log.error("Error getting file range from S3: {} [{}-{}]", filePath, start, end, e);
+            throw new IOException("Failed to get file range from S3", e);
+        }
+    }
+
+    @Override
+    public StoredFileStream openFile(String filePath) throws IOException {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(filePath)
+                    .build();
+
+            ResponseInputStream<GetObjectResponse> object = s3Client.getObject(getObjectRequest);
+            GetObjectResponse response = object.response();
+            return new StoredFileStream(StoredFileMetadata.builder()
+                    .contentLength(response.contentLength())
+                    .eTag(response.eTag())
+                    .lastModified(response.lastModified())
+                    .contentType(response.contentType())
+                    .build(), object);
+
+        } catch (Exception e) {
+            log.error("Error opening file from S3: {}", filePath, e);
+            throw new IOException("Failed to open file from S3", e);
+        }
+    }
+
+    @Override
+    public StoredFileMetadata getFileMetadata(String filePath) throws IOException {
+        try {
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(filePath)
+                    .build();
+
+            HeadObjectResponse head = s3Client.headObject(headObjectRequest);
+            return StoredFileMetadata.builder()
+                    .contentLength(head.contentLength())
+                    .eTag(head.eTag())
+                    .lastModified(head.lastModified())
+                    .contentType(head.contentType())
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Error getting file metadata from S3: {}", filePath, e);
+            throw new IOException("Failed to get file metadata from S3", e);
+        }
+    }
+
     @Override
     public boolean deleteFile(String filePath) {
         try {
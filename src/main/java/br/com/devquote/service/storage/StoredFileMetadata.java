@@ -0,0 +1,14 @@
+package br.com.devquote.service.storage;
+import lombok.Builder;
+import lombok.Getter;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class StoredFileMetadata {
+
+    private final long contentLength;
+    private final String eTag;
+    private final Instant lastModified;
+    private final String contentType;
+}
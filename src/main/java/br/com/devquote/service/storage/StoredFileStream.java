@@ -0,0 +1,22 @@
+package br.com.devquote.service.storage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Conteúdo de um arquivo já aberto junto com os metadados da mesma leitura.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredFileStream implements Closeable {
+
+    private final StoredFileMetadata metadata;
+    private final InputStream inputStream;
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.devquote.utils;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converte o filtro textual de data das listagens em intervalo [from, to), que usa o indice da coluna.
+ * Aceita yyyy, yyyy-MM, yyyy-MM-dd, MM/yyyy e dd/MM/yyyy; outros formatos ficam em likeValue
+ * para o filtro antigo por texto (CAST(... AS string) LIKE).
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DateFilterRange {
+
+    private static final DateTimeFormatter BR_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter BR_MONTH = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private static final DateFilterRange EMPTY = new DateFilterRange(null, null, null);
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String likeValue;
+
+    public static DateFilterRange parse(String value) {
+        if (value == null || value.isBlank()) {
+            return EMPTY;
+        }
+        String trimmed = value.trim();
+        try {
+            if (trimmed.matches("\\d{4}")) {
+                LocalDate start = LocalDate.of(Integer.parseInt(trimmed), 1, 1);
+                return ofDays(start, start.plusYears(1));
+            }
+            if (trimmed.matches("\\d{4}-\\d{2}")) {
+                return ofMonth(YearMonth.parse(trimmed));
+            }
+            if (trimmed.matches("\\d{2}/\\d{4}")) {
+                return ofMonth(YearMonth.parse(trimmed, BR_MONTH));
+            }
+            if (trimmed.matches("\\d{4}-\\d{2}-\\d{2}")) {
+                LocalDate day = LocalDate.parse(trimmed);
+                return ofDays(day, day.plusDays(1));
+            }
+            if (trimmed.matches("\\d{2}/\\d{2}/\\d{4}")) {
+                LocalDate day = LocalDate.parse(trimmed, BR_DATE);
+                return ofDays(day, day.plusDays(1));
+            }
+        } catch (DateTimeParseException e) {
+            // Data invalida (ex.: 2024-13): mantem o comportamento antigo
+        }
+        return new DateFilterRange(null, null, trimmed);
+    }
+
+    private static DateFilterRange ofMonth(YearMonth month) {
+        return ofDays(month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    private static DateFilterRange ofDays(LocalDate start, LocalDate endExclusive) {
+        return new DateFilterRange(start.atStartOfDay(), endExclusive.atStartOfDay(), null);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.devquote.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.List;
+
+/**
+ * Renderização dos templates Thymeleaf de e-mail (/templates/email). Com spring.thymeleaf.cache ativo
+ * cada template é lido e parseado uma única vez; o parse de todos é antecipado quando a aplicação sobe,
+ * para o primeiro envio não pagar esse custo. Tempo de renderização em devquote.email.render por template.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailTemplateRenderer {
+
+    public static final String TASK_UPDATED = "email/task-updated";
+    public static final String DELIVERY_UPDATED = "email/delivery-updated";
+    public static final String FINANCIAL_NOTIFICATION = "email/financial-notification";
+    public static final String BILLING_PERIOD_NOTIFICATION = "email/billing-period-notification";
+
+    private static final List<String> TEMPLATES = List.of(
+            TASK_UPDATED, DELIVERY_UPDATED, FINANCIAL_NOTIFICATION, BILLING_PERIOD_NOTIFICATION);
+
+    private static final String RENDER_TIMER = "devquote.email.render";
+
+    private final TemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        for (String template : TEMPLATES) {
+            try {
+                templateEngine.process(template, new Context());
+            } catch (Exception e) {
+                // Contexto vazio pode falhar na avaliação das expressões; o template já foi parseado e está em cache
+                log.debug("Pré-carga do template de e-mail {} terminou com erro: {}", template, e.getMessage());
+            }
+        }
+        log.info("Templates de e-mail pré-carregados: {} em {} ms", TEMPLATES.size(), System.currentTimeMillis() - start);
+    }
+
+    public String render(String template, Context context) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return templateEngine.process(template, context);
+        } finally {
+            sample.stop(Timer.builder(RENDER_TIMER)
+                    .tag("template", template)
+                    .register(meterRegistry));
+        }
+    }
+}
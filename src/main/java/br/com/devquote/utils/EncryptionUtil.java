@@ -4,26 +4,49 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 
+/**
+ * Criptografia dos valores de system_parameter.
+ *
+ * Formato atual ("v2:" + Base64(iv | ciphertext+tag)): AES-256/GCM, autenticado. Valores sem prefixo são do
+ * formato antigo (AES/ECB com chave de 128 bits) e continuam sendo lidos; passam para v2 na próxima gravação.
+ * Chaves derivadas uma única vez; Cipher reaproveitado por thread (Cipher não é thread-safe).
+ */
 @Slf4j
 @Component
 public class EncryptionUtil {
 
     private static final String SECRET_KEY = "DevQuote2025SecretKeyForParameterEncryption!";
     private static final String ALGORITHM = "AES";
+    private static final String LEGACY_TRANSFORMATION = "AES";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String V2_PREFIX = "v2:";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
 
-    private SecretKeySpec getSecretKeySpec() {
+    private final SecretKeySpec legacyKey;
+    private final SecretKeySpec gcmKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final ThreadLocal<Cipher> legacyCipher = ThreadLocal.withInitial(() -> newCipher(LEGACY_TRANSFORMATION));
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> newCipher(GCM_TRANSFORMATION));
+
+    public EncryptionUtil() {
         try {
-            byte[] key = SECRET_KEY.getBytes(StandardCharsets.UTF_8);
-            MessageDigest sha = MessageDigest.getInstance("SHA-256");
-            key = sha.digest(key);
-            key = Arrays.copyOf(key, 16);
-            return new SecretKeySpec(key, ALGORITHM);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+            this.legacyKey = new SecretKeySpec(Arrays.copyOf(digest, 16), ALGORITHM);
+            this.gcmKey = new SecretKeySpec(digest, ALGORITHM);
         } catch (Exception e) {
             log.error("Erro ao gerar chave de criptografia: {}", e.getMessage());
             throw new RuntimeException("Falha ao inicializar criptografia", e);
@@ -36,11 +59,17 @@ public class EncryptionUtil {
         }
 
         try {
-            SecretKeySpec secretKey = getSecretKeySpec();
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = gcmCipher.get();
+            cipher.init(Cipher.ENCRYPT_MODE, gcmKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
             byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedBytes);
+
+            byte[] payload = ByteBuffer.allocate(iv.length + encryptedBytes.length)
+                    .put(iv)
+                    .put(encryptedBytes)
+                    .array();
+            return V2_PREFIX + Base64.getEncoder().encodeToString(payload);
         } catch (Exception e) {
             log.error("Erro ao criptografar valor: {}", e.getMessage());
             throw new RuntimeException("Falha ao criptografar valor", e);
@@ -53,14 +82,46 @@ public class EncryptionUtil {
         }
 
         try {
-            SecretKeySpec secretKey = getSecretKeySpec();
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+            return decryptValue(encryptedText);
         } catch (Exception e) {
             log.error("Erro ao descriptografar valor: {}", e.getMessage());
             throw new RuntimeException("Falha ao descriptografar valor", e);
         }
     }
+
+    /**
+     * Descriptografa uma lista de valores na mesma ordem (null/vazio passam direto), reaproveitando
+     * o mesmo Cipher para todos. Falha em qualquer valor interrompe a lista inteira.
+     */
+    public List<String> decryptAll(List<String> encryptedTexts) {
+        List<String> result = new ArrayList<>(encryptedTexts.size());
+        for (String encryptedText : encryptedTexts) {
+            result.add(decrypt(encryptedText));
+        }
+        return result;
+    }
+
+    private String decryptValue(String encryptedText) throws GeneralSecurityException {
+        if (encryptedText.startsWith(V2_PREFIX)) {
+            byte[] payload = Base64.getDecoder().decode(encryptedText.substring(V2_PREFIX.length()));
+            Cipher cipher = gcmCipher.get();
+            cipher.init(Cipher.DECRYPT_MODE, gcmKey, new GCMParameterSpec(GCM_TAG_BITS, payload, 0, GCM_IV_LENGTH));
+            byte[] decryptedBytes = cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+            return new String(decryptedBytes, StandardCharsets.UTF_8);
+        }
+
+        // Formato antigo, sem prefixo de versão
+        Cipher cipher = legacyCipher.get();
+        cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+        byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Algoritmo de criptografia indisponivel: " + transformation, e);
+        }
+    }
 }
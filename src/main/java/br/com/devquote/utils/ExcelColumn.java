@@ -0,0 +1,32 @@
+package br.com.devquote.utils;
+import br.com.devquote.enums.ExcelCellType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Definição de uma coluna de relatório Excel: cabeçalho, chave do dado na linha, largura e tipo de célula.
+ * Largura 0 mantém a largura padrão da planilha.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExcelColumn {
+
+    private final String header;
+    private final String key;
+    private final int width;
+    private final ExcelCellType type;
+
+    public static ExcelColumn of(String header, String key, int width) {
+        return new ExcelColumn(header, key, width, ExcelCellType.TEXT);
+    }
+
+    public static ExcelColumn of(String header, String key, int width, ExcelCellType type) {
+        return new ExcelColumn(header, key, width, type);
+    }
+
+    /** Coluna incluída apenas quando a condição é verdadeira (ex.: valores monetários). */
+    public static ExcelColumn onlyIf(boolean condition, ExcelColumn column) {
+        return condition ? column : null;
+    }
+}
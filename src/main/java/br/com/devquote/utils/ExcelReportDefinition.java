@@ -0,0 +1,43 @@
+package br.com.devquote.utils;
+import lombok.Getter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Layout de um relatório Excel: nome da aba, alturas e colunas agrupadas por cor de cabeçalho.
+ * Cor null usa o cabeçalho padrão (cinza escuro com fonte branca).
+ */
+@Getter
+public class ExcelReportDefinition {
+
+    private final String sheetName;
+    private final float headerHeight;
+    private final float rowHeight;
+    private final List<ExcelColumn> columns = new ArrayList<>();
+    private final List<Short> headerColors = new ArrayList<>();
+
+    public ExcelReportDefinition(String sheetName, float headerHeight, float rowHeight) {
+        this.sheetName = sheetName;
+        this.headerHeight = headerHeight;
+        this.rowHeight = rowHeight;
+    }
+
+    public ExcelReportDefinition group(Short headerColor, ExcelColumn... groupColumns) {
+        for (ExcelColumn column : groupColumns) {
+            if (column != null) {
+                columns.add(column);
+                headerColors.add(headerColor);
+            }
+        }
+        return this;
+    }
+
+    public ExcelReportDefinition columns(ExcelColumn... defaultColumns) {
+        return group(null, defaultColumns);
+    }
+
+    public List<ExcelColumn> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+}
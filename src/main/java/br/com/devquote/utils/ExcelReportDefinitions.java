@@ -0,0 +1,215 @@
+package br.com.devquote.utils;
+import org.apache.poi.ss.usermodel.IndexedColors;
+
+import static br.com.devquote.enums.ExcelCellType.*;
+import static br.com.devquote.utils.ExcelColumn.of;
+import static br.com.devquote.utils.ExcelColumn.onlyIf;
+
+/**
+ * Layouts dos relatórios Excel exportados pelo sistema. As chaves das colunas correspondem
+ * às chaves das linhas montadas nos serviços a partir das consultas nativas.
+ */
+public final class ExcelReportDefinitions {
+
+    private static final Short PALE_BLUE = IndexedColors.PALE_BLUE.getIndex();
+    private static final Short LIGHT_GREEN = IndexedColors.LIGHT_GREEN.getIndex();
+    private static final Short LIGHT_YELLOW = IndexedColors.LIGHT_YELLOW.getIndex();
+    private static final Short LIGHT_ORANGE = IndexedColors.LIGHT_ORANGE.getIndex();
+    private static final Short GREY_25 = IndexedColors.GREY_25_PERCENT.getIndex();
+    private static final Short LEMON_CHIFFON = IndexedColors.LEMON_CHIFFON.getIndex();
+
+    private ExcelReportDefinitions() {
+    }
+
+    public static ExcelReportDefinition tasksOnly(boolean canViewAmounts) {
+        return new ExcelReportDefinition("Relatório de Tarefas", 35, 30)
+                .group(PALE_BLUE,
+                        of("ID", "task_id", 2500),
+                        of("Fluxo", "task_flow_type", 4000, FLOW_TYPE),
+                        of("Código", "task_code", 3500),
+                        of("Título", "task_title", 8000),
+                        of("Descrição", "task_description", 10000),
+                        of("Tipo", "task_type", 3500, TASK_TYPE),
+                        of("Ambiente", "task_environment", 4000),
+                        of("Prioridade", "task_priority", 3000, PRIORITY),
+                        of("Solicitante", "requester_name", 6000),
+                        of("Criado Por", "created_by_user", 4000),
+                        of("Atualizado Por", "updated_by_user", 4000),
+                        of("Origem do Servidor", "server_origin", 4000),
+                        of("Módulo do Sistema", "system_module", 4000),
+                        of("Link", "task_link", 8000),
+                        of("Link da Reunião", "meeting_link", 8000),
+                        onlyIf(canViewAmounts, of("Valor da Tarefa", "task_amount", 3500, CURRENCY)),
+                        of("Tem Subtarefas", "has_subtasks", 3000),
+                        of("Tem Entrega", "has_delivery", 3000),
+                        of("Orçamento no Faturamento", "has_quote_in_billing", 4000),
+                        of("Data Criação", "task_created_at", 4500, DATE_TIME_TEXT),
+                        of("Data Atualização", "task_updated_at", 4500, DATE_TIME_TEXT));
+    }
+
+    public static ExcelReportDefinition tasksWithSubTasks(boolean canViewAmounts) {
+        return new ExcelReportDefinition("Relatório de Tarefas", 35, 30)
+                .group(PALE_BLUE,
+                        of("ID", "task_id", 2500),
+                        of("Fluxo", "task_flow_type", 4000, FLOW_TYPE),
+                        of("Código", "task_code", 3500),
+                        of("Título", "task_title", 8000),
+                        of("Descrição", "task_description", 10000),
+                        of("Tipo", "task_type", 3500, TASK_TYPE),
+                        of("Ambiente", "task_environment", 4000),
+                        of("Prioridade", "task_priority", 3000, PRIORITY),
+                        of("Solicitante", "requester_name", 6000),
+                        of("Origem do Servidor", "server_origin", 4000),
+                        of("Módulo do Sistema", "system_module", 4000),
+                        of("Link", "task_link", 8000),
+                        of("Link da Reunião", "meeting_link", 8000),
+                        onlyIf(canViewAmounts, of("Valor da Tarefa", "task_amount", 3500, CURRENCY)),
+                        of("Tem Subtarefas", "has_subtasks", 3000),
+                        onlyIf(canViewAmounts, of("Tem Entrega", "has_delivery", 3000)),
+                        onlyIf(canViewAmounts, of("Orçamento no Faturamento", "has_quote_in_billing", 4000)))
+                .group(LIGHT_GREEN,
+                        of("Subtarefa ID", "subtask_id", 2500),
+                        of("Subtarefa Título", "subtask_title", 8000),
+                        of("Subtarefa Descrição", "subtask_description", 10000),
+                        onlyIf(canViewAmounts, of("Subtarefa Valor", "subtask_amount", 3500, CURRENCY)));
+    }
+
+    public static ExcelReportDefinition developmentDeliveries(boolean canViewAmounts) {
+        return deliveryTaskColumns(new ExcelReportDefinition("Relatório de Entregas", 40, 35), canViewAmounts)
+                .group(LIGHT_YELLOW,
+                        of("Projeto/Repositório", "project_name", 6000),
+                        of("Status do Item", "item_status", 3500, DELIVERY_STATUS),
+                        of("Branch", "item_branch", 5000),
+                        of("Branch Origem", "item_source_branch", 5000),
+                        of("Pull Request", "item_pull_request", 8000),
+                        of("Observações do Item", "item_notes", 6000),
+                        of("Data Início Item", "item_started_at", 6500, DATE),
+                        of("Data Fim Item", "item_finished_at", 6500, DATE),
+                        of("Módulo", "module_name", 0),
+                        of("Servidor", "server_name", 0));
+    }
+
+    public static ExcelReportDefinition operationalDeliveries(boolean canViewAmounts) {
+        return deliveryTaskColumns(new ExcelReportDefinition("Relatório de Entregas Operacionais", 40, 35), canViewAmounts)
+                .group(LIGHT_ORANGE,
+                        of("Título do Item", "item_title", 7000),
+                        of("Descrição do Item", "item_description", 9000),
+                        of("Status do Item", "item_status", 3500, OPERATIONAL_ITEM_STATUS),
+                        of("Data Início Item", "item_started_at", 6500, DATE),
+                        of("Data Fim Item", "item_finished_at", 6500, DATE),
+                        of("Módulo", "module_name", 0),
+                        of("Servidor", "server_name", 0));
+    }
+
+    private static ExcelReportDefinition deliveryTaskColumns(ExcelReportDefinition definition, boolean canViewAmounts) {
+        return definition
+                .group(PALE_BLUE,
+                        of("ID Tarefa", "task_id", 2500),
+                        of("Código da Tarefa", "task_code", 3500),
+                        of("Título da Tarefa", "task_title", 8000),
+                        onlyIf(canViewAmounts, of("Valor da Tarefa", "task_amount", 3500, CURRENCY)),
+                        of("Tipo de Tarefa", "task_type", 4000, TASK_TYPE),
+                        of("Ambiente", "task_environment", 4000),
+                        of("Qtd. Subtarefas", "subtasks_count", 3000),
+                        of("Solicitante", "requester_name", 6000))
+                .group(LIGHT_GREEN,
+                        of("Status Geral da Entrega", "delivery_status", 4000, DELIVERY_STATUS),
+                        of("Observações da Entrega", "delivery_notes", 7000),
+                        of("Data Início Entrega", "delivery_started_at", 6500, DATE),
+                        of("Data Fim Entrega", "delivery_finished_at", 6500, DATE));
+    }
+
+    public static ExcelReportDefinition deliveriesOnly(boolean canViewAmounts) {
+        return new ExcelReportDefinition("Relatório de Entregas", 35, 30)
+                .group(PALE_BLUE,
+                        of("ID Entrega", "delivery_id", 2500),
+                        of("ID Tarefa", "task_id", 2500),
+                        of("Código da Tarefa", "task_code", 3500),
+                        of("Título da Tarefa", "task_title", 8000),
+                        of("Tipo de Tarefa", "task_type", 3500, TASK_TYPE),
+                        of("Fluxo", "flow_type", 4000, FLOW_TYPE),
+                        of("Ambiente", "task_environment", 4000),
+                        onlyIf(canViewAmounts, of("Valor da Tarefa", "task_amount", 3500, CURRENCY)),
+                        of("Qtd. Subtarefas", "subtasks_count", 2500),
+                        of("Solicitante", "requester_name", 6000),
+                        of("Status Geral da Entrega", "delivery_status", 4000, DELIVERY_STATUS),
+                        of("Observações da Entrega", "delivery_notes", 8000),
+                        of("Data Início Entrega", "delivery_started_at", 5500, DATE),
+                        of("Data Fim Entrega", "delivery_finished_at", 5500, DATE),
+                        of("Data Criação", "delivery_created_at", 5500, DATE),
+                        of("Data Atualização", "delivery_updated_at", 5500, DATE),
+                        of("Módulo", "module_name", 0),
+                        of("Servidor", "server_name", 0));
+    }
+
+    public static ExcelReportDefinition billing() {
+        return new ExcelReportDefinition("Relatório de Faturamento", 35, 30)
+                .columns(
+                        of("Ano", "billing_year", 2500),
+                        of("Mês", "billing_month", 2500),
+                        of("Nome do Mês", "billing_month", 3500, MONTH_NAME),
+                        of("Status do Faturamento", "billing_status", 4000, STATUS),
+                        of("ID Tarefa", "task_id", 2500),
+                        of("Código da Tarefa", "task_code", 3500),
+                        of("Fluxo", "task_flow_type", 4000, FLOW_TYPE),
+                        of("Título da Tarefa", "task_title", 8000),
+                        of("Tipo da Tarefa", "task_type", 4000, TASK_TYPE),
+                        of("Ambiente", "task_environment", 4000, ENVIRONMENT),
+                        of("Valor da Tarefa", "task_amount", 4000, CURRENCY),
+                        of("Qtd. Subtarefas", "subtasks_count", 3000),
+                        of("Solicitante", "requester_name", 6000));
+    }
+
+    public static ExcelReportDefinition general() {
+        return new ExcelReportDefinition("Relatório Geral - Visão Completa", 45, 40)
+                .group(GREY_25,
+                        of("ID Tarefa", "task_id", 2500),
+                        of("Código", "task_code", 3500),
+                        of("Título", "task_title", 10000),
+                        of("Descrição", "task_description", 12000),
+                        of("Prioridade", "task_priority", 3000, PRIORITY),
+                        of("Valor", "task_amount", 4000, CURRENCY),
+                        of("Solicitante", "requester_name", 6000),
+                        of("Criado Por", "created_by_name", 4000),
+                        of("Atualizado Por", "updated_by_name", 4000),
+                        of("Sistema Origem", "task_server_origin", 4000),
+                        of("Módulo", "task_system_module", 4000),
+                        of("Tem Entrega", "has_delivery", 3000),
+                        of("Faturamento", "has_quote_in_billing", 4000))
+                .group(PALE_BLUE, generalDeliveryColumns())
+                .group(LEMON_CHIFFON,
+                        of("Ano Faturamento", "billing_year", 2500),
+                        of("Mês Faturamento", "billing_month", 2500),
+                        of("Status Faturamento", "billing_status", 4000, STATUS));
+    }
+
+    public static ExcelReportDefinition generalForUser() {
+        return new ExcelReportDefinition("Relatório Geral - Visão User", 45, 40)
+                .group(GREY_25,
+                        of("ID Tarefa", "task_id", 2500),
+                        of("Código", "task_code", 3500),
+                        of("Título", "task_title", 10000),
+                        of("Descrição", "task_description", 12000),
+                        of("Prioridade", "task_priority", 3000, PRIORITY),
+                        of("Solicitante", "requester_name", 6000),
+                        of("Criado Por", "created_by_name", 4000),
+                        of("Atualizado Por", "updated_by_name", 4000),
+                        of("Sistema Origem", "task_server_origin", 4000),
+                        of("Módulo", "task_system_module", 4000),
+                        of("Tem Entrega", "has_delivery", 3000))
+                .group(PALE_BLUE, generalDeliveryColumns());
+    }
+
+    private static ExcelColumn[] generalDeliveryColumns() {
+        return new ExcelColumn[]{
+                of("ID Entrega", "delivery_id", 3000),
+                of("Status Entrega", "delivery_status", 3500, STATUS),
+                of("Projeto", "project_name", 6000),
+                of("Link da entrega (Pull Request)", "delivery_pull_request", 10000),
+                of("Branch", "delivery_branch", 8000),
+                of("Notas", "delivery_notes", 6000),
+                of("Início Entrega", "delivery_started_at", 6500, DATE),
+                of("Fim Entrega", "delivery_finished_at", 6500, DATE)
+        };
+    }
+}
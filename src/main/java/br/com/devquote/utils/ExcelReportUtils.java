@@ -1,333 +1,136 @@
 package br.com.devquote.utils;
+import jakarta.persistence.Query;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
-
+import java.util.stream.Stream;
+
+/**
+ * Motor de exportação Excel em streaming: as linhas são consumidas de um {@link Stream}
+ * (normalmente um cursor JDBC) e escritas em um {@link SXSSFWorkbook}, que mantém em memória
+ * apenas uma janela de linhas e descarrega o restante em arquivo temporário.
+ * O layout de cada relatório vem de {@link ExcelReportDefinitions}.
+ */
 @Component
 public class ExcelReportUtils {
 
-    public byte[] generateTasksOnlyReport(List<Map<String, Object>> data, boolean canViewAmounts) throws IOException {
-
-        Workbook workbook = new XSSFWorkbook();
-
-        Sheet sheet = workbook.createSheet("Relatório de Tarefas");
-
-        CellStyle dataStyle = createDataStyle(workbook);
-
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-
-        CellStyle taskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-
-        String[] headers;
-        if (canViewAmounts) {
-            headers = new String[]{
-                    "ID", "Fluxo", "Código", "Título", "Descrição", "Tipo", "Ambiente",
-                    "Prioridade", "Solicitante", "Criado Por", "Atualizado Por",
-                    "Origem do Servidor", "Módulo do Sistema", "Link", "Link da Reunião",
-                    "Valor da Tarefa", "Tem Subtarefas", "Tem Entrega", "Orçamento no Faturamento",
-                    "Data Criação", "Data Atualização"
-            };
-        } else {
-            headers = new String[]{
-                    "ID", "Fluxo", "Código", "Título", "Descrição", "Tipo", "Ambiente",
-                    "Prioridade", "Solicitante", "Criado Por", "Atualizado Por",
-                    "Origem do Servidor", "Módulo do Sistema", "Link", "Link da Reunião",
-                    "Tem Subtarefas", "Tem Entrega", "Orçamento no Faturamento",
-                    "Data Criação", "Data Atualização"
-            };
-        }
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(taskHeaderStyle);
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> taskData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            if (canViewAmounts) {
-                setCellValue(row, 0, taskData.get("task_id"), dataStyle);
-                setFlowTypeCell(row, 1, taskData.get("task_flow_type"), dataStyle);
-                setCellValue(row, 2, taskData.get("task_code"), dataStyle);
-                setCellValue(row, 3, taskData.get("task_title"), dataStyle);
-                setCellValue(row, 4, taskData.get("task_description"), dataStyle);
-                setTaskTypeCell(row, 5, taskData.get("task_type"), dataStyle);
-                setCellValue(row, 6, taskData.get("task_environment"), dataStyle);
-                setPriorityCell(row, 7, taskData.get("task_priority"), dataStyle);
-                setCellValue(row, 8, taskData.get("requester_name"), dataStyle);
-                setCellValue(row, 9, taskData.get("created_by_user"), dataStyle);
-                setCellValue(row, 10, taskData.get("updated_by_user"), dataStyle);
-                setCellValue(row, 11, taskData.get("server_origin"), dataStyle);
-                setCellValue(row, 12, taskData.get("system_module"), dataStyle);
-                setCellValue(row, 13, taskData.get("task_link"), dataStyle);
-                setCellValue(row, 14, taskData.get("meeting_link"), dataStyle);
-                setCellValue(row, 15, taskData.get("task_amount"), currencyStyle);
-                setCellValue(row, 16, taskData.get("has_subtasks"), dataStyle);
-                setCellValue(row, 17, taskData.get("has_delivery"), dataStyle);
-                setCellValue(row, 18, taskData.get("has_quote_in_billing"), dataStyle);
-                setDateTimeCell(row, 19, taskData.get("task_created_at"), dataStyle);
-                setDateTimeCell(row, 20, taskData.get("task_updated_at"), dataStyle);
-            } else {
-                setCellValue(row, 0, taskData.get("task_id"), dataStyle);
-                setFlowTypeCell(row, 1, taskData.get("task_flow_type"), dataStyle);
-                setCellValue(row, 2, taskData.get("task_code"), dataStyle);
-                setCellValue(row, 3, taskData.get("task_title"), dataStyle);
-                setCellValue(row, 4, taskData.get("task_description"), dataStyle);
-                setTaskTypeCell(row, 5, taskData.get("task_type"), dataStyle);
-                setCellValue(row, 6, taskData.get("task_environment"), dataStyle);
-                setPriorityCell(row, 7, taskData.get("task_priority"), dataStyle);
-                setCellValue(row, 8, taskData.get("requester_name"), dataStyle);
-                setCellValue(row, 9, taskData.get("created_by_user"), dataStyle);
-                setCellValue(row, 10, taskData.get("updated_by_user"), dataStyle);
-                setCellValue(row, 11, taskData.get("server_origin"), dataStyle);
-                setCellValue(row, 12, taskData.get("system_module"), dataStyle);
-                setCellValue(row, 13, taskData.get("task_link"), dataStyle);
-                setCellValue(row, 14, taskData.get("meeting_link"), dataStyle);
-                setCellValue(row, 15, taskData.get("has_subtasks"), dataStyle);
-                setCellValue(row, 16, taskData.get("has_delivery"), dataStyle);
-                setCellValue(row, 17, taskData.get("has_quote_in_billing"), dataStyle);
-                setDateTimeCell(row, 18, taskData.get("task_created_at"), dataStyle);
-                setDateTimeCell(row, 19, taskData.get("task_updated_at"), dataStyle);
-            }
-        }
-
-        if (canViewAmounts) {
-            setColumnWidths(sheet, new int[]{
-                    2500, 4000, 3500, 8000, 10000, 3500, 4000, 3000, 6000, 4000, 4000,
-                    4000, 4000, 8000, 8000, 3500, 3000, 3000, 4000, 4500, 4500
-            });
-        } else {
-            setColumnWidths(sheet, new int[]{
-                    2500, 4000, 3500, 8000, 10000, 3500, 4000, 3000, 6000, 4000, 4000,
-                    4000, 4000, 8000, 8000, 3000, 3000, 4000, 4500, 4500
-            });
-        }
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(30);
-            }
-        }
-
-        headerRow.setHeightInPoints(35);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    public byte[] generateTasksReport(List<Map<String, Object>> data, boolean canViewAmounts) throws IOException {
-
-        Workbook workbook = new XSSFWorkbook();
-
-        Sheet sheet = workbook.createSheet("Relatório de Tarefas");
-
-        CellStyle dataStyle = createDataStyle(workbook);
-
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-
-        CellStyle taskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-
-        CellStyle subtaskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.LIGHT_GREEN.getIndex());
-
-        String[] headers;
-        if (canViewAmounts) {
-            headers = new String[]{
-                    "ID", "Fluxo", "Código", "Título", "Descrição", "Tipo", "Ambiente",
-                    "Prioridade", "Solicitante", "Origem do Servidor", "Módulo do Sistema",
-                    "Link", "Link da Reunião", "Valor da Tarefa", "Tem Subtarefas",
-                    "Tem Entrega", "Orçamento no Faturamento",
-                    "Subtarefa ID", "Subtarefa Título", "Subtarefa Descrição",
-                    "Subtarefa Valor"
-            };
-        } else {
-            headers = new String[]{
-                    "ID", "Fluxo", "Código", "Título", "Descrição", "Tipo", "Ambiente",
-                    "Prioridade", "Solicitante", "Origem do Servidor", "Módulo do Sistema",
-                    "Link", "Link da Reunião", "Tem Subtarefas",
-                    "Subtarefa ID", "Subtarefa Título", "Subtarefa Descrição"
-            };
-        }
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-
-            if (canViewAmounts) {
-                if (i <= 16) {
-                    cell.setCellStyle(taskHeaderStyle);
-                } else {
-                    cell.setCellStyle(subtaskHeaderStyle);
-                }
-            } else {
-                if (i <= 13) {
-                    cell.setCellStyle(taskHeaderStyle);
-                } else {
-                    cell.setCellStyle(subtaskHeaderStyle);
+    /** Linhas mantidas em memória pelo SXSSF antes de descarregar para disco. */
+    public static final int ROW_ACCESS_WINDOW = 200;
+
+    /** Tamanho do lote buscado do cursor JDBC a cada ida ao banco. */
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private static final Pattern BR_PATTERN = Pattern.compile("<br\\s*/?>");
+    private static final Pattern PARAGRAPH_PATTERN = Pattern.compile("</p>\\s*<p[^>]*>");
+    private static final Pattern DIV_PATTERN = Pattern.compile("</div>\\s*<div[^>]*>");
+    private static final Pattern HR_PATTERN = Pattern.compile("<hr\\s*/?>");
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]+>");
+    private static final Pattern SPACES_PATTERN = Pattern.compile("[ \\t]+");
+    private static final Pattern BLANK_LINES_PATTERN = Pattern.compile("\\n{3,}");
+
+    /**
+     * Resultado de uma consulta nativa como stream sobre cursor, sem materializar a lista.
+     * Deve ser consumido dentro de uma transação e fechado (try-with-resources).
+     */
+    @SuppressWarnings("unchecked")
+    public static Stream<Object[]> streamResults(Query query) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        return query.getResultStream();
+    }
+
+    /**
+     * Cabeçalhos de download da planilha; o conteúdo é escrito em seguida direto no OutputStream da resposta.
+     */
+    public static void prepareDownload(HttpServletResponse response, String filename) {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.formData().name("attachment").filename(filename).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate, post-check=0, pre-check=0");
+    }
+
+    public void writeReport(ExcelReportDefinition definition, Stream<Map<String, Object>> rows,
+                            OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            ExcelStyleRegistry styles = new ExcelStyleRegistry(workbook);
+            SXSSFSheet sheet = workbook.createSheet(definition.getSheetName());
+            List<ExcelColumn> columns = definition.getColumns();
+            List<Short> headerColors = definition.getHeaderColors();
+
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                ExcelColumn column = columns.get(i);
+                if (column.getWidth() > 0) {
+                    sheet.setColumnWidth(i, column.getWidth());
                 }
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(column.getHeader());
+                cell.setCellStyle(styles.header(headerColors.get(i)));
             }
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> taskData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            if (canViewAmounts) {
-                setCellValue(row, 0, taskData.get("task_id"), dataStyle);
-                setFlowTypeCell(row, 1, taskData.get("task_flow_type"), dataStyle);
-                setCellValue(row, 2, taskData.get("task_code"), dataStyle);
-                setCellValue(row, 3, taskData.get("task_title"), dataStyle);
-                setCellValue(row, 4, taskData.get("task_description"), dataStyle);
-                setTaskTypeCell(row, 5, taskData.get("task_type"), dataStyle);
-                setCellValue(row, 6, taskData.get("task_environment"), dataStyle);
-                setPriorityCell(row, 7, taskData.get("task_priority"), dataStyle);
-                setCellValue(row, 8, taskData.get("requester_name"), dataStyle);
-                setCellValue(row, 9, taskData.get("server_origin"), dataStyle);
-                setCellValue(row, 10, taskData.get("system_module"), dataStyle);
-                setCellValue(row, 11, taskData.get("task_link"), dataStyle);
-                setCellValue(row, 12, taskData.get("meeting_link"), dataStyle);
-                setCellValue(row, 13, taskData.get("task_amount"), currencyStyle);
-                setCellValue(row, 14, taskData.get("has_subtasks"), dataStyle);
-                setCellValue(row, 15, taskData.get("has_delivery"), dataStyle);
-                setCellValue(row, 16, taskData.get("has_quote_in_billing"), dataStyle);
-                setCellValue(row, 17, taskData.get("subtask_id"), dataStyle);
-                setCellValue(row, 18, taskData.get("subtask_title"), dataStyle);
-                setCellValue(row, 19, taskData.get("subtask_description"), dataStyle);
-                setCellValue(row, 20, taskData.get("subtask_amount"), currencyStyle);
-            } else {
-                setCellValue(row, 0, taskData.get("task_id"), dataStyle);
-                setFlowTypeCell(row, 1, taskData.get("task_flow_type"), dataStyle);
-                setCellValue(row, 2, taskData.get("task_code"), dataStyle);
-                setCellValue(row, 3, taskData.get("task_title"), dataStyle);
-                setCellValue(row, 4, taskData.get("task_description"), dataStyle);
-                setTaskTypeCell(row, 5, taskData.get("task_type"), dataStyle);
-                setCellValue(row, 6, taskData.get("task_environment"), dataStyle);
-                setPriorityCell(row, 7, taskData.get("task_priority"), dataStyle);
-                setCellValue(row, 8, taskData.get("requester_name"), dataStyle);
-                setCellValue(row, 9, taskData.get("server_origin"), dataStyle);
-                setCellValue(row, 10, taskData.get("system_module"), dataStyle);
-                setCellValue(row, 11, taskData.get("task_link"), dataStyle);
-                setCellValue(row, 12, taskData.get("meeting_link"), dataStyle);
-                setCellValue(row, 13, taskData.get("has_subtasks"), dataStyle);
-                setCellValue(row, 14, taskData.get("subtask_id"), dataStyle);
-                setCellValue(row, 15, taskData.get("subtask_title"), dataStyle);
-                setCellValue(row, 16, taskData.get("subtask_description"), dataStyle);
+            headerRow.setHeightInPoints(definition.getHeaderHeight());
+
+            int rowNum = 1;
+            Iterator<Map<String, Object>> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Map<String, Object> data = iterator.next();
+                Row row = sheet.createRow(rowNum++);
+                row.setHeightInPoints(definition.getRowHeight());
+                for (int i = 0; i < columns.size(); i++) {
+                    ExcelColumn column = columns.get(i);
+                    writeCell(row, i, column, data.get(column.getKey()), styles);
+                }
             }
-        }
 
-        if (canViewAmounts) {
-            setColumnWidths(sheet, new int[]{
-                    2500, 4000, 3500, 8000, 10000, 3500, 4000, 3000, 6000, 4000, 4000,
-                    8000, 8000, 3500, 3000, 3000, 4000, 2500, 8000, 10000, 3500
-            });
-        } else {
-            setColumnWidths(sheet, new int[]{
-                    2500, 4000, 3500, 8000, 10000, 3500, 4000, 3000, 6000, 4000, 4000,
-                    8000, 8000, 3000, 2500, 8000, 10000
-            });
-        }
+            sheet.setAutoFilter(new CellRangeAddress(0, rowNum - 1, 0, columns.size() - 1));
+            sheet.createFreezePane(0, 1);
 
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(30);
-            }
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
-
-        headerRow.setHeightInPoints(35);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
     }
 
-    private void setColumnWidths(Sheet sheet, int[] widths) {
-        for (int i = 0; i < widths.length; i++) {
-            sheet.setColumnWidth(i, widths[i]);
+    private void writeCell(Row row, int columnIndex, ExcelColumn column, Object value, ExcelStyleRegistry styles) {
+        switch (column.getType()) {
+            case CURRENCY -> setCellValue(row, columnIndex, value, styles.currency());
+            case DATE -> setCellValue(row, columnIndex, value, styles.date());
+            case DATE_TIME_TEXT -> setDateTimeCell(row, columnIndex, value, styles.data());
+            case FLOW_TYPE -> setTextCell(row, columnIndex, value == null ? "" : translateFlowType(value.toString()), styles.data());
+            case TASK_TYPE -> setTextCell(row, columnIndex, value == null ? "" : translateTaskType(value.toString()), styles.data());
+            case PRIORITY -> setTextCell(row, columnIndex, value == null ? "" : translatePriority(value.toString()), styles.data());
+            case STATUS -> setTextCell(row, columnIndex, value == null ? "" : translateStatus(value.toString()), styles.data());
+            case DELIVERY_STATUS -> setTextCell(row, columnIndex, translateDeliveryStatus(value != null ? value.toString() : ""), styles.data());
+            case OPERATIONAL_ITEM_STATUS -> setTextCell(row, columnIndex, value == null ? "" : ("PENDING".equals(value.toString()) ? "Pendente" : "Entregue"), styles.data());
+            case ENVIRONMENT -> setTextCell(row, columnIndex, value == null ? "" : translateEnvironment(value.toString()), styles.data());
+            case MONTH_NAME -> setTextCell(row, columnIndex, value == null ? "" : translateMonth(Integer.parseInt(value.toString())), styles.data());
+            default -> setCellValue(row, columnIndex, value, styles.data());
         }
     }
 
-    private CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-
-        font.setBold(true);
-        font.setColor(IndexedColors.WHITE.getIndex());
-        font.setFontHeightInPoints((short) 12);
-        style.setFont(font);
-
-        style.setFillForegroundColor(IndexedColors.GREY_50_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        style.setWrapText(true);
-
-        return style;
-    }
-
-    private CellStyle createDataStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-
-        style.setVerticalAlignment(VerticalAlignment.TOP);
-        style.setWrapText(true);
-
-        return style;
-    }
-
-    private CellStyle createDateStyle(Workbook workbook) {
-        CellStyle style = createDataStyle(workbook);
-        CreationHelper helper = workbook.getCreationHelper();
-        style.setDataFormat(helper.createDataFormat().getFormat("dd/mm/yyyy hh:mm:ss"));
-        return style;
-    }
-
-    private CellStyle createCurrencyStyle(Workbook workbook) {
-        CellStyle style = createDataStyle(workbook);
-        CreationHelper helper = workbook.getCreationHelper();
-        style.setDataFormat(helper.createDataFormat().getFormat("\"R$ \"#,##0.00"));
-        style.setAlignment(HorizontalAlignment.RIGHT);
-        return style;
-    }
-
-    private CellStyle createDateOnlyStyle(Workbook workbook) {
-        CellStyle style = createDataStyle(workbook);
-        CreationHelper helper = workbook.getCreationHelper();
-        style.setDataFormat(helper.createDataFormat().getFormat("dd/mm/yyyy"));
-        return style;
+    private void setTextCell(Row row, int columnIndex, String value, CellStyle style) {
+        Cell cell = row.createCell(columnIndex);
+        cell.setCellStyle(style);
+        cell.setCellValue(value);
     }
 
     private void setCellValue(Row row, int columnIndex, Object value, CellStyle style) {
@@ -357,71 +160,6 @@ public class ExcelReportUtils {
         }
     }
 
-    private void setStatusCell(Row row, int columnIndex, Object value, CellStyle style) {
-        Cell cell = row.createCell(columnIndex);
-        cell.setCellStyle(style);
-
-        if (value == null) {
-            cell.setCellValue("");
-        } else {
-            String status = value.toString();
-            String translatedStatus = translateStatus(status);
-            cell.setCellValue(translatedStatus);
-        }
-    }
-
-    private void setPriorityCell(Row row, int columnIndex, Object value, CellStyle style) {
-        Cell cell = row.createCell(columnIndex);
-        cell.setCellStyle(style);
-
-        if (value == null) {
-            cell.setCellValue("");
-        } else {
-            String priority = value.toString();
-            String translatedPriority = translatePriority(priority);
-            cell.setCellValue(translatedPriority);
-        }
-    }
-
-    private void setTaskTypeCell(Row row, int columnIndex, Object value, CellStyle style) {
-        Cell cell = row.createCell(columnIndex);
-        cell.setCellStyle(style);
-
-        if (value == null) {
-            cell.setCellValue("");
-        } else {
-            String taskType = value.toString();
-            String translatedTaskType = translateTaskType(taskType);
-            cell.setCellValue(translatedTaskType);
-        }
-    }
-
-    private void setFlowTypeCell(Row row, int columnIndex, Object value, CellStyle style) {
-        Cell cell = row.createCell(columnIndex);
-        cell.setCellStyle(style);
-
-        if (value == null) {
-            cell.setCellValue("");
-        } else {
-            String flowType = value.toString();
-            String translatedFlowType = translateFlowType(flowType);
-            cell.setCellValue(translatedFlowType);
-        }
-    }
-
-    private void setEnvironmentCell(Row row, int columnIndex, Object value, CellStyle style) {
-        Cell cell = row.createCell(columnIndex);
-        cell.setCellStyle(style);
-
-        if (value == null) {
-            cell.setCellValue("");
-        } else {
-            String environment = value.toString();
-            String translatedEnvironment = translateEnvironment(environment);
-            cell.setCellValue(translatedEnvironment);
-        }
-    }
-
     private void setDateTimeCell(Row row, int columnIndex, Object value, CellStyle style) {
         Cell cell = row.createCell(columnIndex);
         cell.setCellStyle(style);
@@ -430,31 +168,14 @@ public class ExcelReportUtils {
             cell.setCellValue("");
         } else if (value instanceof java.sql.Timestamp) {
             java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
-            LocalDateTime dateTime = timestamp.toLocalDateTime();
-            java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
-            cell.setCellValue(dateTime.format(formatter));
+            cell.setCellValue(timestamp.toLocalDateTime().format(DATE_TIME_FORMATTER));
         } else if (value instanceof LocalDateTime) {
-            LocalDateTime dateTime = (LocalDateTime) value;
-            java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
-            cell.setCellValue(dateTime.format(formatter));
+            cell.setCellValue(((LocalDateTime) value).format(DATE_TIME_FORMATTER));
         } else {
             cell.setCellValue(value.toString());
         }
     }
 
-    private void setMonthNameCell(Row row, int columnIndex, Object value, CellStyle style) {
-        Cell cell = row.createCell(columnIndex);
-        cell.setCellStyle(style);
-
-        if (value == null) {
-            cell.setCellValue("");
-        } else {
-            int month = Integer.parseInt(value.toString());
-            String monthName = translateMonth(month);
-            cell.setCellValue(monthName);
-        }
-    }
-
     private String translateStatus(String status) {
         if (status == null) return "";
         return switch (status.toUpperCase()) {
@@ -496,13 +217,6 @@ public class ExcelReportUtils {
         };
     }
 
-    private void setDeliveryStatusCell(Row row, int cellIndex, Object status, CellStyle style) {
-        Cell cell = row.createCell(cellIndex);
-        String translatedStatus = translateDeliveryStatus(status != null ? status.toString() : "");
-        cell.setCellValue(translatedStatus);
-        cell.setCellStyle(style);
-    }
-
     private String translatePriority(String priority) {
         if (priority == null) return "";
         return switch (priority.toUpperCase()) {
@@ -573,686 +287,6 @@ public class ExcelReportUtils {
         };
     }
 
-    public byte[] generateDeliveriesReport(List<Map<String, Object>> data, boolean canViewAmounts) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Relatório de Entregas");
-
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-        CellStyle taskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-        CellStyle deliveryHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.LIGHT_GREEN.getIndex());
-        CellStyle itemHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.LIGHT_YELLOW.getIndex());
-
-        String[] headers;
-        if (canViewAmounts) {
-            headers = new String[]{
-                    "ID Tarefa", "Código da Tarefa", "Título da Tarefa", "Valor da Tarefa", "Tipo de Tarefa", "Ambiente", "Qtd. Subtarefas", "Solicitante",
-                    "Status Geral da Entrega", "Observações da Entrega", "Data Início Entrega", "Data Fim Entrega",
-                    "Projeto/Repositório", "Status do Item", "Branch", "Branch Origem",
-                    "Pull Request", "Observações do Item", "Data Início Item", "Data Fim Item",
-                    "Módulo", "Servidor"
-            };
-        } else {
-            headers = new String[]{
-                    "ID Tarefa", "Código da Tarefa", "Título da Tarefa", "Tipo de Tarefa", "Ambiente", "Qtd. Subtarefas", "Solicitante",
-                    "Status Geral da Entrega", "Observações da Entrega", "Data Início Entrega", "Data Fim Entrega",
-                    "Projeto/Repositório", "Status do Item", "Branch", "Branch Origem",
-                    "Pull Request", "Observações do Item", "Data Início Item", "Data Fim Item",
-                    "Módulo", "Servidor"
-            };
-        }
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-
-            if (canViewAmounts) {
-                if (i <= 7) {
-                    cell.setCellStyle(taskHeaderStyle);
-                } else if (i >= 8 && i <= 11) {
-                    cell.setCellStyle(deliveryHeaderStyle);
-                } else {
-                    cell.setCellStyle(itemHeaderStyle);
-                }
-            } else {
-                if (i <= 6) {
-                    cell.setCellStyle(taskHeaderStyle);
-                } else if (i >= 7 && i <= 10) {
-                    cell.setCellStyle(deliveryHeaderStyle);
-                } else {
-                    cell.setCellStyle(itemHeaderStyle);
-                }
-            }
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> deliveryData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            if (canViewAmounts) {
-                setCellValue(row, 0, deliveryData.get("task_id"), dataStyle);
-                setCellValue(row, 1, deliveryData.get("task_code"), dataStyle);
-                setCellValue(row, 2, deliveryData.get("task_title"), dataStyle);
-                setCellValue(row, 3, deliveryData.get("task_amount"), currencyStyle);
-                setTaskTypeCell(row, 4, deliveryData.get("task_type"), dataStyle);
-                setCellValue(row, 5, deliveryData.get("task_environment"), dataStyle);
-                setCellValue(row, 6, deliveryData.get("subtasks_count"), dataStyle);
-                setCellValue(row, 7, deliveryData.get("requester_name"), dataStyle);
-
-                setDeliveryStatusCell(row, 8, deliveryData.get("delivery_status"), dataStyle);
-                setCellValue(row, 9, deliveryData.get("delivery_notes"), dataStyle);
-                setCellValue(row, 10, deliveryData.get("delivery_started_at"), dateStyle);
-                setCellValue(row, 11, deliveryData.get("delivery_finished_at"), dateStyle);
-
-                setCellValue(row, 12, deliveryData.get("project_name"), dataStyle);
-                setDeliveryStatusCell(row, 13, deliveryData.get("item_status"), dataStyle);
-                setCellValue(row, 14, deliveryData.get("item_branch"), dataStyle);
-                setCellValue(row, 15, deliveryData.get("item_source_branch"), dataStyle);
-                setCellValue(row, 16, deliveryData.get("item_pull_request"), dataStyle);
-                setCellValue(row, 17, deliveryData.get("item_notes"), dataStyle);
-                setCellValue(row, 18, deliveryData.get("item_started_at"), dateStyle);
-                setCellValue(row, 19, deliveryData.get("item_finished_at"), dateStyle);
-                setCellValue(row, 20, deliveryData.get("module_name"), dataStyle);
-                setCellValue(row, 21, deliveryData.get("server_name"), dataStyle);
-            } else {
-                setCellValue(row, 0, deliveryData.get("task_id"), dataStyle);
-                setCellValue(row, 1, deliveryData.get("task_code"), dataStyle);
-                setCellValue(row, 2, deliveryData.get("task_title"), dataStyle);
-                setTaskTypeCell(row, 3, deliveryData.get("task_type"), dataStyle);
-                setCellValue(row, 4, deliveryData.get("task_environment"), dataStyle);
-                setCellValue(row, 5, deliveryData.get("subtasks_count"), dataStyle);
-                setCellValue(row, 6, deliveryData.get("requester_name"), dataStyle);
-
-                setDeliveryStatusCell(row, 7, deliveryData.get("delivery_status"), dataStyle);
-                setCellValue(row, 8, deliveryData.get("delivery_notes"), dataStyle);
-                setCellValue(row, 9, deliveryData.get("delivery_started_at"), dateStyle);
-                setCellValue(row, 10, deliveryData.get("delivery_finished_at"), dateStyle);
-
-                setCellValue(row, 11, deliveryData.get("project_name"), dataStyle);
-                setDeliveryStatusCell(row, 12, deliveryData.get("item_status"), dataStyle);
-                setCellValue(row, 13, deliveryData.get("item_branch"), dataStyle);
-                setCellValue(row, 14, deliveryData.get("item_source_branch"), dataStyle);
-                setCellValue(row, 15, deliveryData.get("item_pull_request"), dataStyle);
-                setCellValue(row, 16, deliveryData.get("item_notes"), dataStyle);
-                setCellValue(row, 17, deliveryData.get("item_started_at"), dateStyle);
-                setCellValue(row, 18, deliveryData.get("item_finished_at"), dateStyle);
-                setCellValue(row, 19, deliveryData.get("module_name"), dataStyle);
-                setCellValue(row, 20, deliveryData.get("server_name"), dataStyle);
-            }
-        }
-
-        if (canViewAmounts) {
-            setColumnWidths(sheet, new int[]{
-                    2500, 3500, 8000, 3500, 4000, 4000, 3000, 6000, 4000, 7000, 6500, 6500, 6000, 3500, 5000, 5000, 8000, 6000, 6500, 6500
-            });
-        } else {
-            setColumnWidths(sheet, new int[]{
-                    2500, 3500, 8000, 4000, 4000, 3000, 6000, 4000, 7000, 6500, 6500, 6000, 3500, 5000, 5000, 8000, 6000, 6500, 6500
-            });
-        }
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(35);
-            }
-        }
-
-        headerRow.setHeightInPoints(40);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    public byte[] generateOperationalDeliveriesReport(List<Map<String, Object>> data, boolean canViewAmounts) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Relatório de Entregas Operacionais");
-
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-        CellStyle taskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-        CellStyle deliveryHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.LIGHT_GREEN.getIndex());
-        CellStyle itemHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.LIGHT_ORANGE.getIndex());
-
-        String[] headers;
-        if (canViewAmounts) {
-            headers = new String[]{
-                    "ID Tarefa", "Código da Tarefa", "Título da Tarefa", "Valor da Tarefa", "Tipo de Tarefa", "Ambiente", "Qtd. Subtarefas", "Solicitante",
-                    "Status Geral da Entrega", "Observações da Entrega", "Data Início Entrega", "Data Fim Entrega",
-                    "Título do Item", "Descrição do Item", "Status do Item",
-                    "Data Início Item", "Data Fim Item",
-                    "Módulo", "Servidor"
-            };
-        } else {
-            headers = new String[]{
-                    "ID Tarefa", "Código da Tarefa", "Título da Tarefa", "Tipo de Tarefa", "Ambiente", "Qtd. Subtarefas", "Solicitante",
-                    "Status Geral da Entrega", "Observações da Entrega", "Data Início Entrega", "Data Fim Entrega",
-                    "Título do Item", "Descrição do Item", "Status do Item",
-                    "Data Início Item", "Data Fim Item",
-                    "Módulo", "Servidor"
-            };
-        }
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-
-            if (canViewAmounts) {
-                if (i <= 7) {
-                    cell.setCellStyle(taskHeaderStyle);
-                } else if (i >= 8 && i <= 11) {
-                    cell.setCellStyle(deliveryHeaderStyle);
-                } else {
-                    cell.setCellStyle(itemHeaderStyle);
-                }
-            } else {
-                if (i <= 6) {
-                    cell.setCellStyle(taskHeaderStyle);
-                } else if (i >= 7 && i <= 10) {
-                    cell.setCellStyle(deliveryHeaderStyle);
-                } else {
-                    cell.setCellStyle(itemHeaderStyle);
-                }
-            }
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> deliveryData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            if (canViewAmounts) {
-                setCellValue(row, 0, deliveryData.get("task_id"), dataStyle);
-                setCellValue(row, 1, deliveryData.get("task_code"), dataStyle);
-                setCellValue(row, 2, deliveryData.get("task_title"), dataStyle);
-                setCellValue(row, 3, deliveryData.get("task_amount"), currencyStyle);
-                setTaskTypeCell(row, 4, deliveryData.get("task_type"), dataStyle);
-                setCellValue(row, 5, deliveryData.get("task_environment"), dataStyle);
-                setCellValue(row, 6, deliveryData.get("subtasks_count"), dataStyle);
-                setCellValue(row, 7, deliveryData.get("requester_name"), dataStyle);
-
-                setDeliveryStatusCell(row, 8, deliveryData.get("delivery_status"), dataStyle);
-                setCellValue(row, 9, deliveryData.get("delivery_notes"), dataStyle);
-                setCellValue(row, 10, deliveryData.get("delivery_started_at"), dateStyle);
-                setCellValue(row, 11, deliveryData.get("delivery_finished_at"), dateStyle);
-
-                setCellValue(row, 12, deliveryData.get("item_title"), dataStyle);
-                setCellValue(row, 13, deliveryData.get("item_description"), dataStyle);
-                setOperationalItemStatusCell(row, 14, deliveryData.get("item_status"), dataStyle);
-                setCellValue(row, 15, deliveryData.get("item_started_at"), dateStyle);
-                setCellValue(row, 16, deliveryData.get("item_finished_at"), dateStyle);
-                setCellValue(row, 17, deliveryData.get("module_name"), dataStyle);
-                setCellValue(row, 18, deliveryData.get("server_name"), dataStyle);
-            } else {
-                setCellValue(row, 0, deliveryData.get("task_id"), dataStyle);
-                setCellValue(row, 1, deliveryData.get("task_code"), dataStyle);
-                setCellValue(row, 2, deliveryData.get("task_title"), dataStyle);
-                setTaskTypeCell(row, 3, deliveryData.get("task_type"), dataStyle);
-                setCellValue(row, 4, deliveryData.get("task_environment"), dataStyle);
-                setCellValue(row, 5, deliveryData.get("subtasks_count"), dataStyle);
-                setCellValue(row, 6, deliveryData.get("requester_name"), dataStyle);
-
-                setDeliveryStatusCell(row, 7, deliveryData.get("delivery_status"), dataStyle);
-                setCellValue(row, 8, deliveryData.get("delivery_notes"), dataStyle);
-                setCellValue(row, 9, deliveryData.get("delivery_started_at"), dateStyle);
-                setCellValue(row, 10, deliveryData.get("delivery_finished_at"), dateStyle);
-
-                setCellValue(row, 11, deliveryData.get("item_title"), dataStyle);
-                setCellValue(row, 12, deliveryData.get("item_description"), dataStyle);
-                setOperationalItemStatusCell(row, 13, deliveryData.get("item_status"), dataStyle);
-                setCellValue(row, 14, deliveryData.get("item_started_at"), dateStyle);
-                setCellValue(row, 15, deliveryData.get("item_finished_at"), dateStyle);
-                setCellValue(row, 16, deliveryData.get("module_name"), dataStyle);
-                setCellValue(row, 17, deliveryData.get("server_name"), dataStyle);
-            }
-        }
-
-        if (canViewAmounts) {
-            setColumnWidths(sheet, new int[]{
-                    2500, 3500, 8000, 3500, 4000, 4000, 3000, 6000, 4000, 7000, 6500, 6500, 7000, 9000, 3500, 6500, 6500
-            });
-        } else {
-            setColumnWidths(sheet, new int[]{
-                    2500, 3500, 8000, 4000, 4000, 3000, 6000, 4000, 7000, 6500, 6500, 7000, 9000, 3500, 6500, 6500
-            });
-        }
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(35);
-            }
-        }
-
-        headerRow.setHeightInPoints(40);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    private void setOperationalItemStatusCell(Row row, int cellIndex, Object value, CellStyle defaultStyle) {
-        if (value == null) {
-            Cell cell = row.createCell(cellIndex);
-            cell.setCellValue("");
-            cell.setCellStyle(defaultStyle);
-            return;
-        }
-
-        String status = value.toString();
-        Cell cell = row.createCell(cellIndex);
-        cell.setCellValue(status.equals("PENDING") ? "Pendente" : "Entregue");
-        cell.setCellStyle(defaultStyle);
-    }
-
-    public byte[] generateDeliveriesOnlyReport(List<Map<String, Object>> data, boolean canViewAmounts) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Relatório de Entregas");
-
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-        CellStyle headerStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-
-        String[] headers;
-        if (canViewAmounts) {
-            headers = new String[]{
-                    "ID Entrega", "ID Tarefa", "Código da Tarefa", "Título da Tarefa", "Tipo de Tarefa",
-                    "Fluxo", "Ambiente", "Valor da Tarefa", "Qtd. Subtarefas", "Solicitante",
-                    "Status Geral da Entrega", "Observações da Entrega",
-                    "Data Início Entrega", "Data Fim Entrega",
-                    "Data Criação", "Data Atualização",
-                    "Módulo", "Servidor"
-            };
-        } else {
-            headers = new String[]{
-                    "ID Entrega", "ID Tarefa", "Código da Tarefa", "Título da Tarefa", "Tipo de Tarefa",
-                    "Fluxo", "Ambiente", "Qtd. Subtarefas", "Solicitante",
-                    "Status Geral da Entrega", "Observações da Entrega",
-                    "Data Início Entrega", "Data Fim Entrega",
-                    "Data Criação", "Data Atualização",
-                    "Módulo", "Servidor"
-            };
-        }
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> deliveryData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            if (canViewAmounts) {
-                setCellValue(row, 0, deliveryData.get("delivery_id"), dataStyle);
-                setCellValue(row, 1, deliveryData.get("task_id"), dataStyle);
-                setCellValue(row, 2, deliveryData.get("task_code"), dataStyle);
-                setCellValue(row, 3, deliveryData.get("task_title"), dataStyle);
-                setTaskTypeCell(row, 4, deliveryData.get("task_type"), dataStyle);
-                setFlowTypeCell(row, 5, deliveryData.get("flow_type"), dataStyle);
-                setCellValue(row, 6, deliveryData.get("task_environment"), dataStyle);
-                setCellValue(row, 7, deliveryData.get("task_amount"), currencyStyle);
-                setCellValue(row, 8, deliveryData.get("subtasks_count"), dataStyle);
-                setCellValue(row, 9, deliveryData.get("requester_name"), dataStyle);
-                setDeliveryStatusCell(row, 10, deliveryData.get("delivery_status"), dataStyle);
-                setCellValue(row, 11, deliveryData.get("delivery_notes"), dataStyle);
-                setCellValue(row, 12, deliveryData.get("delivery_started_at"), dateStyle);
-                setCellValue(row, 13, deliveryData.get("delivery_finished_at"), dateStyle);
-                setCellValue(row, 14, deliveryData.get("delivery_created_at"), dateStyle);
-                setCellValue(row, 15, deliveryData.get("delivery_updated_at"), dateStyle);
-                setCellValue(row, 16, deliveryData.get("module_name"), dataStyle);
-                setCellValue(row, 17, deliveryData.get("server_name"), dataStyle);
-            } else {
-                setCellValue(row, 0, deliveryData.get("delivery_id"), dataStyle);
-                setCellValue(row, 1, deliveryData.get("task_id"), dataStyle);
-                setCellValue(row, 2, deliveryData.get("task_code"), dataStyle);
-                setCellValue(row, 3, deliveryData.get("task_title"), dataStyle);
-                setTaskTypeCell(row, 4, deliveryData.get("task_type"), dataStyle);
-                setFlowTypeCell(row, 5, deliveryData.get("flow_type"), dataStyle);
-                setCellValue(row, 6, deliveryData.get("task_environment"), dataStyle);
-                setCellValue(row, 7, deliveryData.get("subtasks_count"), dataStyle);
-                setCellValue(row, 8, deliveryData.get("requester_name"), dataStyle);
-                setDeliveryStatusCell(row, 9, deliveryData.get("delivery_status"), dataStyle);
-                setCellValue(row, 10, deliveryData.get("delivery_notes"), dataStyle);
-                setCellValue(row, 11, deliveryData.get("delivery_started_at"), dateStyle);
-                setCellValue(row, 12, deliveryData.get("delivery_finished_at"), dateStyle);
-                setCellValue(row, 13, deliveryData.get("delivery_created_at"), dateStyle);
-                setCellValue(row, 14, deliveryData.get("delivery_updated_at"), dateStyle);
-                setCellValue(row, 15, deliveryData.get("module_name"), dataStyle);
-                setCellValue(row, 16, deliveryData.get("server_name"), dataStyle);
-            }
-        }
-
-        if (canViewAmounts) {
-            setColumnWidths(sheet, new int[]{
-                    2500, 2500, 3500, 8000, 3500, 4000, 4000, 3500, 2500, 6000,
-                    4000, 8000, 5500, 5500, 5500, 5500
-            });
-        } else {
-            setColumnWidths(sheet, new int[]{
-                    2500, 2500, 3500, 8000, 3500, 4000, 4000, 2500, 6000,
-                    4000, 8000, 5500, 5500, 5500, 5500
-            });
-        }
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(30);
-            }
-        }
-
-        headerRow.setHeightInPoints(35);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    public byte[] generateBillingReport(List<Map<String, Object>> data) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Relatório de Faturamento");
-
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-
-        String[] headers = {
-                "Ano", "Mês", "Nome do Mês", "Status do Faturamento", "ID Tarefa", "Código da Tarefa",
-                "Fluxo", "Título da Tarefa", "Tipo da Tarefa", "Ambiente", "Valor da Tarefa", "Qtd. Subtarefas",
-                "Solicitante"
-        };
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> billingData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            setCellValue(row, 0, billingData.get("billing_year"), dataStyle);
-            setCellValue(row, 1, billingData.get("billing_month"), dataStyle);
-            setMonthNameCell(row, 2, billingData.get("billing_month"), dataStyle);
-            setStatusCell(row, 3, billingData.get("billing_status"), dataStyle);
-
-            setCellValue(row, 4, billingData.get("task_id"), dataStyle);
-            setCellValue(row, 5, billingData.get("task_code"), dataStyle);
-            setFlowTypeCell(row, 6, billingData.get("task_flow_type"), dataStyle);
-            setCellValue(row, 7, billingData.get("task_title"), dataStyle);
-            setTaskTypeCell(row, 8, billingData.get("task_type"), dataStyle);
-            setEnvironmentCell(row, 9, billingData.get("task_environment"), dataStyle);
-            setCellValue(row, 10, billingData.get("task_amount"), currencyStyle);
-            setCellValue(row, 11, billingData.get("subtasks_count"), dataStyle);
-            setCellValue(row, 12, billingData.get("requester_name"), dataStyle);
-        }
-
-        setColumnWidths(sheet, new int[]{
-                2500, 2500, 3500, 4000, 2500, 3500, 4000, 8000, 4000, 4000, 4000, 3000, 6000
-        });
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(30);
-            }
-        }
-
-        headerRow.setHeightInPoints(35);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    public byte[] generateGeneralReport(List<Map<String, Object>> data) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Relatório Geral - Visão Completa");
-
-        CellStyle taskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.GREY_25_PERCENT.getIndex());
-        CellStyle deliveryHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-        CellStyle billingHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.LEMON_CHIFFON.getIndex());
-
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-        CellStyle currencyStyle = createCurrencyStyle(workbook);
-
-        String[] headers = {
-                "ID Tarefa", "Código", "Título", "Descrição", "Prioridade", "Valor", "Solicitante",
-                "Criado Por", "Atualizado Por", "Sistema Origem", "Módulo",
-                "Tem Entrega", "Faturamento",
-                "ID Entrega", "Status Entrega", "Projeto", "Link da entrega (Pull Request)", "Branch", "Notas", "Início Entrega", "Fim Entrega",
-                "Ano Faturamento", "Mês Faturamento", "Status Faturamento"
-        };
-
-        Row headerRow = sheet.createRow(0);
-
-        int colIndex = 0;
-
-        for (int i = 0; i < 13; i++) {
-            Cell cell = headerRow.createCell(colIndex++);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(taskHeaderStyle);
-        }
-
-        for (int i = 13; i < 21; i++) {
-            Cell cell = headerRow.createCell(colIndex++);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(deliveryHeaderStyle);
-        }
-
-        for (int i = 21; i < 24; i++) {
-            Cell cell = headerRow.createCell(colIndex++);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(billingHeaderStyle);
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> taskData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            colIndex = 0;
-
-            setCellValue(row, colIndex++, taskData.get("task_id"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_code"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_title"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_description"), dataStyle);
-            setPriorityCell(row, colIndex++, taskData.get("task_priority"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_amount"), currencyStyle);
-            setCellValue(row, colIndex++, taskData.get("requester_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("created_by_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("updated_by_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_server_origin"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_system_module"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("has_delivery"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("has_quote_in_billing"), dataStyle);
-
-            setCellValue(row, colIndex++, taskData.get("delivery_id"), dataStyle);
-            setStatusCell(row, colIndex++, taskData.get("delivery_status"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("project_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_pull_request"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_branch"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_notes"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_started_at"), dateStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_finished_at"), dateStyle);
-
-            setCellValue(row, colIndex++, taskData.get("billing_year"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("billing_month"), dataStyle);
-            setStatusCell(row, colIndex++, taskData.get("billing_status"), dataStyle);
-        }
-
-        setColumnWidths(sheet, new int[]{
-                2500, 3500, 10000, 12000, 3000, 4000, 6000, 4000, 4000, 4000, 4000, 3000, 4000,
-                3000, 3500, 6000, 10000, 8000, 6000, 6500, 6500,
-                2500, 2500, 4000
-        });
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(40);
-            }
-        }
-
-        headerRow.setHeightInPoints(45);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    public byte[] generateGeneralReportForUser(List<Map<String, Object>> data) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Relatório Geral - Visão User");
-
-        CellStyle taskHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.GREY_25_PERCENT.getIndex());
-        CellStyle deliveryHeaderStyle = createColoredHeaderStyle(workbook, IndexedColors.PALE_BLUE.getIndex());
-
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-
-        String[] headers = {
-                "ID Tarefa", "Código", "Título", "Descrição", "Prioridade", "Solicitante",
-                "Criado Por", "Atualizado Por", "Sistema Origem", "Módulo",
-                "Tem Entrega",
-                "ID Entrega", "Status Entrega", "Projeto", "Link da entrega (Pull Request)", "Branch", "Notas", "Início Entrega", "Fim Entrega"
-        };
-
-        Row headerRow = sheet.createRow(0);
-
-        int colIndex = 0;
-
-        for (int i = 0; i < 11; i++) {
-            Cell cell = headerRow.createCell(colIndex++);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(taskHeaderStyle);
-        }
-
-        for (int i = 11; i < 19; i++) {
-            Cell cell = headerRow.createCell(colIndex++);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(deliveryHeaderStyle);
-        }
-
-        int rowNum = 1;
-        for (Map<String, Object> taskData : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            colIndex = 0;
-
-            setCellValue(row, colIndex++, taskData.get("task_id"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_code"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_title"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_description"), dataStyle);
-            setPriorityCell(row, colIndex++, taskData.get("task_priority"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("requester_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("created_by_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("updated_by_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_server_origin"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("task_system_module"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("has_delivery"), dataStyle);
-
-            setCellValue(row, colIndex++, taskData.get("delivery_id"), dataStyle);
-            setStatusCell(row, colIndex++, taskData.get("delivery_status"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("project_name"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_pull_request"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_branch"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_notes"), dataStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_started_at"), dateStyle);
-            setCellValue(row, colIndex++, taskData.get("delivery_finished_at"), dateStyle);
-        }
-
-        setColumnWidths(sheet, new int[]{
-                2500, 3500, 10000, 12000, 3000, 6000, 4000, 4000, 4000, 4000, 3000,
-                3000, 3500, 6000, 10000, 8000, 8000, 6000, 6500, 6500
-        });
-
-        for (int i = 1; i <= data.size(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null) {
-                row.setHeightInPoints(40);
-            }
-        }
-
-        headerRow.setHeightInPoints(45);
-
-        sheet.setAutoFilter(new org.apache.poi.ss.util.CellRangeAddress(0, data.size(), 0, headers.length - 1));
-
-        sheet.createFreezePane(0, 1);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    private CellStyle createColoredHeaderStyle(Workbook workbook, short colorIndex) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setColor(IndexedColors.BLACK.getIndex());
-        font.setFontHeightInPoints((short) 11);
-        style.setFont(font);
-
-        style.setFillForegroundColor(colorIndex);
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setTopBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
-        style.setBottomBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
-        style.setLeftBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
-        style.setRightBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
-
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        style.setWrapText(true);
-
-        return style;
-    }
-
     public static String stripHtml(Object value) {
         if (value == null) {
             return "";
@@ -1263,14 +297,13 @@ public class ExcelReportUtils {
             return "";
         }
 
-        text = text.replaceAll("<br\\s*/?>", "\n");
-        text = text.replaceAll("</p>\\s*<p[^>]*>", "\n\n");
-        text = text.replaceAll("</div>\\s*<div[^>]*>", "\n");
-        text = text.replaceAll("</li>", "\n");
-        text = text.replaceAll("<hr\\s*/?>", "\n---\n");
+        text = BR_PATTERN.matcher(text).replaceAll("\n");
+        text = PARAGRAPH_PATTERN.matcher(text).replaceAll("\n\n");
+        text = DIV_PATTERN.matcher(text).replaceAll("\n");
+        text = text.replace("</li>", "\n");
+        text = HR_PATTERN.matcher(text).replaceAll("\n---\n");
 
-        Pattern htmlTagPattern = Pattern.compile("<[^>]+>");
-        text = htmlTagPattern.matcher(text).replaceAll("");
+        text = HTML_TAG_PATTERN.matcher(text).replaceAll("");
 
         text = text.replace("&nbsp;", " ");
         text = text.replace("&amp;", "&");
@@ -1280,8 +313,8 @@ public class ExcelReportUtils {
         text = text.replace("&#39;", "'");
         text = text.replace("&apos;", "'");
 
-        text = text.replaceAll("[ \\t]+", " ");
-        text = text.replaceAll("\\n{3,}", "\n\n");
+        text = SPACES_PATTERN.matcher(text).replaceAll(" ");
+        text = BLANK_LINES_PATTERN.matcher(text).replaceAll("\n\n");
 
         return text.trim();
     }
@@ -0,0 +1,122 @@
+package br.com.devquote.utils;
+import org.apache.poi.ss.usermodel.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estilos de célula de um workbook, criados sob demanda e reutilizados por todas as células.
+ * O Excel limita a quantidade de estilos por arquivo, então nunca se cria um estilo por célula.
+ */
+public class ExcelStyleRegistry {
+
+    private final Workbook workbook;
+
+    private CellStyle dataStyle;
+    private CellStyle dateStyle;
+    private CellStyle currencyStyle;
+    private CellStyle defaultHeaderStyle;
+    private final Map<Short, CellStyle> coloredHeaderStyles = new HashMap<>();
+
+    public ExcelStyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    public CellStyle data() {
+        if (dataStyle == null) {
+            dataStyle = createDataStyle();
+        }
+        return dataStyle;
+    }
+
+    public CellStyle date() {
+        if (dateStyle == null) {
+            dateStyle = createDataStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy hh:mm:ss"));
+        }
+        return dateStyle;
+    }
+
+    public CellStyle currency() {
+        if (currencyStyle == null) {
+            currencyStyle = createDataStyle();
+            currencyStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("\"R$ \"#,##0.00"));
+            currencyStyle.setAlignment(HorizontalAlignment.RIGHT);
+        }
+        return currencyStyle;
+    }
+
+    public CellStyle header(Short colorIndex) {
+        if (colorIndex == null) {
+            if (defaultHeaderStyle == null) {
+                defaultHeaderStyle = createHeaderStyle();
+            }
+            return defaultHeaderStyle;
+        }
+        return coloredHeaderStyles.computeIfAbsent(colorIndex, this::createColoredHeaderStyle);
+    }
+
+    private CellStyle createDataStyle() {
+        CellStyle style = workbook.createCellStyle();
+
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+
+        style.setVerticalAlignment(VerticalAlignment.TOP);
+        style.setWrapText(true);
+
+        return style;
+    }
+
+    private CellStyle createHeaderStyle() {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+
+        font.setBold(true);
+        font.setColor(IndexedColors.WHITE.getIndex());
+        font.setFontHeightInPoints((short) 12);
+        style.setFont(font);
+
+        style.setFillForegroundColor(IndexedColors.GREY_50_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        style.setWrapText(true);
+
+        return style;
+    }
+
+    private CellStyle createColoredHeaderStyle(short colorIndex) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setColor(IndexedColors.BLACK.getIndex());
+        font.setFontHeightInPoints((short) 11);
+        style.setFont(font);
+
+        style.setFillForegroundColor(colorIndex);
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        style.setTopBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
+        style.setBottomBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
+        style.setLeftBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
+        style.setRightBorderColor(IndexedColors.GREY_40_PERCENT.getIndex());
+
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        style.setWrapText(true);
+
+        return style;
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.devquote.utils;
+
+import br.com.devquote.service.storage.FileStorageStrategy;
+import br.com.devquote.service.storage.StoredFileMetadata;
+import br.com.devquote.service.storage.StoredFileStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Envio de arquivos do storage direto para a resposta HTTP, sem carregar o conteúdo em memória.
+ * Trata ETag/Last-Modified (304), Range de um único intervalo (206/416) e Content-Length.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDownloadUtils {
+
+    /** Anexos são protegidos por autenticação: cache só no navegador, sempre revalidando via ETag. */
+    public static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final FileStorageStrategy fileStorageStrategy;
+
+    public void stream(String filePath, String contentType, String contentDisposition, CacheControl cacheControl,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        boolean headRequest = "HEAD".equalsIgnoreCase(request.getMethod());
+        boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+
+        // GET incondicional do arquivo inteiro: tamanho, ETag e tipo vêm da própria leitura, sem HEAD separado.
+        // Revalidação (If-None-Match/If-Modified-Since), Range e HEAD decidem pelos metadados (em cache no
+        // CachingFileStorageStrategy): um 304 não abre o arquivo, e o conteúdo só é lido se houver corpo.
+        StoredFileStream file = rangeHeader == null && !headRequest && !conditional ? fileStorageStrategy.openFile(filePath) : null;
+        try {
+            StoredFileMetadata metadata = file != null ? file.getMetadata() : fileStorageStrategy.getFileMetadata(filePath);
+            long length = metadata.getContentLength();
+            long lastModified = metadata.getLastModified() != null ? metadata.getLastModified().toEpochMilli() : -1;
+
+            if (cacheControl != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            }
+            if (new ServletWebRequest(request, response).checkNotModified(metadata.getETag(), lastModified)) {
+                return;
+            }
+
+            response.setContentType(resolveContentType(contentType, metadata));
+            if (contentDisposition != null) {
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+            }
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            long start = 0;
+            long end = length - 1;
+            boolean partial = false;
+
+            if (rangeHeader != null && isRangeApplicable(request, metadata.getETag(), lastModified)) {
+                List<HttpRange> ranges = parseRanges(rangeHeader);
+                // Múltiplos intervalos (multipart/byteranges) não são suportados: responde o arquivo inteiro
+                if (ranges.size() == 1) {
+                    HttpRange range = ranges.get(0);
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                    if (start >= length) {
+                        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        return;
+                    }
+                    partial = true;
+                }
+            }
+
+            if (partial) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            response.setContentLengthLong(length == 0 ? 0 : end - start + 1);
+
+            if (headRequest || length == 0) {
+                return;
+            }
+
+            if (file != null) {
+                file.getInputStream().transferTo(response.getOutputStream());
+                return;
+            }
+            try (InputStream inputStream = partial
+                    ? fileStorageStrategy.getFileStream(filePath, start, end)
+                    : fileStorageStrategy.getFileStream(filePath)) {
+                inputStream.transferTo(response.getOutputStream());
+            }
+        } finally {
+            if (file != null) {
+                file.close();
+            }
+        }
+    }
+
+    private String resolveContentType(String contentType, StoredFileMetadata metadata) {
+        if (contentType != null && !contentType.isBlank()) {
+            return contentType;
+        }
+        if (metadata.getContentType() != null && !metadata.getContentType().isBlank()) {
+            return metadata.getContentType();
+        }
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    /**
+     * If-Range: o Range só vale se o arquivo não mudou desde a cópia parcial que o cliente já tem.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return eTag != null && ifRange.equals(eTag);
+        }
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified != -1 && lastModified / 1000 <= ifRangeDate / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // Range malformado é ignorado (RFC 9110)
+            return List.of();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package br.com.devquote.utils;
 
 import br.com.devquote.dto.response.ContentBlock;
 import br.com.devquote.service.storage.FileStorageStrategy;
+import br.com.devquote.service.storage.StoredFileMetadata;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayInputStream;
@@ -12,7 +15,17 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,15 +47,33 @@ public class HtmlImageExtractor {
             .followRedirects(HttpClient.Redirect.NORMAL)
             .build();
 
-    private static final boolean RESIZE_IMAGES = false;
+    // Imagens de storage já reduzidas, por chave + ETag: relatórios repetidos não decodificam de novo
+    private static final Cache<String, byte[]> DERIVATIVE_CACHE = Caffeine.newBuilder()
+            .maximumWeight(32L * 1024 * 1024)
+            .weigher((String key, byte[] bytes) -> bytes.length)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
 
     private static final String INLINE_IMAGE_PREFIX = "/api/inline-images/view/";
 
+    private static final int MAX_PARALLEL_DOWNLOADS = 8;
+
+    // Teto de bytes de imagem por relatório, para um documento com muitas capturas não estourar o heap no Jasper
+    private static final long DEFAULT_IMAGE_BUDGET_BYTES = 64L * 1024 * 1024;
+
     public static List<ContentBlock> parseHtmlToBlocks(String html) {
-        return parseHtmlToBlocks(html, null);
+        return parseHtmlToBlocks(html, (FileStorageStrategy) null);
     }
 
     public static List<ContentBlock> parseHtmlToBlocks(String html, FileStorageStrategy fileStorageStrategy) {
+        return parseHtmlToBlocks(html, resolveImages(Collections.singletonList(html), fileStorageStrategy));
+    }
+
+    /**
+     * Monta os blocos de texto/imagem usando imagens já resolvidas por {@link #resolveImages}; imagem
+     * ausente do mapa (falha no download ou fora do orçamento) é omitida, como antes.
+     */
+    public static List<ContentBlock> parseHtmlToBlocks(String html, Map<String, byte[]> resolvedImages) {
         List<ContentBlock> blocks = new ArrayList<>();
 
         if (html == null || html.isEmpty()) {
@@ -62,8 +93,7 @@ public class HtmlImageExtractor {
                 }
             }
 
-            String imageUrl = decodeHtmlEntities(matcher.group(1));
-            byte[] imageBytes = downloadImage(imageUrl, fileStorageStrategy);
+            byte[] imageBytes = resolvedImages.get(decodeHtmlEntities(matcher.group(1)));
             if (imageBytes != null) {
                 blocks.add(ContentBlock.imageBlock(imageBytes, order++));
             }
@@ -83,6 +113,69 @@ public class HtmlImageExtractor {
         return blocks;
     }
 
+    public static Map<String, byte[]> resolveImages(Collection<String> htmls, FileStorageStrategy fileStorageStrategy) {
+        return resolveImages(htmls, fileStorageStrategy, DEFAULT_IMAGE_BUDGET_BYTES);
+    }
+
+    /**
+     * Baixa em paralelo, uma vez por URL, as imagens de todos os HTMLs de um relatório (tarefa + subtarefas,
+     * itens da entrega...). As imagens entram na ordem em que aparecem enquanto couberem em budgetBytes;
+     * as que não cabem são descartadas.
+     * Retorna URL (já decodificada) → bytes, só com as imagens obtidas.
+     */
+    public static Map<String, byte[]> resolveImages(Collection<String> htmls, FileStorageStrategy fileStorageStrategy,
+                                                    long budgetBytes) {
+        Set<String> urls = new LinkedHashSet<>();
+        for (String html : htmls) {
+            if (html == null || html.isEmpty()) {
+                continue;
+            }
+            Matcher matcher = IMG_TAG_PATTERN.matcher(html);
+            while (matcher.find()) {
+                urls.add(decodeHtmlEntities(matcher.group(1)));
+            }
+        }
+        if (urls.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, byte[]> downloaded = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(urls.size(), MAX_PARALLEL_DOWNLOADS));
+        try {
+            CompletableFuture.allOf(urls.stream()
+                    .map(url -> CompletableFuture.runAsync(() -> {
+                        byte[] imageBytes = downloadImage(url, fileStorageStrategy);
+                        if (imageBytes != null) {
+                            downloaded.put(url, imageBytes);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Orçamento cobrado na ordem do documento, não na de término dos downloads: o mesmo relatório
+        // sempre mantém as mesmas imagens, e imagem descartada não consome orçamento
+        Map<String, byte[]> images = new HashMap<>();
+        long usedBytes = 0;
+        for (String url : urls) {
+            byte[] imageBytes = downloaded.get(url);
+            if (imageBytes == null) {
+                continue;
+            }
+            if (usedBytes + imageBytes.length > budgetBytes) {
+                log.warn("Image budget of {} bytes exceeded; skipping image {}", budgetBytes, url);
+                continue;
+            }
+            usedBytes += imageBytes.length;
+            images.put(url, imageBytes);
+        }
+
+        log.debug("Resolved {} of {} distinct images ({} bytes)", images.size(), urls.size(), usedBytes);
+        return images;
+    }
+
     public static List<String> extractImageUrls(String html) {
         List<String> urls = new ArrayList<>();
         if (html == null || html.isEmpty()) {
@@ -250,11 +343,22 @@ public class HtmlImageExtractor {
         try {
             if (imageUrl.startsWith(INLINE_IMAGE_PREFIX) && fileStorageStrategy != null) {
                 String filePath = imageUrl.substring(INLINE_IMAGE_PREFIX.length());
+                String cacheKey = derivativeCacheKey(filePath, fileStorageStrategy);
+                byte[] cached = cacheKey != null ? DERIVATIVE_CACHE.getIfPresent(cacheKey) : null;
+                if (cached != null) {
+                    return cached;
+                }
+
                 log.debug("Loading internal image from storage: {}", filePath);
-                InputStream inputStream = fileStorageStrategy.getFileStream(filePath);
-                byte[] imageBytes = inputStream.readAllBytes();
-                inputStream.close();
-                return resizeImageIfNeeded(imageBytes);
+                byte[] imageBytes;
+                try (InputStream inputStream = fileStorageStrategy.getFileStream(filePath)) {
+                    imageBytes = inputStream.readAllBytes();
+                }
+                byte[] resized = resizeImageIfNeeded(imageBytes);
+                if (cacheKey != null) {
+                    DERIVATIVE_CACHE.put(cacheKey, resized);
+                }
+                return resized;
             }
 
             HttpRequest request = HttpRequest.newBuilder()
@@ -290,10 +394,20 @@ public class HtmlImageExtractor {
     }
 
     private static byte[] resizeImageIfNeeded(byte[] originalBytes) {
-        if (!RESIZE_IMAGES) {
-            return originalBytes;
+        return ImageDownscaler.downscale(originalBytes);
+    }
+
+    /**
+     * Chave da imagem reduzida: chave no storage + ETag, para um objeto regravado no mesmo caminho não
+     * reaproveitar a versão antiga. Sem metadados disponíveis a imagem não entra no cache.
+     */
+    private static String derivativeCacheKey(String filePath, FileStorageStrategy fileStorageStrategy) {
+        try {
+            StoredFileMetadata metadata = fileStorageStrategy.getFileMetadata(filePath);
+            return metadata.getETag() != null ? filePath + "#" + metadata.getETag() : null;
+        } catch (Exception e) {
+            return null;
         }
-        return originalBytes;
     }
 
     public static InputStream toInputStream(byte[] bytes) {
@@ -0,0 +1,145 @@
+package br.com.devquote.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Reduz imagens dos blocos de conteúdo dos PDFs à largura útil do content_blocks_subreport.
+ * A imagem é decodificada uma vez, reduzida em etapas de no máximo 50% (bilinear, sem o serrilhado de um
+ * único drawImage grande) e regravada: PNG com compressão máxima para capturas de tela (poucas cores
+ * ou transparência), JPEG para fotos. Imagens já estreitas, ou em formato que o ImageIO não lê,
+ * voltam como estão.
+ */
+@Slf4j
+public class ImageDownscaler {
+
+    /** Largura do band de imagem do content_blocks_subreport (scaleImage="RealSize": 1 px = 1 pt). */
+    public static final int CONTENT_BLOCK_WIDTH = 545;
+
+    private static final float JPEG_QUALITY = 0.85f;
+    // Acima disso de cores distintas na amostra a imagem é tratada como foto
+    private static final int SCREENSHOT_MAX_COLORS = 1024;
+    private static final int COLOR_SAMPLES = 10_000;
+
+    // Decodificar uma captura 4K ocupa ~33 MB; limita quantas ficam em memória ao mesmo tempo
+    private static final Semaphore DECODE_PERMITS = new Semaphore(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+
+    public static byte[] downscale(byte[] originalBytes) {
+        return downscale(originalBytes, CONTENT_BLOCK_WIDTH);
+    }
+
+    public static byte[] downscale(byte[] originalBytes, int maxWidth) {
+        if (originalBytes == null || originalBytes.length == 0) {
+            return originalBytes;
+        }
+
+        try {
+            DECODE_PERMITS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return originalBytes;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(originalBytes));
+            if (original == null || original.getWidth() <= maxWidth) {
+                return originalBytes;
+            }
+
+            int targetHeight = Math.max(1, (int) Math.round((double) original.getHeight() * maxWidth / original.getWidth()));
+            boolean hasAlpha = original.getColorModel().hasAlpha();
+            BufferedImage scaled = scale(original, maxWidth, targetHeight, hasAlpha);
+
+            boolean png = hasAlpha || isScreenshot(scaled);
+            byte[] encoded = png ? writePng(scaled) : writeJpeg(scaled);
+
+            log.debug("Image downscaled {}x{} -> {}x{} ({} -> {} bytes, {}) in {} ms",
+                    original.getWidth(), original.getHeight(), maxWidth, targetHeight,
+                    originalBytes.length, encoded.length, png ? "png" : "jpeg", System.currentTimeMillis() - start);
+            return encoded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not downscale image ({} bytes), using original: {}", originalBytes.length, e.getMessage());
+            return originalBytes;
+        } finally {
+            DECODE_PERMITS.release();
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, boolean hasAlpha) {
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D g2d = step.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(current, 0, 0, width, height, null);
+            g2d.dispose();
+            current = step;
+        } while (width > targetWidth);
+
+        return current;
+    }
+
+    /**
+     * Poucas cores distintas numa amostra dos pixels: captura de tela / diagrama, que o PNG comprime melhor e sem artefatos.
+     */
+    private static boolean isScreenshot(BufferedImage image) {
+        long pixels = (long) image.getWidth() * image.getHeight();
+        long stride = Math.max(1, pixels / COLOR_SAMPLES);
+        Set<Integer> colors = new HashSet<>();
+        for (long i = 0; i < pixels; i += stride) {
+            colors.add(image.getRGB((int) (i % image.getWidth()), (int) (i / image.getWidth())) & 0xFFFFFF);
+            if (colors.size() > SCREENSHOT_MAX_COLORS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] writePng(BufferedImage image) throws IOException {
+        return write(image, "png", 0.0f);
+    }
+
+    private static byte[] writeJpeg(BufferedImage image) throws IOException {
+        return write(image, "jpeg", JPEG_QUALITY);
+    }
+
+    private static byte[] write(BufferedImage image, String format, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                // PNG: 0.0 = deflate máximo; JPEG: qualidade
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
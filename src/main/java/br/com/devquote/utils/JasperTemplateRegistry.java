@@ -0,0 +1,161 @@
+package br.com.devquote.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperExportManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import net.sf.jasperreports.export.SimplePdfExporterConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Registro dos templates Jasper em memória, por nome (arquivo sem extensão em /reports).
+ * Cada template é carregado do .jasper ou, na falta dele, compilado a partir do .jrxml uma única vez;
+ * a compilação de todos é antecipada em paralelo quando a aplicação sobe.
+ * Tempos de preenchimento e exportação ficam em devquote.report.fill / devquote.report.export por template.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JasperTemplateRegistry {
+
+    public static final String OPERATIONAL_REPORT = "operational_report";
+    public static final String TASK_REPORT = "task_report";
+    public static final String TASK_SUBTASKS_REPORT = "task_subtasks_report";
+    public static final String CONTENT_BLOCKS_SUBREPORT = "content_blocks_subreport";
+    public static final String DELIVERY_REPORT = "delivery_report";
+    public static final String DELIVERY_ITEMS_DEV_REPORT = "delivery_items_dev_report";
+    public static final String DELIVERY_ITEMS_OP_REPORT = "delivery_items_op_report";
+    public static final String INSCRICOES_MINICURSO_REPORT = "inscricoes_minicurso_report";
+
+    private static final List<String> TEMPLATES = List.of(
+            OPERATIONAL_REPORT, TASK_REPORT, TASK_SUBTASKS_REPORT, CONTENT_BLOCKS_SUBREPORT,
+            DELIVERY_REPORT, DELIVERY_ITEMS_DEV_REPORT, DELIVERY_ITEMS_OP_REPORT, INSCRICOES_MINICURSO_REPORT);
+
+    private static final String FILL_TIMER = "devquote.report.fill";
+    private static final String EXPORT_TIMER = "devquote.report.export";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, JasperReport> templates = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(TEMPLATES.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            CompletableFuture.allOf(TEMPLATES.stream()
+                    .map(name -> CompletableFuture.runAsync(() -> warmUp(name), executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+        log.info("Templates Jasper carregados: {} em {} ms", templates.size(), System.currentTimeMillis() - start);
+    }
+
+    private void warmUp(String name) {
+        try {
+            get(name);
+        } catch (Exception e) {
+            // Não impede a subida; a próxima requisição tenta carregar novamente
+            log.error("Erro ao pré-carregar template Jasper {}", name, e);
+        }
+    }
+
+    /**
+     * Template já compilado. Requisições concorrentes pelo mesmo nome aguardam uma única compilação.
+     */
+    public JasperReport get(String name) {
+        return templates.computeIfAbsent(name, this::load);
+    }
+
+    public JasperPrint fill(String name, Map<String, Object> parameters, JRDataSource dataSource) throws JRException {
+        JasperReport report = get(name);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return JasperFillManager.fillReport(report, parameters, dataSource);
+        } finally {
+            sample.stop(timer(FILL_TIMER, name));
+        }
+    }
+
+    public byte[] exportPdf(String name, JasperPrint jasperPrint) throws JRException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return JasperExportManager.exportReportToPdf(jasperPrint);
+        } finally {
+            sample.stop(timer(EXPORT_TIMER, name));
+        }
+    }
+
+    /**
+     * Exporta vários JasperPrint em um único PDF, com bookmarks por documento.
+     */
+    public byte[] exportPdf(String name, List<JasperPrint> jasperPrints) throws JRException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            JRPdfExporter exporter = new JRPdfExporter();
+            exporter.setExporterInput(SimpleExporterInput.getInstance(jasperPrints));
+            exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(outputStream));
+            SimplePdfExporterConfiguration configuration = new SimplePdfExporterConfiguration();
+            configuration.setCreatingBatchModeBookmarks(true);
+            exporter.setConfiguration(configuration);
+            exporter.exportReport();
+            return outputStream.toByteArray();
+        } finally {
+            sample.stop(timer(EXPORT_TIMER, name));
+        }
+    }
+
+    private Timer timer(String metric, String template) {
+        return Timer.builder(metric)
+                .tag("template", template)
+                .register(meterRegistry);
+    }
+
+    private JasperReport load(String name) {
+        ClassPathResource jasperResource = new ClassPathResource("reports/" + name + ".jasper");
+        if (jasperResource.exists()) {
+            try (InputStream inputStream = jasperResource.getInputStream()) {
+                return (JasperReport) JRLoader.loadObject(inputStream);
+            } catch (Exception e) {
+                log.warn("Erro ao carregar template Jasper compilado {}, compilando .jrxml", name, e);
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        try (InputStream inputStream = new ClassPathResource("reports/" + name + ".jrxml").getInputStream()) {
+            JasperReport report = JasperCompileManager.compileReport(inputStream);
+            log.info("Template Jasper {} compilado em {} ms", name, System.currentTimeMillis() - start);
+            return report;
+        } catch (Exception ex) {
+            log.error("Erro ao compilar template Jasper {}", name, ex);
+            throw new RuntimeException("Nao foi possivel carregar o template do relatorio: " + name, ex);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.devquote.utils;
+import br.com.devquote.error.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posicao de uma listagem por keyset: ultimo (chave de ordenacao, id) entregue ao cliente.
+ * Serializado como token opaco (Base64 URL-safe) para que o formato possa mudar sem quebrar a API.
+ * Ordenacoes suportadas: id DESC e createdAt DESC, id DESC.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    public static final String SORT_ID = "id";
+    public static final String SORT_CREATED_AT = "createdAt";
+
+    private static final String VERSION = "v1";
+
+    private final String sortKey;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static KeysetCursor first(String sortKey) {
+        return new KeysetCursor(resolveSortKey(sortKey), null, null);
+    }
+
+    public static KeysetCursor after(String sortKey, LocalDateTime createdAt, Long id) {
+        String key = resolveSortKey(sortKey);
+        // Ordenacao por id nao usa createdAt no predicado
+        return new KeysetCursor(key, SORT_CREATED_AT.equals(key) ? createdAt : null, id);
+    }
+
+    /**
+     * Decodifica o token recebido; sem token, retorna a primeira pagina na ordenacao pedida.
+     */
+    public static KeysetCursor decode(String token, String sortKey) {
+        if (token == null || token.isBlank()) {
+            return first(sortKey);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("versao de cursor desconhecida");
+            }
+            String key = resolveSortKey(parts[1]);
+            if (!key.equals(resolveSortKey(sortKey))) {
+                throw new IllegalArgumentException("cursor gerado para outra ordenacao");
+            }
+            LocalDateTime createdAt = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+            if (SORT_CREATED_AT.equals(key) && createdAt == null) {
+                throw new IllegalArgumentException("cursor sem createdAt");
+            }
+            return new KeysetCursor(key, createdAt, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido: " + e.getMessage(), "INVALID_CURSOR");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sortKey, createdAt != null ? createdAt.toString() : "", String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isSortedByCreatedAt() {
+        return SORT_CREATED_AT.equals(sortKey);
+    }
+
+    private static String resolveSortKey(String sortKey) {
+        return SORT_CREATED_AT.equals(sortKey) ? SORT_CREATED_AT : SORT_ID;
+    }
+}
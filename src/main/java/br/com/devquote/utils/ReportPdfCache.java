@@ -0,0 +1,157 @@
+package br.com.devquote.utils;
+
+import br.com.devquote.configuration.ReportCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * PDFs de relatório já gerados, em disco, por (tipo, id, showValues). Cada entrada guarda a versão da
+ * entidade com que foi gerada (fingerprint de updatedAt/filhos calculado por quem chama): versão
+ * diferente regera e substitui o arquivo, o que invalida a entrada sem precisar de hooks nas alterações.
+ * Tamanho total limitado por peso no Caffeine, com TTL como teto para dados que não entram na versão.
+ * Downloads simultâneos do mesmo relatório aguardam uma única geração.
+ * O PDF servido do cache é o da geração original: o "Gerado em" (dataGeracao) do cabeçalho de
+ * task_report/delivery_report mostra essa hora, até report.cache.ttl atrás, não a do download.
+ * Hit/miss expostos pelo actuator em cache.gets{cache="reportPdf"}.
+ */
+@Slf4j
+@Component
+public class ReportPdfCache {
+
+    public static final String TASK_REPORT = "task";
+    public static final String DELIVERY_REPORT = "delivery";
+
+    private final ReportCacheProperties properties;
+    private final Path directory;
+    private final Cache<String, CachedPdf> cache;
+
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ReportPdfCache(ReportCacheProperties properties, MeterRegistry meterRegistry) throws IOException {
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+        if (properties.isEnabled()) {
+            resetDirectory();
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxDiskBytes())
+                .weigher((String key, CachedPdf pdf) -> (int) Math.min(pdf.size(), Integer.MAX_VALUE))
+                .expireAfterWrite(properties.getTtl())
+                .removalListener((String key, CachedPdf pdf, RemovalCause cause) -> {
+                    if (pdf != null) {
+                        deleteQuietly(pdf.path());
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reportPdf");
+    }
+
+    /**
+     * PDF em cache para a versão informada ou gerado por renderer (e guardado). Sem versão (entidade não
+     * encontrada) ou com o cache desligado, só gera.
+     */
+    public byte[] get(String reportType, Long id, boolean showValues, String version, Supplier<byte[]> renderer) {
+        if (!properties.isEnabled() || version == null) {
+            return renderer.get();
+        }
+
+        String key = reportType + ":" + id + ":" + showValues;
+        byte[] cached = read(key, version);
+        if (cached != null) {
+            log.debug("Relatorio PDF {} (versao {}) servido do cache", key, version);
+            return cached;
+        }
+
+        String flightKey = key + "@" + version;
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(flightKey, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+
+        try {
+            byte[] pdf = renderer.get();
+            store(key, version, pdf);
+            future.complete(pdf);
+            return pdf;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, future);
+        }
+    }
+
+    private byte[] read(String key, String version) {
+        CachedPdf pdf = cache.getIfPresent(key);
+        if (pdf == null || !pdf.version().equals(version)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(pdf.path());
+        } catch (NoSuchFileException e) {
+            cache.asMap().remove(key, pdf);
+            return null;
+        } catch (IOException e) {
+            log.warn("Erro ao ler relatorio {} do cache: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String version, byte[] pdf) {
+        if (pdf.length > properties.getMaxDiskBytes()) {
+            return;
+        }
+        Path target = directory.resolve(Long.toString(sequence.incrementAndGet()));
+        try {
+            Files.write(target, pdf);
+            // Substitui a versão anterior; o removal listener apaga o arquivo antigo
+            cache.put(key, new CachedPdf(version, target, pdf.length));
+        } catch (IOException e) {
+            deleteQuietly(target);
+            log.warn("Erro ao gravar relatorio {} no cache: {}", key, e.getMessage());
+        }
+    }
+
+    private void resetDirectory() throws IOException {
+        Files.createDirectories(directory);
+        // Arquivos de execuções anteriores não estão indexados
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete cached report {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record CachedPdf(String version, Path path, long size) {
+    }
+}
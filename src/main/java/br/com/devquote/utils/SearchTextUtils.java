@@ -0,0 +1,31 @@
+package br.com.devquote.utils;
+import lombok.experimental.UtilityClass;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizacao de texto para colunas de busca: remove tags HTML, decodifica entidades comuns,
+ * colapsa espacos e converte para minusculas. O resultado e indexado com pg_trgm (V0005); o backfill
+ * da V0005 repete as mesmas substituicoes, na mesma ordem.
+ */
+@UtilityClass
+public class SearchTextUtils {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static String normalize(String html) {
+        if (html == null || html.isBlank()) {
+            return null;
+        }
+        String text = HTML_TAG.matcher(html).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+        return text.isEmpty() ? null : text.toLowerCase(Locale.ROOT);
+    }
+}
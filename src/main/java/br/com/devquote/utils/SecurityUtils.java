@@ -1,27 +1,72 @@
 package br.com.devquote.utils;
 import br.com.devquote.entity.User;
 import br.com.devquote.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Component
 @RequiredArgsConstructor
 public class SecurityUtils {
 
+    private static final String CURRENT_USER_ATTRIBUTE = SecurityUtils.class.getName() + ".CURRENT_USER";
+    private static final String CURRENT_USER_METRIC = "devquote.security.current.user.resolutions";
+
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
+    /**
+     * Resolve o usuário autenticado no máximo uma vez por requisição.
+     * Quando o principal já é o {@link User} (caminho JWT), é reutilizado sem consulta ao banco;
+     * caso contrário o resultado da consulta fica memorizado nos atributos da requisição.
+     * O contador {@value #CURRENT_USER_METRIC} (tags source/endpoint) mostra quantas consultas são evitadas.
+     */
     public User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
 
+        if (authentication.getPrincipal() instanceof User principal && principal.getId() != null) {
+            recordResolution("principal");
+            return principal;
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User cached) {
+            recordResolution("request");
+            return cached;
+        }
+
+        recordResolution("lookup");
         String username = authentication.getName();
-        return userRepository.findByUsername(username)
+        User user = userRepository.findByUsername(username)
                 .or(() -> userRepository.findByEmail(username))
                 .orElse(null);
+
+        if (requestAttributes != null && user != null) {
+            requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private void recordResolution(String source) {
+        String endpoint = "none";
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            Object pattern = requestAttributes.getAttribute(
+                    HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (pattern != null) {
+                endpoint = pattern.toString();
+            }
+        }
+        meterRegistry.counter(CURRENT_USER_METRIC, "source", source, "endpoint", endpoint).increment();
     }
 
     private boolean hasAuthority(String authority) {
@@ -50,4 +95,4 @@ public class SecurityUtils {
     public boolean cannotViewMonetaryValues() {
         return !canViewMonetaryValues();
     }
-}
\ No newline at end of file
+}
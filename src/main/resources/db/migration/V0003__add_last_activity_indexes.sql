@@ -0,0 +1,9 @@
+-- Indices de "ultima atividade" (COALESCE(updated_at, created_at)) usados pelo feed do dashboard
+-- Executado manualmente em prod (projeto nao usa Flyway/Liquibase)
+-- Idempotente: pode ser re-executado sem efeito colateral
+
+CREATE INDEX IF NOT EXISTS idx_task_last_activity
+    ON task ((COALESCE(updated_at, created_at)) DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_delivery_last_activity
+    ON delivery ((COALESCE(updated_at, created_at)) DESC, id DESC);
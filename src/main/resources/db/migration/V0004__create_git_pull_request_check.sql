@@ -0,0 +1,18 @@
+-- Cache persistido de ETag por PR para consultas condicionais ao GitHub (304 nao consome cota)
+-- Executado manualmente em prod (projeto nao usa Flyway/Liquibase)
+-- Idempotente: pode ser re-executado sem efeito colateral
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS git_pull_request_check (
+    id               BIGSERIAL PRIMARY KEY,
+    pull_request_url VARCHAR(500) NOT NULL,
+    etag             VARCHAR(200),
+    merged           BOOLEAN      NOT NULL DEFAULT FALSE,
+    checked_at       TIMESTAMP    NOT NULL,
+    created_at       TIMESTAMP    NOT NULL,
+    updated_at       TIMESTAMP,
+    CONSTRAINT uk_git_pull_request_check_url UNIQUE (pull_request_url)
+);
+
+COMMIT;
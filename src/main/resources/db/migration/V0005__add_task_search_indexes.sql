@@ -0,0 +1,41 @@
+-- Busca das listagens de tarefas/entregas por substring usando indices trigram (pg_trgm)
+-- e coluna de descricao normalizada (sem HTML, minusculas), mantida pela entidade Task
+-- Executado manualmente em prod (projeto nao usa Flyway/Liquibase)
+-- Idempotente: pode ser re-executado sem efeito colateral
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS description_search TEXT;
+
+-- Mesmas substituicoes de SearchTextUtils.normalize, na mesma ordem (&amp; por ultimo). Re-execucao
+-- corrige linhas gravadas com uma normalizacao anterior e nao toca nas que ja estao iguais.
+UPDATE task t
+SET description_search = n.value
+FROM (
+    SELECT id,
+           NULLIF(lower(btrim(regexp_replace(
+               replace(replace(replace(replace(replace(replace(
+                   regexp_replace(description, '<[^>]*>', ' ', 'g'),
+                   '&nbsp;', ' '),
+                   '&lt;', '<'),
+                   '&gt;', '>'),
+                   '&quot;', '"'),
+                   '&#39;', ''''),
+                   '&amp;', '&'),
+               '\s+', ' ', 'g'))), '') AS value
+    FROM task
+    WHERE description IS NOT NULL
+) n
+WHERE t.id = n.id
+  AND t.description_search IS DISTINCT FROM n.value;
+
+-- LOWER(col) LIKE '%termo%' das queries JPQL (TaskRepository, DeliveryRepository)
+CREATE INDEX IF NOT EXISTS idx_task_title_trgm ON task USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_task_code_trgm ON task USING gin (lower(code) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_task_link_trgm ON task USING gin (lower(link) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_task_description_search_trgm ON task USING gin (description_search gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_requester_name_trgm ON requester USING gin (lower(name) gin_trgm_ops);
+
+-- Filtros de data convertidos em intervalo (DateFilterRange)
+CREATE INDEX IF NOT EXISTS idx_task_created_at ON task (created_at);
+CREATE INDEX IF NOT EXISTS idx_task_updated_at ON task (updated_at);
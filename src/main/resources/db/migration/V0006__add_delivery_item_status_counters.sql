@@ -0,0 +1,46 @@
+-- Contadores de itens por status na entrega: o status agregado passa a ser derivado deles
+-- sem carregar as colecoes de itens a cada alteracao
+-- Executado manualmente em prod (projeto nao usa Flyway/Liquibase)
+-- Idempotente: pode ser re-executado sem efeito colateral
+
+BEGIN;
+
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS pending_items      INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS development_items  INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS delivered_items    INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS homologation_items INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS approved_items     INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS rejected_items     INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS production_items   INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE delivery ADD COLUMN IF NOT EXISTS cancelled_items    INTEGER NOT NULL DEFAULT 0;
+
+-- Itens operacionais usam PENDING/DELIVERED/CANCELLED, mesmos nomes do status da entrega
+UPDATE delivery d
+SET pending_items      = c.pending,
+    development_items  = c.development,
+    delivered_items    = c.delivered,
+    homologation_items = c.homologation,
+    approved_items     = c.approved,
+    rejected_items     = c.rejected,
+    production_items   = c.production,
+    cancelled_items    = c.cancelled
+FROM (
+    SELECT delivery_id,
+           SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END)      AS pending,
+           SUM(CASE WHEN status = 'DEVELOPMENT' THEN 1 ELSE 0 END)  AS development,
+           SUM(CASE WHEN status = 'DELIVERED' THEN 1 ELSE 0 END)    AS delivered,
+           SUM(CASE WHEN status = 'HOMOLOGATION' THEN 1 ELSE 0 END) AS homologation,
+           SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END)     AS approved,
+           SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END)     AS rejected,
+           SUM(CASE WHEN status = 'PRODUCTION' THEN 1 ELSE 0 END)   AS production,
+           SUM(CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END)    AS cancelled
+    FROM (
+        SELECT delivery_id, status FROM delivery_item
+        UNION ALL
+        SELECT delivery_id, status FROM delivery_operational_item
+    ) items
+    GROUP BY delivery_id
+) c
+WHERE c.delivery_id = d.id;
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- Outbox persistente de e-mails: a mensagem MIME completa fica no banco ate o worker enviar
+-- (lotes por conexao SMTP, retry com backoff), sobrevivendo a restart e a picos de envio
+-- Executado manualmente em prod (projeto nao usa Flyway/Liquibase)
+-- Idempotente: pode ser re-executado sem efeito colateral
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    recipients      VARCHAR(2000) NOT NULL,
+    subject         VARCHAR(500),
+    mime_content    BYTEA,
+    status          VARCHAR(20)   NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER       NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    claimed_at      TIMESTAMP,
+    sent_at         TIMESTAMP,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP     NOT NULL,
+    updated_at      TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt
+    ON email_outbox (status, next_attempt_at);
+
+COMMIT;
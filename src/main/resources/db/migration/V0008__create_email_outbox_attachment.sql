@@ -0,0 +1,20 @@
+-- Anexos do outbox de e-mails por chave no storage: o MIME gravado fica so com corpo e imagens inline,
+-- o worker anexa os arquivos em stream no envio (heap e banco nao crescem com o tamanho dos anexos)
+-- Executado manualmente em prod (projeto nao usa Flyway/Liquibase)
+-- Idempotente: pode ser re-executado sem efeito colateral
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS email_outbox_attachment (
+    id          BIGSERIAL PRIMARY KEY,
+    outbox_id   BIGINT       NOT NULL REFERENCES email_outbox (id) ON DELETE CASCADE,
+    file_name   VARCHAR(255) NOT NULL,
+    storage_key VARCHAR(500) NOT NULL,
+    created_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_attachment_outbox
+    ON email_outbox_attachment (outbox_id);
+
+COMMIT;